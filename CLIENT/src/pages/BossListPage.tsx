@@ -1,8 +1,10 @@
 import React, { useState, useEffect, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { getTodayBosses, createRaidRoom } from '../services/BossService';
-import { User, Boss, Room } from '../types';
+import { User, Boss, Room, LobbyDeltaMessage } from '../types';
 import { websocketService } from '../services/websocket';
+import { checkDeltaVersion } from '../utils/roomDelta';
+import { applyLobbyDelta } from '../utils/lobbyDelta';
 
 interface BossListPageProps {
   user: User;
@@ -22,6 +24,8 @@ const BossListPage: React.FC<BossListPageProps> = ({ user, onLogout }) => {
   });
   const navigate = useNavigate();
   const wsSubscriptionRef = useRef<(() => void) | null>(null);
+  // 현재 보스 목록의 로비 버전 (델타 순서 확인용)
+  const bossVersionRef = useRef<number | null>(null);
 
   useEffect(() => {
     loadBosses();
@@ -41,6 +45,7 @@ const BossListPage: React.FC<BossListPageProps> = ({ user, onLogout }) => {
       setLoading(true);
       const data = await getTodayBosses(forceRefresh);
       setBosses(data.bosses || []);
+      bossVersionRef.current = data.version ?? null;
     } catch (err: any) {
       setError('보스 목록을 불러올 수 없습니다.');
     } finally {
@@ -48,6 +53,35 @@ const BossListPage: React.FC<BossListPageProps> = ({ user, onLogout }) => {
     }
   };
 
+  /**
+   * 델타 누락 시 보스 목록 다시 조회 (로딩 표시 없이)
+   */
+  const resyncBosses = async () => {
+    try {
+      const data = await getTodayBosses(true);
+      setBosses(data.bosses || []);
+      bossVersionRef.current = data.version ?? null;
+    } catch (err: any) {
+      // 다음 델타에서 다시 시도
+    }
+  };
+
+  /**
+   * 로비 델타 처리 (버전이 이어질 때만 적용, 누락 시 다시 조회)
+   */
+  const handleLobbyDelta = (message: LobbyDeltaMessage) => {
+    const result = checkDeltaVersion(bossVersionRef.current, message.fromVersion, message.toVersion);
+    if (result === 'gap') {
+      resyncBosses();
+      return;
+    }
+    if (result === 'skip') {
+      return;
+    }
+    bossVersionRef.current = message.toVersion;
+    setBosses((prev) => applyLobbyDelta(prev, message.ops));
+  };
+
   const connectWebSocket = () => {
     // WebSocket 서비스 연결
     if (!websocketService.isConnected()) {
@@ -61,9 +95,15 @@ const BossListPage: React.FC<BossListPageProps> = ({ user, onLogout }) => {
 
     // 보스 목록 업데이트 구독
     const unsubscribe = websocketService.subscribe('/topic/bosses/today', (data: any) => {
-      // 서버에서 받은 데이터로 상태 업데이트
+      // 바뀐 방만 담긴 델타 적용
+      if (data && data.type === 'lobby_delta') {
+        handleLobbyDelta(data as LobbyDeltaMessage);
+        return;
+      }
+      // 전체 목록
       if (data && data.bosses) {
         setBosses(data.bosses);
+        bossVersionRef.current = data.version ?? null;
       }
     });
 
@@ -22,6 +22,8 @@ const CompletedRoomsPage: React.FC<CompletedRoomsPageProps> = ({ user, onLogout
   const [rooms, setRooms] = useState<CompletedRoom[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const navigate = useNavigate();
 
   useEffect(() => {
@@ -54,6 +56,7 @@ const CompletedRoomsPage: React.FC<CompletedRoomsPageProps> = ({ user, onLogout
       setLoading(true);
       const data = await getCompletedRooms();
       setRooms(data.rooms || []);
+      setNextCursor(data.nextCursor ?? null);
     } catch (err: any) {
       setError('완료된 레이드 목록을 불러올 수 없습니다.');
       console.error(err);
@@ -62,6 +65,22 @@ const CompletedRoomsPage: React.FC<CompletedRoomsPageProps> = ({ user, onLogout
     }
   };
 
+  // 다음 페이지 (마지막으로 받은 방 이후부터)
+  const loadMoreRooms = async () => {
+    if (!nextCursor || loadingMore) return;
+    try {
+      setLoadingMore(true);
+      const data = await getCompletedRooms(nextCursor);
+      setRooms((prev) => [...prev, ...(data.rooms || [])]);
+      setNextCursor(data.nextCursor ?? null);
+    } catch (err: any) {
+      setError('완료된 레이드 목록을 불러올 수 없습니다.');
+      console.error(err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleViewRoom = (roomId: number) => {
     navigate(`/raid-room/${roomId}`, { state: { fromCompleted: true } });
   };
@@ -114,6 +133,15 @@ const CompletedRoomsPage: React.FC<CompletedRoomsPageProps> = ({ user, onLogout
                   </button>
                 </div>
               ))}
+              {nextCursor && (
+                <button
+                  className="btn-load-more"
+                  onClick={loadMoreRooms}
+                  disabled={loadingMore}
+                >
+                  {loadingMore ? '불러오는 중...' : '더 보기'}
+                </button>
+              )}
             </div>
           )}
         </div>
@@ -1,8 +1,9 @@
 import React, { useState, useEffect, useRef, useMemo, useCallback } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { getRaidRoom, createChannel, deleteChannel, createChannelsBatch, updateDragonDefeatedTime, getTodayBosses, createRaidRoom } from '../services/BossService';
-import { User, RaidRoomData, Channel } from '../types';
+import { User, RaidRoomData, Channel, RoomDeltaMessage, RoomResumedMessage } from '../types';
 import { websocketService } from '../services/websocket';
+import { applyRoomDelta, checkDeltaVersion } from '../utils/roomDelta';
 import { createWorker } from 'tesseract.js';
 
 interface DragonWaterFireRoomPageProps {
@@ -28,6 +29,11 @@ const DragonWaterFireRoomPage: React.FC<DragonWaterFireRoomPageProps> = ({ user
   });
   const [showSettings, setShowSettings] = useState(false);
   const wsSubscriptionRef = useRef<(() => void) | null>(null);
+  const wsSyncSubscriptionRef = useRef<(() => void) | null>(null);
+  const wsReconnectRef = useRef<(() => void) | null>(null);
+  const roomVersionRef = useRef<number | null>(null);
+  // 재연결 후 놓친 델타 재생을 기다리는 중 (그동안 버전 누락은 재생으로 채워짐)
+  const resumePendingRef = useRef<boolean>(false);
   const isAddingChannelRef = useRef<boolean>(false);
   const roomIdRef = useRef<number | null>(null);
 
@@ -39,6 +45,14 @@ const DragonWaterFireRoomPage: React.FC<DragonWaterFireRoomPageProps> = ({ user
         wsSubscriptionRef.current();
         wsSubscriptionRef.current = null;
       }
+      if (wsSyncSubscriptionRef.current) {
+        wsSyncSubscriptionRef.current();
+        wsSyncSubscriptionRef.current = null;
+      }
+      if (wsReconnectRef.current) {
+        wsReconnectRef.current();
+        wsReconnectRef.current = null;
+      }
     };
   }, []);
 
@@ -137,6 +151,7 @@ const DragonWaterFireRoomPage: React.FC<DragonWaterFireRoomPageProps> = ({ user
         roomIdRef.current = roomId;
         const data = await getRaidRoom(roomId, true);
         if (data && data.boss && data.boss.type === 'DRAGON_WATER_FIRE') {
+          roomVersionRef.current = data.version ?? null;
           setRoomData(data);
           connectWebSocket(roomId);
         } else {
@@ -189,7 +204,22 @@ const DragonWaterFireRoomPage: React.FC<DragonWaterFireRoomPageProps> = ({ user
       wsSubscriptionRef.current();
     }
 
-    const unsubscribe = websocketService.subscribe(`/topic/raid-room/${roomId}`, (data: RaidRoomData | any) => {
+    const requestSync = () => {
+      if (websocketService.isConnected()) {
+        websocketService.send(`/app/raid-room/${roomId}/sync`, {});
+      }
+    };
+
+    const applySnapshot = (data: RaidRoomData | any) => {
+      resumePendingRef.current = false;
+      // 이미 반영한 버전보다 오래된 스냅샷은 무시
+      if (data && data.version != null) {
+        if (roomVersionRef.current !== null && data.version < roomVersionRef.current) {
+          return;
+        }
+        roomVersionRef.current = data.version;
+      }
+      
       if (data && data.channels) {
         data.channels = data.channels
           .map((ch: any) => ({
@@ -211,9 +241,64 @@ const DragonWaterFireRoomPage: React.FC<DragonWaterFireRoomPageProps> = ({ user
           connectedUsers: prevData?.connectedUsers || []
         }));
       }
+    };
+
+    const applyDelta = (message: RoomDeltaMessage) => {
+      const result = checkDeltaVersion(roomVersionRef.current, message.fromVersion, message.toVersion);
+      if (result === 'gap') {
+        // 버전 누락 시 전체 스냅샷 재요청 (이어받기 중이면 재생될 델타로 채워지므로 기다림)
+        if (!resumePendingRef.current) {
+          requestSync();
+        }
+      } else if (result === 'apply') {
+        roomVersionRef.current = message.toVersion;
+        setRoomData((prevData) => (prevData ? applyRoomDelta(prevData, message.ops) : prevData));
+      }
+    };
+
+    const unsubscribe = websocketService.subscribe(`/topic/raid-room/${roomId}`, (data: RaidRoomData | any) => {
+      if (data && data.type === 'delta') {
+        applyDelta(data as RoomDeltaMessage);
+        return;
+      }
+      applySnapshot(data);
     });
 
     wsSubscriptionRef.current = unsubscribe;
+
+    // 재동기화 스냅샷 / 이어받기 델타 구독 (이 세션에만 전송됨)
+    if (wsSyncSubscriptionRef.current) {
+      wsSyncSubscriptionRef.current();
+    }
+    wsSyncSubscriptionRef.current = websocketService.subscribe('/user/queue/raid-room', (data: any) => {
+      if (!data) return;
+      if (data.type === 'delta' && data.roomId === roomId) {
+        applyDelta(data as RoomDeltaMessage);
+      } else if (data.type === 'resumed' && data.roomId === roomId) {
+        // 재생된 델타를 모두 반영하지 못했으면 스냅샷 요청
+        resumePendingRef.current = false;
+        const message = data as RoomResumedMessage;
+        if (roomVersionRef.current === null || roomVersionRef.current < message.version) {
+          requestSync();
+        }
+      } else if (data.id === roomId) {
+        applySnapshot(data);
+      }
+    });
+
+    // 재연결되면 마지막 버전 이후 놓친 변경만 이어받기 (REST 재조회 없이)
+    if (wsReconnectRef.current) {
+      wsReconnectRef.current();
+    }
+    wsReconnectRef.current = websocketService.onReconnect(() => {
+      sendConnectMessage();
+      if (roomVersionRef.current === null) {
+        requestSync();
+        return;
+      }
+      resumePendingRef.current = true;
+      websocketService.send(`/app/raid-room/${roomId}/resume`, { sinceVersion: roomVersionRef.current });
+    });
   };
 
   // 수룡 재젠 시간 계산
@@ -1,10 +1,14 @@
 import React, { useState, useEffect, useRef } from 'react';
 import { useParams, useNavigate, useLocation } from 'react-router-dom';
 import { getRaidRoom, createChannel, deleteChannel, markDefeated, completeRaidRoom, deleteRaidRoom, updateChannelMemo, toggleChannelSelection, updateChannelBossColor, toggleParticipation, createChannelsBatch } from '../services/BossService';
-import { User, RaidRoomData, Channel, Participant } from '../types';
+import { User, RaidRoomData, Channel, Participant, RoomDeltaMessage, RoomResumedMessage } from '../types';
 import { websocketService } from '../services/websocket';
+import { applyRoomDelta, checkDeltaVersion } from '../utils/roomDelta';
 import { createWorker } from 'tesseract.js';
 
+// 입장 스냅샷 대기 시간 (넘으면 REST로 조회)
+const SNAPSHOT_TIMEOUT_MS = 3000;
+
 interface RaidRoomPageProps {
   user: User;
 }
@@ -22,13 +26,21 @@ const RaidRoomPage: React.FC<RaidRoomPageProps> = ({ user }) => {
   const [isParticipating, setIsParticipating] = useState<boolean>(false);
   const wsSubscriptionRef = useRef<(() => void) | null>(null);
   const wsUsersSubscriptionRef = useRef<(() => void) | null>(null);
+  const wsSyncSubscriptionRef = useRef<(() => void) | null>(null);
+  const wsReconnectRef = useRef<(() => void) | null>(null);
+  const roomVersionRef = useRef<number | null>(null);
+  // 재연결 후 놓친 델타 재생을 기다리는 중 (그동안 버전 누락은 재생으로 채워짐)
+  const resumePendingRef = useRef<boolean>(false);
+  // 첫 스냅샷 전에 도착한 델타 (스냅샷 버전 이후 것만 이어서 적용)
+  const pendingDeltasRef = useRef<RoomDeltaMessage[]>([]);
   const websocketTimeoutRef = useRef<NodeJS.Timeout | null>(null);
   const isAddingChannelRef = useRef<boolean>(false);
 
   useEffect(() => {
     if (roomId) {
-      loadRoomInfo();
+      // 방 토픽을 먼저 구독한 뒤 입장 스냅샷 요청 (그 사이 델타는 스냅샷 버전 기준으로 이어짐)
       connectWebSocket();
+      loadInitialRoom();
     }
 
     return () => {
@@ -49,6 +61,17 @@ const RaidRoomPage: React.FC<RaidRoomPageProps> = ({ user }) => {
         wsUsersSubscriptionRef.current();
         wsUsersSubscriptionRef.current = null;
       }
+      if (wsSyncSubscriptionRef.current) {
+        wsSyncSubscriptionRef.current();
+        wsSyncSubscriptionRef.current = null;
+      }
+      if (wsReconnectRef.current) {
+        wsReconnectRef.current();
+        wsReconnectRef.current = null;
+      }
+      roomVersionRef.current = null;
+      resumePendingRef.current = false;
+      pendingDeltasRef.current = [];
     };
   }, [roomId]);
 
@@ -79,6 +102,31 @@ const RaidRoomPage: React.FC<RaidRoomPageProps> = ({ user }) => {
     };
   }, [navigate, location]);
 
+  /**
+   * 첫 방 정보 로드: 열린 WebSocket으로 입장 스냅샷을 받고, 받지 못하면 REST 조회
+   */
+  const loadInitialRoom = async () => {
+    if (!roomId) return;
+
+    setLoading(true);
+    try {
+      const data = await websocketService.subscribeOnce(`/app/raid-room/${roomId}/snapshot`, SNAPSHOT_TIMEOUT_MS);
+      if (!data || data.error) {
+        if (data?.error) {
+          setError(data.error);
+          return;
+        }
+        throw new Error('입장 스냅샷 없음');
+      }
+      applyLoadedRoom(data, false, false);
+    } catch (err) {
+      console.warn('입장 스냅샷 수신 실패, REST로 조회:', err);
+      await loadRoomInfo();
+    } finally {
+      setLoading(false);
+    }
+  };
+
   const loadRoomInfo = async (forceRefresh: boolean = false, silent: boolean = false) => {
     if (!roomId) return;
 
@@ -87,41 +135,7 @@ const RaidRoomPage: React.FC<RaidRoomPageProps> = ({ user }) => {
         setLoading(true);
       }
       const data = await getRaidRoom(parseInt(roomId), forceRefresh);
-      
-      // 채널 메모 데이터 정규화 (빈 문자열을 null로 변환하지 않음)
-      if (data && data.channels) {
-        data.channels = data.channels.map((ch: any) => ({
-          ...ch,
-          memo: ch.memo || ''
-        }));
-        
-        // 현재 사용자가 선택한 채널 찾기
-        if (user && user.id && data.channels) {
-          const userChannel = data.channels.find((ch: any) => 
-            ch.users && ch.users.some((u: any) => u.userId === user.id && u.isMoving === true)
-          );
-          if (userChannel) {
-            setSelectedChannelId(userChannel.id);
-          } else if (forceRefresh && !silent) {
-            // 강제 새로고침 시에만 선택 해제 (서버에서 제거된 경우)
-            setSelectedChannelId(null);
-          }
-        }
-      }
-      
-      // connectedUsers가 없으면 빈 배열로 초기화
-      if (data && !data.connectedUsers) {
-        data.connectedUsers = [];
-      }
-      
-      // 현재 사용자의 참석 상태 확인
-      if (data && data.participants && user && user.id) {
-        const userId = typeof user.id === 'string' ? parseInt(user.id, 10) : user.id;
-        const isParticipating = data.participants.some((p: Participant) => p.userId === userId);
-        setIsParticipating(isParticipating);
-      }
-      
-      setRoomData(data);
+      applyLoadedRoom(data, forceRefresh, silent);
     } catch (err: any) {
       if (!silent) {
         setError('방 정보를 불러올 수 없습니다.');
@@ -134,6 +148,64 @@ const RaidRoomPage: React.FC<RaidRoomPageProps> = ({ user }) => {
     }
   };
 
+  /**
+   * 조회한 방 정보 반영 (입장 스냅샷 또는 REST 응답)
+   */
+  const applyLoadedRoom = (data: RaidRoomData | any, forceRefresh: boolean, silent: boolean) => {
+    // 이미 더 최신 버전을 반영했으면 (WebSocket 델타가 먼저 도착) 무시
+    if (data && data.version != null && roomVersionRef.current !== null && data.version < roomVersionRef.current) {
+      return;
+    }
+    if (data && data.version != null) {
+      roomVersionRef.current = data.version;
+    }
+    
+    // 채널 메모 데이터 정규화 (빈 문자열을 null로 변환하지 않음)
+    if (data && data.channels) {
+      data.channels = data.channels.map((ch: any) => ({
+        ...ch,
+        memo: ch.memo || ''
+      }));
+      
+      // 현재 사용자가 선택한 채널 찾기
+      if (user && user.id && data.channels) {
+        const userChannel = data.channels.find((ch: any) => 
+          ch.users && ch.users.some((u: any) => u.userId === user.id && u.isMoving === true)
+        );
+        if (userChannel) {
+          setSelectedChannelId(userChannel.id);
+        } else if (forceRefresh && !silent) {
+          // 강제 새로고침 시에만 선택 해제 (서버에서 제거된 경우)
+          setSelectedChannelId(null);
+        }
+      }
+    }
+    
+    // connectedUsers가 없으면 빈 배열로 초기화
+    if (data && !data.connectedUsers) {
+      data.connectedUsers = [];
+    }
+    
+    // 현재 사용자의 참석 상태 확인
+    if (data && data.participants && user && user.id) {
+      const userId = typeof user.id === 'string' ? parseInt(user.id, 10) : user.id;
+      const isParticipating = data.participants.some((p: Participant) => p.userId === userId);
+      setIsParticipating(isParticipating);
+    }
+    
+    setRoomData(data);
+    flushPendingDeltas();
+  };
+
+  /**
+   * 첫 스냅샷 전에 받아둔 델타 적용 (스냅샷에 이미 포함된 것은 버전 비교로 건너뜀)
+   */
+  const flushPendingDeltas = () => {
+    const pending = pendingDeltasRef.current;
+    pendingDeltasRef.current = [];
+    pending.forEach((message) => handleRoomDelta(message));
+  };
+
   const connectWebSocket = () => {
     if (!roomId || !user || !user.id) return;
 
@@ -173,80 +245,13 @@ const RaidRoomPage: React.FC<RaidRoomPageProps> = ({ user }) => {
       wsSubscriptionRef.current();
     }
 
-    // 레이드 방 업데이트 구독
+    // 레이드 방 업데이트 구독 (델타 + 스냅샷)
     const unsubscribe = websocketService.subscribe(`/topic/raid-room/${roomId}`, (data: RaidRoomData | any) => {
-      // 증분 업데이트인 경우 (빠른 반응을 위한 알림)
-      if (data.type === 'incremental_update') {
-        // 증분 업데이트에 채널 데이터가 있으면 즉시 업데이트 (빠른 반응)
-        if (data.channels && Array.isArray(data.channels)) {
-          setRoomData((prevData) => {
-            if (!prevData) return prevData;
-            return {
-              ...prevData,
-              channels: data.channels,
-              participants: data.participants || prevData.participants,
-              connectedUsers: data.connectedUsers || prevData.connectedUsers
-            };
-          });
-          console.debug("증분 업데이트로 UI 즉시 업데이트:", roomId);
-        }
-        // 전체 데이터는 백그라운드에서 올 예정이므로 여기서는 반환
+      if (data && data.type === 'delta') {
+        handleRoomDelta(data as RoomDeltaMessage);
         return;
       }
-      
-      // 웹소켓 메시지 수신 시 타임아웃 취소 및 채널 추가 플래그 해제
-      if (websocketTimeoutRef.current) {
-        clearTimeout(websocketTimeoutRef.current);
-        websocketTimeoutRef.current = null;
-      }
-      if (isAddingChannelRef.current) {
-        isAddingChannelRef.current = false;
-      }
-      
-      // 서버에서 받은 데이터로 상태 업데이트
-      if (data && data.channels) {
-        // 채널을 channelNumber로 정렬하여 순서 유지
-        data.channels = data.channels
-          .map((ch: any) => ({
-            ...ch,
-            memo: ch.memo || ''
-          }))
-          .sort((a: any, b: any) => {
-            const numA = a.channelNumber || 0;
-            const numB = b.channelNumber || 0;
-            return numA - numB;
-          });
-        
-        // 현재 사용자가 선택한 채널 찾기
-        if (user && user.id && data.channels) {
-          const userChannel = data.channels.find((ch: any) => 
-            ch.users && ch.users.some((u: any) => u.userId === user.id && u.isMoving === true)
-          );
-          if (userChannel) {
-            setSelectedChannelId(userChannel.id);
-          } else {
-            // 사용자가 이동중이 아닌 채널에 있으면 선택 해제하지 않음 (로컬 선택 유지)
-          }
-        }
-      }
-      // connectedUsers도 함께 업데이트
-      
-      // 현재 사용자의 참석 상태 확인
-      if (data && data.participants && user && user.id) {
-        const userId = typeof user.id === 'string' ? parseInt(user.id, 10) : user.id;
-        const isParticipating = data.participants.some((p: Participant) => p.userId === userId);
-        setIsParticipating(isParticipating);
-      }
-      
-      if (data.connectedUsers) {
-        setRoomData(data);
-      } else {
-        // connectedUsers가 없으면 기존 데이터 유지하되, 빈 배열로 초기화
-        setRoomData((prevData) => ({
-          ...data,
-          connectedUsers: prevData?.connectedUsers || []
-        }));
-      }
+      handleRoomSnapshot(data);
     });
 
     wsSubscriptionRef.current = unsubscribe;
@@ -267,6 +272,176 @@ const RaidRoomPage: React.FC<RaidRoomPageProps> = ({ user }) => {
       }
     });
     wsUsersSubscriptionRef.current = unsubscribeUsers;
+    
+    // 재동기화 스냅샷 / 이어받기 델타 구독 (이 세션에만 전송됨)
+    if (wsSyncSubscriptionRef.current) {
+      wsSyncSubscriptionRef.current();
+    }
+    const unsubscribeSync = websocketService.subscribe('/user/queue/raid-room', (data: any) => {
+      if (!data || !roomId) return;
+      if (data.type === 'delta' && data.roomId === parseInt(roomId)) {
+        handleRoomDelta(data as RoomDeltaMessage);
+      } else if (data.type === 'resumed' && data.roomId === parseInt(roomId)) {
+        handleRoomResumed(data as RoomResumedMessage);
+      } else if (data.id === parseInt(roomId)) {
+        handleRoomSnapshot(data);
+      }
+    });
+    wsSyncSubscriptionRef.current = unsubscribeSync;
+
+    // 재연결되면 마지막 버전 이후 놓친 변경만 이어받기
+    if (wsReconnectRef.current) {
+      wsReconnectRef.current();
+    }
+    wsReconnectRef.current = websocketService.onReconnect(() => {
+      sendConnectMessage();
+      resumeRoom();
+    });
+  };
+
+  /**
+   * 재연결 후 마지막으로 반영한 버전 이후의 델타 재생 요청
+   * (서버가 이을 수 없으면 전체 스냅샷을 보내므로 REST 재조회 불필요)
+   */
+  const resumeRoom = () => {
+    if (!roomId || !websocketService.isConnected()) return;
+    if (roomVersionRef.current === null) {
+      requestRoomSync();
+      return;
+    }
+    resumePendingRef.current = true;
+    websocketService.send(`/app/raid-room/${roomId}/resume`, { sinceVersion: roomVersionRef.current });
+  };
+
+  /**
+   * 이어받기 완료 (재생된 델타를 모두 반영했는지 확인)
+   */
+  const handleRoomResumed = (message: RoomResumedMessage) => {
+    resumePendingRef.current = false;
+    if (roomVersionRef.current === null || roomVersionRef.current < message.version) {
+      requestRoomSync();
+    }
+  };
+
+  /**
+   * 버전 누락 시 서버에 전체 스냅샷 요청
+   */
+  const requestRoomSync = () => {
+    if (roomId && websocketService.isConnected()) {
+      websocketService.send(`/app/raid-room/${roomId}/sync`, {});
+    }
+  };
+
+  /**
+   * 델타 메시지 처리 (버전이 이어질 때만 적용, 누락 시 재동기화)
+   */
+  const handleRoomDelta = (message: RoomDeltaMessage) => {
+    if (roomVersionRef.current === null) {
+      // 아직 스냅샷 전이면 보관했다가 스냅샷 반영 후 적용
+      pendingDeltasRef.current.push(message);
+      return;
+    }
+    const result = checkDeltaVersion(roomVersionRef.current, message.fromVersion, message.toVersion);
+    if (result === 'gap') {
+      // 이어받기 중이면 재생될 델타로 채워지므로 기다림
+      if (!resumePendingRef.current) {
+        requestRoomSync();
+      }
+      return;
+    }
+    if (result === 'skip') {
+      return;
+    }
+    
+    roomVersionRef.current = message.toVersion;
+    setRoomData((prevData) => (prevData ? applyRoomDelta(prevData, message.ops) : prevData));
+    
+    // 현재 사용자의 이동중 채널 및 참석 상태 반영
+    if (user && user.id) {
+      const userId = typeof user.id === 'string' ? parseInt(user.id, 10) : user.id;
+      message.ops.forEach((op) => {
+        if (op.op === 'user_moved' && op.userId === userId) {
+          setSelectedChannelId(op.channelId ?? null);
+        } else if (op.op === 'participant_toggled' && op.userId === userId) {
+          setIsParticipating(!!op.participating);
+        }
+      });
+    }
+    
+    // 채널 추가 대기 중이었으면 해제
+    if (websocketTimeoutRef.current) {
+      clearTimeout(websocketTimeoutRef.current);
+      websocketTimeoutRef.current = null;
+    }
+    if (isAddingChannelRef.current) {
+      isAddingChannelRef.current = false;
+    }
+  };
+
+  /**
+   * 전체 스냅샷 처리 (서버 전체 브로드캐스트 또는 재동기화 응답)
+   */
+  const handleRoomSnapshot = (data: RaidRoomData | any) => {
+    resumePendingRef.current = false;
+    // 이미 반영한 버전보다 오래된 스냅샷은 무시
+    if (data && data.version != null) {
+      if (roomVersionRef.current !== null && data.version < roomVersionRef.current) {
+        return;
+      }
+      roomVersionRef.current = data.version;
+    }
+    
+    // 웹소켓 메시지 수신 시 타임아웃 취소 및 채널 추가 플래그 해제
+    if (websocketTimeoutRef.current) {
+      clearTimeout(websocketTimeoutRef.current);
+      websocketTimeoutRef.current = null;
+    }
+    if (isAddingChannelRef.current) {
+      isAddingChannelRef.current = false;
+    }
+    
+    // 서버에서 받은 데이터로 상태 업데이트
+    if (data && data.channels) {
+      // 채널을 channelNumber로 정렬하여 순서 유지
+      data.channels = data.channels
+        .map((ch: any) => ({
+          ...ch,
+          memo: ch.memo || ''
+        }))
+        .sort((a: any, b: any) => {
+          const numA = a.channelNumber || 0;
+          const numB = b.channelNumber || 0;
+          return numA - numB;
+        });
+      
+      // 현재 사용자가 선택한 채널 찾기
+      if (user && user.id && data.channels) {
+        const userChannel = data.channels.find((ch: any) => 
+          ch.users && ch.users.some((u: any) => u.userId === user.id && u.isMoving === true)
+        );
+        if (userChannel) {
+          setSelectedChannelId(userChannel.id);
+        }
+      }
+    }
+    
+    // 현재 사용자의 참석 상태 확인
+    if (data && data.participants && user && user.id) {
+      const userId = typeof user.id === 'string' ? parseInt(user.id, 10) : user.id;
+      const isParticipating = data.participants.some((p: Participant) => p.userId === userId);
+      setIsParticipating(isParticipating);
+    }
+    
+    if (data.connectedUsers) {
+      setRoomData(data);
+    } else {
+      // connectedUsers가 없으면 기존 데이터 유지하되, 빈 배열로 초기화
+      setRoomData((prevData) => ({
+        ...data,
+        connectedUsers: prevData?.connectedUsers || []
+      }));
+    }
+    flushPendingDeltas();
   };
 
   const processImageFromClipboard = async (file: File) => {
@@ -113,7 +113,8 @@ export const completeRaidRoom = async (roomId: number): Promise<ApiResponse> =>
   return response.data;
 };
 
-export const getCompletedRooms = async (): Promise<{ rooms: Array<{
+// 완료된 레이드 목록 (최근 완료 순, nextCursor로 다음 페이지 조회)
+export const getCompletedRooms = async (cursor?: string | null): Promise<{ rooms: Array<{
   id: number;
   bossName: string;
   bossType: string;
@@ -121,8 +122,10 @@ export const getCompletedRooms = async (): Promise<{ rooms: Array<{
   raidTime: string;
   completedAt: string;
   channelCount: number;
-}> }> => {
-  const response = await apiClient.get('/api/bosses/completed');
+}>; hasMore: boolean; nextCursor: string | null }> => {
+  const response = await apiClient.get('/api/bosses/completed', {
+    params: cursor ? { cursor } : undefined,
+  });
   return response.data;
 };
 
@@ -1,6 +1,6 @@
 // WebSocket 실시간 동기화 서비스 (STOMP + SockJS)
 
-import { Client, IMessage } from '@stomp/stompjs';
+import { Client, IMessage, StompSubscription } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
 import { getBackendUrl } from './api';
 
@@ -16,6 +16,11 @@ class WebSocketService {
   private reconnectDelay = 3000;
   private listeners: Map<string, Set<(data: any) => void>> = new Map();
   private isConnecting = false;
+  // 한 번이라도 연결된 적이 있으면 이후 onConnect는 재연결
+  private hasConnected = false;
+  private reconnectListeners: Set<() => void> = new Set();
+  // 연결되면 실행할 작업 (연결 전에 요청된 한 번 구독)
+  private connectWaiters: Set<() => void> = new Set();
 
   /**
    * WebSocket 연결
@@ -58,6 +63,22 @@ class WebSocketService {
               // 구독 객체는 나중에 해제할 수 있도록 저장 필요 없음 (리스너로 관리)
             });
           });
+
+          // 다시 구독한 뒤 재연결 리스너 호출 (끊긴 동안 놓친 이벤트 이어받기)
+          if (this.hasConnected) {
+            this.reconnectListeners.forEach(listener => {
+              try {
+                listener();
+              } catch (e) {
+                console.error('WebSocket 재연결 리스너 실행 오류:', e);
+              }
+            });
+          }
+          this.hasConnected = true;
+
+          const waiters = Array.from(this.connectWaiters);
+          this.connectWaiters.clear();
+          waiters.forEach(waiter => waiter());
         },
         onStompError: (frame) => {
           console.error('STOMP 오류:', frame);
@@ -147,6 +168,61 @@ class WebSocketService {
     };
   }
 
+  /**
+   * 한 번만 받는 구독 (@SubscribeMapping 응답용, 첫 메시지를 받으면 바로 구독 해제)
+   * 연결 전이면 연결된 뒤 구독하고, timeoutMs 안에 응답이 없으면 실패
+   */
+  subscribeOnce(destination: string, timeoutMs: number): Promise<any> {
+    return new Promise((resolve, reject) => {
+      let subscription: StompSubscription | undefined;
+      let settled = false;
+
+      const start = () => {
+        if (settled || !this.client) return;
+        subscription = this.client.subscribe(destination, (message: IMessage) => {
+          if (settled) return;
+          settled = true;
+          clearTimeout(timer);
+          subscription?.unsubscribe();
+          try {
+            resolve(JSON.parse(message.body));
+          } catch (e) {
+            reject(e);
+          }
+        });
+      };
+
+      const timer = setTimeout(() => {
+        settled = true;
+        this.connectWaiters.delete(start);
+        try {
+          subscription?.unsubscribe();
+        } catch (e) {
+          // 연결이 끊겼으면 구독도 이미 없음
+        }
+        reject(new Error(`WebSocket 응답 시간 초과: ${destination}`));
+      }, timeoutMs);
+
+      if (this.client && this.client.connected) {
+        start();
+      } else {
+        this.connectWaiters.add(start);
+        this.connect();
+      }
+    });
+  }
+
+  /**
+   * 재연결 리스너 등록 (끊겼다가 다시 연결되어 구독이 복구된 직후 호출)
+   * @returns 등록 해제 함수
+   */
+  onReconnect(callback: () => void): () => void {
+    this.reconnectListeners.add(callback);
+    return () => {
+      this.reconnectListeners.delete(callback);
+    };
+  }
+
   /**
    * 구독 해제
    */
@@ -183,6 +259,9 @@ class WebSocketService {
       this.client = null;
     }
     this.listeners.clear();
+    this.reconnectListeners.clear();
+    this.connectWaiters.clear();
+    this.hasConnected = false;
     this.isConnecting = false;
   }
 
@@ -14,6 +14,7 @@ export interface Boss {
   name: string;
   description?: string;
   type?: string;
+  sortOrder?: number;
   rooms: Room[];
 }
 
@@ -70,6 +71,32 @@ export interface RaidRoomData {
   channels: Channel[];
   participants?: Participant[];
   connectedUsers?: Participant[]; // 현재 접속한 사용자 목록
+  version?: number; // 방 상태 버전 (델타 순서 확인용)
+}
+
+// 레이드 방 델타 항목 (서버 RoomDelta와 동일한 형태)
+export interface RoomDeltaOp {
+  op: 'channel_upserted' | 'channel_removed' | 'user_moved' | 'participant_toggled' | 'presence_changed' | 'room_updated';
+  channelId?: number;
+  userId?: number;
+  participating?: boolean;
+  data?: any;
+}
+
+// /topic/raid-room/{roomId} 델타 메시지
+export interface RoomDeltaMessage {
+  type: 'delta';
+  roomId: number;
+  fromVersion: number;
+  toVersion: number;
+  ops: RoomDeltaOp[];
+}
+
+// 이어받기 완료 알림 (재연결 후 놓친 델타 재생이 끝났을 때, version까지 전송됨)
+export interface RoomResumedMessage {
+  type: 'resumed';
+  roomId: number;
+  version: number;
 }
 
 export interface ApiResponse<T = any> {
@@ -81,6 +108,23 @@ export interface ApiResponse<T = any> {
 
 export interface BossListResponse {
   bosses: Boss[];
+  version?: number;
+}
+
+// 로비 델타 op (모두 "현재 값으로 설정" 형태)
+export interface LobbyDeltaOp {
+  op: 'room_upserted' | 'room_removed';
+  roomId: number;
+  boss?: { id: number; name: string; type: string; sortOrder: number };
+  room?: Room;
+}
+
+// /topic/bosses/today 델타 메시지
+export interface LobbyDeltaMessage {
+  type: 'lobby_delta';
+  fromVersion: number;
+  toVersion: number;
+  ops: LobbyDeltaOp[];
 }
 
 export interface RaidRoomResponse extends RaidRoomData {
@@ -0,0 +1,46 @@
+// 로비(보스 목록) 델타 적용 유틸리티
+// 서버의 델타 op는 모두 "현재 값으로 설정" 형태라서 중복 적용되어도 결과가 같음
+// 버전 확인은 roomDelta.ts의 checkDeltaVersion을 그대로 사용
+
+import { Boss, LobbyDeltaOp, Room } from '../types';
+
+// 서버 보드와 같은 순서 (날짜, 시간(없으면 뒤), 방 ID)
+const compareRooms = (a: Room, b: Room): number => {
+  const date = (a.raidDate || '').localeCompare(b.raidDate || '');
+  if (date !== 0) {
+    return date;
+  }
+  if ((a.raidTime || '') !== (b.raidTime || '')) {
+    if (!a.raidTime) return 1;
+    if (!b.raidTime) return -1;
+    return a.raidTime.localeCompare(b.raidTime);
+  }
+  return a.id - b.id;
+};
+
+/**
+ * 델타 목록을 보스 목록에 적용하여 새 보스 목록 반환
+ */
+export const applyLobbyDelta = (bosses: Boss[], ops: LobbyDeltaOp[]): Boss[] => {
+  let next: Boss[] = bosses.map((boss) => ({ ...boss, rooms: [...(boss.rooms || [])] }));
+
+  for (const op of ops) {
+    // 모든 보스 그룹에서 제거 후 (보스가 바뀐 경우 대비) 대상 그룹에만 추가
+    next = next.map((boss) => ({ ...boss, rooms: boss.rooms.filter((room) => room.id !== op.roomId) }));
+    if (op.op === 'room_upserted' && op.boss && op.room) {
+      let group = next.find((boss) => boss.id === op.boss!.id);
+      if (!group) {
+        group = { ...op.boss, rooms: [] };
+        next.push(group);
+      }
+      group.rooms.push(op.room);
+    }
+    // 방이 없는 보스 그룹은 목록에서 제외 (서버 보드와 동일)
+    next = next.filter((boss) => boss.rooms.length > 0);
+  }
+
+  next.forEach((boss) => boss.rooms.sort(compareRooms));
+  // DRAGON을 항상 위에 (sortOrder 기준 정렬)
+  next.sort((a, b) => (a.sortOrder ?? 1) - (b.sortOrder ?? 1) || a.id - b.id);
+  return next;
+};
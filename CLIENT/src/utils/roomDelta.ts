@@ -0,0 +1,82 @@
+// 레이드 방 델타 적용 유틸리티
+// 서버의 델타 op는 모두 "현재 값으로 설정" 형태라서 중복 적용되어도 결과가 같음
+
+import { RaidRoomData, Channel, RoomDeltaOp } from '../types';
+
+/**
+ * 델타 메시지 처리 결과
+ * - apply: 현재 버전에 바로 이어지는 델타 (적용)
+ * - skip: 이미 반영된 델타 또는 스냅샷 로드 전 (무시)
+ * - gap: 중간 버전 누락 (재동기화 필요)
+ */
+export type DeltaCheckResult = 'apply' | 'skip' | 'gap';
+
+export const checkDeltaVersion = (
+  currentVersion: number | null,
+  fromVersion: number,
+  toVersion: number
+): DeltaCheckResult => {
+  if (currentVersion === null || toVersion <= currentVersion) {
+    return 'skip';
+  }
+  return fromVersion === currentVersion ? 'apply' : 'gap';
+};
+
+/**
+ * 델타 목록을 방 데이터에 적용하여 새 방 데이터 반환
+ */
+export const applyRoomDelta = (room: RaidRoomData, ops: RoomDeltaOp[]): RaidRoomData => {
+  let next: RaidRoomData = { ...room, channels: [...(room.channels || [])] };
+
+  for (const op of ops) {
+    switch (op.op) {
+      case 'channel_upserted': {
+        const index = next.channels.findIndex((ch) => ch.id === op.channelId);
+        const existing = index >= 0 ? next.channels[index] : undefined;
+        const channel: Channel = {
+          ...existing,
+          ...op.data,
+          memo: op.data?.memo || '',
+          // users가 없는 델타는 기존 채널 유저 유지
+          users: op.data?.users ?? existing?.users ?? []
+        };
+        if (index >= 0) {
+          next.channels[index] = channel;
+        } else {
+          next.channels.push(channel);
+        }
+        break;
+      }
+      case 'channel_removed':
+        next.channels = next.channels.filter((ch) => ch.id !== op.channelId);
+        break;
+      case 'user_moved':
+        // 모든 채널에서 제거 후 대상 채널에만 추가 (channelId가 없으면 이동중 해제)
+        next.channels = next.channels.map((ch) => {
+          const users = (ch.users || []).filter((u) => u.userId !== op.userId);
+          if (op.channelId != null && ch.id === op.channelId && op.data) {
+            users.push(op.data);
+          }
+          return { ...ch, users };
+        });
+        break;
+      case 'participant_toggled': {
+        const participants = (next.participants || []).filter((p) => p.userId !== op.userId);
+        if (op.participating && op.data) {
+          participants.push(op.data);
+        }
+        next.participants = participants;
+        break;
+      }
+      case 'presence_changed':
+        next.connectedUsers = op.data || [];
+        break;
+      case 'room_updated':
+        next = { ...next, ...op.data };
+        break;
+    }
+  }
+
+  next.channels.sort((a, b) => (a.channelNumber || 0) - (b.channelNumber || 0));
+  return next;
+};
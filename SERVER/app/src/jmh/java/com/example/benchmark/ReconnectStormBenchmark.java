@@ -0,0 +1,111 @@
+package com.example.benchmark;
+
+import com.example.config.ExecutorConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재접속 폭주 시 실행기 정책별 지연 비교 (platform 풀 vs 가상 스레드)
+ *
+ * 세션 sessions개가 동시에 재접속하고, 각 접속 처리가 DB 조회(DB_MILLIS 대기)를 한다고 가정
+ * - storm: 모든 접속 처리가 끝날 때까지 걸린 시간
+ * - probe: 폭주 중에 들어온 다른 세션의 가벼운 메시지가 실행되기까지 걸린 시간 (수신 채널이 막히는 정도)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReconnectStormBenchmark {
+
+    // ExecutorConfig 형식 정책 (realtime.executors.* 와 같음)
+    private static final Map<String, String> SPECS = Map.of(
+        "platform", "mode=platform,core=4,max=16,queue=1000",
+        "virtual", "mode=virtual,max=256,queue=1000"
+    );
+
+    private static final long DB_MILLIS = 20;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"500"})
+    private int sessions;
+
+    private ThreadPoolTaskExecutor executor;
+
+    private CountDownLatch stormDone;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = ExecutorConfig.build(ExecutorConfig.INBOUND, SPECS.get(mode), new SimpleMeterRegistry());
+        executor.initialize();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void storm() throws InterruptedException {
+        submitStorm().await();
+    }
+
+    /**
+     * probe 측정 전에 폭주를 먼저 넣어 둠 (측정 시간에서 제외)
+     */
+    @Setup(Level.Invocation)
+    public void startStorm(BenchmarkParams params) {
+        if (params.getBenchmark().endsWith("probe")) {
+            stormDone = submitStorm();
+        }
+    }
+
+    @Benchmark
+    public void probe() throws InterruptedException {
+        CountDownLatch probeDone = new CountDownLatch(1);
+        executor.execute(probeDone::countDown);
+        probeDone.await();
+    }
+
+    @TearDown(Level.Invocation)
+    public void awaitStorm() throws InterruptedException {
+        if (stormDone != null) {
+            stormDone.await();
+            stormDone = null;
+        }
+    }
+
+    private CountDownLatch submitStorm() {
+        CountDownLatch done = new CountDownLatch(sessions);
+        for (int i = 0; i < sessions; i++) {
+            executor.execute(() -> {
+                try {
+                    // 접속 처리 중 DB 조회
+                    Thread.sleep(DB_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        return done;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.benchmark;
+
+import com.example.dto.ChannelRow;
+import com.example.dto.ChannelUserRow;
+import com.example.dto.ChannelView;
+import com.example.dto.ParticipantRow;
+import com.example.dto.ParticipantView;
+import com.example.dto.RoomSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레이드 방 스냅샷: 중첩 HashMap(이전) vs 불변 record(현재) 비교
+ *
+ * - build*: 읽기 모델 행(DTO)에서 스냅샷 생성 (gc.alloc.rate.norm = 스냅샷 1개당 할당량)
+ * - serialize*: 이미 만든 스냅샷을 JSON 바이트로 직렬화하는 처리량
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RoomSnapshotBenchmark {
+
+    @Param({"10", "40"})
+    private int channelCount;
+
+    private static final int USERS_PER_CHANNEL = 3;
+    private static final int PARTICIPANT_COUNT = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<ChannelRow> channels;
+    private Map<Long, List<ChannelUserRow>> usersByChannel;
+    private List<ParticipantRow> participants;
+
+    private Map<String, Object> mapSnapshot;
+    private RoomSnapshot recordSnapshot;
+
+    @Setup
+    public void setUp() {
+        channels = new ArrayList<>();
+        usersByChannel = new HashMap<>();
+        for (int i = 1; i <= channelCount; i++) {
+            long channelId = i;
+            channels.add(new ChannelRow(channelId, i, i % 3 == 0, "메모 " + i,
+                "green", "yellow", "orange", "red", LocalDateTime.now(), null));
+            List<ChannelUserRow> users = new ArrayList<>();
+            for (int u = 0; u < USERS_PER_CHANNEL; u++) {
+                long userId = i * 100L + u;
+                users.add(new ChannelUserRow(channelId, userId, "user" + userId, "표시이름" + userId,
+                    "https://cdn.example.com/avatar/" + userId + ".png", "길드", 5, true));
+            }
+            usersByChannel.put(channelId, users);
+        }
+        participants = new ArrayList<>();
+        for (int p = 0; p < PARTICIPANT_COUNT; p++) {
+            participants.add(new ParticipantRow((long) p, "user" + p, "표시이름" + p,
+                "https://cdn.example.com/avatar/" + p + ".png"));
+        }
+
+        mapSnapshot = buildMapSnapshot();
+        recordSnapshot = buildRecordSnapshot();
+    }
+
+    @Benchmark
+    public Map<String, Object> buildMapSnapshot() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("type", "snapshot");
+        response.put("version", 1L);
+        response.put("id", 1L);
+        Map<String, Object> boss = new HashMap<>();
+        boss.put("id", 1L);
+        boss.put("name", "용");
+        boss.put("type", "DRAGON");
+        response.put("boss", boss);
+        response.put("raidDate", "2026-01-01");
+        response.put("raidTime", "21:00");
+        response.put("isCompleted", false);
+
+        List<Map<String, Object>> channelList = new ArrayList<>();
+        for (ChannelRow channel : channels) {
+            Map<String, Object> channelData = new HashMap<>();
+            channelData.put("id", channel.id());
+            channelData.put("channelNumber", channel.channelNumber());
+            channelData.put("isDefeated", channel.isDefeated());
+            channelData.put("memo", channel.memo());
+            channelData.put("bossHeukColor", channel.bossHeukColor());
+            channelData.put("bossJinColor", channel.bossJinColor());
+            channelData.put("bossMukColor", channel.bossMukColor());
+            channelData.put("bossGamColor", channel.bossGamColor());
+            channelData.put("waterDragonDefeatedAt",
+                channel.waterDragonDefeatedAt() != null ? channel.waterDragonDefeatedAt().toString() : null);
+            channelData.put("fireDragonDefeatedAt",
+                channel.fireDragonDefeatedAt() != null ? channel.fireDragonDefeatedAt().toString() : null);
+            List<Map<String, Object>> users = new ArrayList<>();
+            for (ChannelUserRow cu : usersByChannel.getOrDefault(channel.id(), List.of())) {
+                Map<String, Object> userData = new HashMap<>();
+                userData.put("userId", cu.userId());
+                userData.put("username", cu.username());
+                userData.put("displayName", cu.displayName());
+                userData.put("avatarUrl", cu.avatarUrl());
+                userData.put("guildName", cu.guildName());
+                userData.put("memberCount", cu.memberCount());
+                userData.put("isMoving", cu.isMoving());
+                users.add(userData);
+            }
+            channelData.put("users", users);
+            channelList.add(channelData);
+        }
+        response.put("channels", channelList);
+
+        List<Map<String, Object>> participantList = new ArrayList<>();
+        for (ParticipantRow participant : participants) {
+            Map<String, Object> participantData = new HashMap<>();
+            participantData.put("userId", participant.userId());
+            participantData.put("username", participant.username());
+            participantData.put("displayName", participant.displayName());
+            participantData.put("avatarUrl", participant.avatarUrl());
+            participantList.add(participantData);
+        }
+        response.put("connectedUsers", participantList);
+        response.put("participants", participantList);
+        return response;
+    }
+
+    @Benchmark
+    public RoomSnapshot buildRecordSnapshot() {
+        List<ChannelView> channelViews = channels.stream()
+            .map(channel -> ChannelView.from(channel, usersByChannel.getOrDefault(channel.id(), List.of())))
+            .toList();
+        List<ParticipantView> participantViews = participants.stream()
+            .map(ParticipantView::from)
+            .toList();
+        return new RoomSnapshot(RoomSnapshot.TYPE_SNAPSHOT, 1L, 1L, new RoomSnapshot.BossInfo(1L, "용", "DRAGON"),
+            "2026-01-01", "21:00", false, null, channelViews, participantViews, participantViews);
+    }
+
+    @Benchmark
+    public byte[] serializeMapSnapshot() throws Exception {
+        return objectMapper.writeValueAsBytes(mapSnapshot);
+    }
+
+    @Benchmark
+    public byte[] serializeRecordSnapshot() throws Exception {
+        return objectMapper.writeValueAsBytes(recordSnapshot);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.config;
+
+import com.example.service.CacheDependencyIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 캐시 설정 (Caffeine, 캐시별 크기/만료 정책)
+ *
+ * - raidRoom: 방 스냅샷, 변경 시 방 단위로 무효화되고 짧은 TTL로 한 번 더 보호
+ * - todayBosses: 보스 목록, 키에 날짜가 포함되므로 크기 제한으로 지난 날짜의 항목이 쌓이지 않음
+ *
+ * 정책은 application.properties의 cache.policies.* (Caffeine spec 형식)로 변경
+ * recordStats로 적중/미스/제거 통계를 수집하며, actuator가 cache.gets / cache.evictions 등으로 노출
+ * (조회 시간은 CacheLoadCoalescer의 cache.singleflight.load.duration)
+ * 항목이 만료/제거되면 CacheDependencyIndex에 알려 의존성 색인에서도 제거
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String RAID_ROOM = "raidRoom";
+    public static final String TODAY_BOSSES = "todayBosses";
+
+    @Value("${cache.policies.raidRoom:maximumSize=500,expireAfterWrite=10s}")
+    private String raidRoomSpec;
+
+    @Value("${cache.policies.todayBosses:maximumSize=7,expireAfterWrite=10m}")
+    private String todayBossesSpec;
+
+    @Bean
+    public CacheManager cacheManager(CacheDependencyIndex cacheDependencyIndex) {
+        return buildCacheManager(raidRoomSpec, todayBossesSpec, Ticker.systemTicker(), cacheDependencyIndex::onRemoval);
+    }
+
+    /**
+     * 캐시 매니저 생성 (테스트에서 시간 흐름을 흉내 내기 위해 ticker를 주입 가능)
+     * 등록된 캐시 외의 이름은 생성하지 않음 (오타로 제한 없는 캐시가 생기지 않도록)
+     */
+    static CaffeineCacheManager buildCacheManager(String raidRoomSpec, String todayBossesSpec, Ticker ticker,
+                                                  EntryRemovalListener removalListener) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 아래에서 등록하는 캐시만 사용 (동적 생성 끔)
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(RAID_ROOM, build(RAID_ROOM, raidRoomSpec, ticker, removalListener));
+        cacheManager.registerCustomCache(TODAY_BOSSES, build(TODAY_BOSSES, todayBossesSpec, ticker, removalListener));
+        return cacheManager;
+    }
+
+    private static Cache<Object, Object> build(String cacheName, String spec, Ticker ticker,
+                                               EntryRemovalListener removalListener) {
+        return Caffeine.from(spec)
+            .ticker(ticker)
+            .recordStats()
+            .removalListener((key, value, cause) -> removalListener.onRemoval(cacheName, key, value))
+            .build();
+    }
+
+    /**
+     * 캐시 항목 제거 알림 (만료/크기 초과/명시적 제거/교체)
+     */
+    @FunctionalInterface
+    interface EntryRemovalListener {
+        void onRemoval(String cacheName, Object key, Object value);
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업 종류별 실행기 설정 (이름 있는 제한된 스레드 풀)
+ *
+ * - inbound: STOMP 수신 채널 (클라이언트 메시지/구독 처리, WebSocketConfig에서 등록)
+ * - outbound: STOMP 송신 채널 (세션별 프레임 전송, WebSocketConfig에서 등록)
+ * - broadcast: 방 브로드캐스트 발행 (병합 윈도우가 끝난 방의 스냅샷 조회/직렬화/발행)
+ * - side-effects: 접속/해제 후처리 등 DB 부수 작업, @Async 기본 실행기
+ * 한 작업이 느려져도(예: 접속 처리 중 DB 조회) 다른 종류의 작업이 같은 스레드를 기다리지 않음
+ *
+ * 정책은 application.properties의 realtime.executors.* (mode=platform|virtual,core=,max=,queue= 형식)로 변경
+ * - virtual: 작업마다 새 가상 스레드로 실행 (풀에 보관하지 않음, DB/네트워크 대기 중에 캐리어 스레드를 점유하지 않음)
+ *   max로 동시 실행 수를 제한하고, 가득 차면 제출한 스레드가 자리가 날 때까지 기다림 (queue는 쓰지 않음)
+ * - platform: core개를 유지하고 큐가 차면 max까지 늘림
+ *   큐와 스레드가 모두 차면 호출한 스레드에서 실행 (요청을 버리지 않고 보내는 쪽을 늦춤)
+ * - STOMP 채널(inbound/outbound)은 platform만 가능 (ChannelRegistration이 스레드 풀만 받음)
+ *
+ * 순서가 필요한 작업은 풀 대신 전용 스레드에서 실행하며, 이름을 여기서 관리 (exec-<name>-N, dedicatedThreads)
+ * - lobby-publisher: 로비 델타 발행 / outbox-relay: 아웃박스 발행 / broadcast-scheduler: 방 브로드캐스트 병합 윈도우 예약
+ * - room-store-flush: 방 상태 write-behind 기록 / access-log-writer: 접속 로그 일괄 기록
+ *
+ * 지표 (name 태그): realtime.executor.active / queued / wait / rejected (queued, rejected는 platform만)
+ */
+@Configuration
+public class ExecutorConfig implements AsyncConfigurer {
+
+    public static final String INBOUND = "inbound";
+    public static final String OUTBOUND = "outbound";
+    public static final String BROADCAST = "broadcast";
+    public static final String SIDE_EFFECTS = "side-effects";
+
+    // 전용 스레드 이름
+    public static final String LOBBY_PUBLISHER = "lobby-publisher";
+    public static final String OUTBOX_RELAY = "outbox-relay";
+    public static final String BROADCAST_SCHEDULER = "broadcast-scheduler";
+    public static final String ROOM_STORE_FLUSH = "room-store-flush";
+    public static final String ACCESS_LOG_WRITER = "access-log-writer";
+
+    @Value("${realtime.executors.broadcast:mode=platform,core=2,max=8,queue=1000}")
+    private String broadcastSpec;
+
+    @Value("${realtime.executors.side-effects:mode=platform,core=2,max=8,queue=2000}")
+    private String sideEffectsSpec;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Bean
+    public AsyncTaskExecutor broadcastExecutor() {
+        return build(BROADCAST, broadcastSpec, meterRegistry);
+    }
+
+    @Bean
+    public AsyncTaskExecutor sideEffectExecutor() {
+        return build(SIDE_EFFECTS, sideEffectsSpec, meterRegistry);
+    }
+
+    /**
+     * @Async 메서드는 DB 부수 작업 실행기에서 실행
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return sideEffectExecutor();
+    }
+
+    /**
+     * 실행기 생성 (초기화/종료는 스프링 빈 생명주기에서)
+     * virtual이면 작업마다 가상 스레드를 만드는 실행기, platform이면 스레드 풀
+     * @param spec mode=platform|virtual,core=,max=,queue= (생략한 항목은 기본값)
+     * @throws IllegalArgumentException 형식이 잘못된 경우 (시작 시 실패)
+     */
+    public static AsyncTaskExecutor build(String name, String spec, MeterRegistry meterRegistry) {
+        Spec parsed = Spec.parse(spec);
+        if (!parsed.virtual()) {
+            return buildPool(name, parsed, meterRegistry);
+        }
+        AtomicInteger active = new AtomicInteger();
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("exec-" + name + "-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(parsed.max());
+        executor.setTaskDecorator(timed(name, active, meterRegistry));
+        Gauge.builder("realtime.executor.active", active, AtomicInteger::get)
+            .description("실행 중인 작업 수")
+            .tag("name", name)
+            .register(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 스레드 풀 실행기 생성 (STOMP 채널용, 초기화는 호출자 또는 스프링 빈 생명주기에서)
+     * @throws IllegalArgumentException 형식이 잘못되었거나 mode=virtual인 경우 (시작 시 실패)
+     */
+    public static ThreadPoolTaskExecutor buildPool(String name, String spec, MeterRegistry meterRegistry) {
+        Spec parsed = Spec.parse(spec);
+        if (parsed.virtual()) {
+            throw new IllegalArgumentException("스레드 풀 실행기는 mode=platform만 가능: " + name + "=" + spec);
+        }
+        return buildPool(name, parsed, meterRegistry);
+    }
+
+    /**
+     * 전용 스레드 팩토리 (exec-<name>-N, 데몬), 순서가 필요한 단일 작업/예약 스레드용
+     */
+    public static ThreadFactory dedicatedThreads(String name) {
+        AtomicInteger index = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "exec-" + name + "-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ThreadPoolTaskExecutor buildPool(String name, Spec parsed, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("exec-" + name + "-");
+        executor.setCorePoolSize(parsed.core());
+        executor.setMaxPoolSize(parsed.max());
+        executor.setQueueCapacity(parsed.queue());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setKeepAliveSeconds(60);
+        executor.setTaskDecorator(timed(name, null, meterRegistry));
+
+        Counter rejectedCounter = Counter.builder("realtime.executor.rejected")
+            .description("큐와 스레드가 가득 차서 호출한 스레드에서 실행한 작업 수")
+            .tag("name", name)
+            .register(meterRegistry);
+        ThreadPoolExecutor.CallerRunsPolicy callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejectedCounter.increment();
+            callerRuns.rejectedExecution(task, pool);
+        });
+
+        Gauge.builder("realtime.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .description("실행 중인 작업 수")
+            .tag("name", name)
+            .register(meterRegistry);
+        Gauge.builder("realtime.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+            .description("큐에서 대기 중인 작업 수")
+            .tag("name", name)
+            .register(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 제출부터 실행 시작까지 대기 시간 기록 (active가 있으면 실행 중인 작업 수도 셈)
+     */
+    private static TaskDecorator timed(String name, AtomicInteger active, MeterRegistry meterRegistry) {
+        Timer waitTimer = Timer.builder("realtime.executor.wait")
+            .description("작업 제출부터 실행 시작까지 대기 시간")
+            .tag("name", name)
+            .register(meterRegistry);
+        return task -> {
+            long submittedNanos = System.nanoTime();
+            return () -> {
+                waitTimer.record(System.nanoTime() - submittedNanos, TimeUnit.NANOSECONDS);
+                if (active == null) {
+                    task.run();
+                    return;
+                }
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                }
+            };
+        };
+    }
+
+    /**
+     * 실행기 정책 (mode=platform|virtual,core=,max=,queue=)
+     */
+    record Spec(boolean virtual, int core, int max, int queue) {
+
+        static Spec parse(String spec) {
+            Map<String, String> values = new HashMap<>();
+            if (spec != null && !spec.isBlank()) {
+                for (String part : spec.split(",")) {
+                    String[] pair = part.split("=", 2);
+                    if (pair.length != 2) {
+                        throw new IllegalArgumentException("잘못된 실행기 설정: " + spec);
+                    }
+                    values.put(pair[0].trim(), pair[1].trim());
+                }
+            }
+            String mode = values.getOrDefault("mode", "platform");
+            if (!mode.equals("platform") && !mode.equals("virtual")) {
+                throw new IllegalArgumentException("실행기 mode는 platform 또는 virtual: " + spec);
+            }
+            try {
+                int core = Integer.parseInt(values.getOrDefault("core", "2"));
+                int max = Integer.parseInt(values.getOrDefault("max", String.valueOf(Math.max(core, 8))));
+                int queue = Integer.parseInt(values.getOrDefault("queue", "1000"));
+                if (core < 1 || max < core || queue < 0) {
+                    throw new IllegalArgumentException("실행기 크기는 1 <= core <= max, queue >= 0: " + spec);
+                }
+                return new Spec(mode.equals("virtual"), core, max, queue);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 실행기 설정: " + spec, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * 세션 하나의 아직 보내지 않은 프레임 큐 (바이트 수 집계, 병합)
+ *
+ * 병합 프레임(conflate=true)이 들어오면 같은 key의 보내지 않은 프레임을 모두 제거하고 맨 뒤에 추가
+ * (방 스냅샷은 전체 상태이므로 그 이전 스냅샷/델타는 보낼 필요 없음)
+ * key가 다른 프레임의 순서는 그대로 유지
+ *
+ * 동기화는 호출자가 담당 (SlowConsumerSessionDecorator의 락 안에서만 사용)
+ */
+class OutboundFrameQueue<T> {
+
+    private final Deque<Frame<T>> frames = new ArrayDeque<>();
+
+    private long bytes;
+
+    /**
+     * 프레임 추가
+     * @param key 병합 기준 (구독 + 목적지, 병합 대상이 아니면 null)
+     * @param conflate true면 같은 key의 보내지 않은 프레임을 대체
+     * @return 대체되어 제거된 프레임 수
+     */
+    int offer(T message, int size, String key, boolean conflate) {
+        int replaced = 0;
+        if (conflate && key != null) {
+            Iterator<Frame<T>> iterator = frames.iterator();
+            while (iterator.hasNext()) {
+                Frame<T> frame = iterator.next();
+                if (key.equals(frame.key())) {
+                    iterator.remove();
+                    bytes -= frame.size();
+                    replaced++;
+                }
+            }
+        }
+        frames.addLast(new Frame<>(message, size, key));
+        bytes += size;
+        return replaced;
+    }
+
+    /**
+     * 가장 오래된 프레임 꺼내기 (없으면 null)
+     */
+    T poll() {
+        Frame<T> frame = frames.pollFirst();
+        if (frame == null) {
+            return null;
+        }
+        bytes -= frame.size();
+        return frame.message();
+    }
+
+    /**
+     * 모두 비우기
+     * @return 버린 프레임 수
+     */
+    int clear() {
+        int count = frames.size();
+        frames.clear();
+        bytes = 0;
+        return count;
+    }
+
+    long bytes() {
+        return bytes;
+    }
+
+    int size() {
+        return frames.size();
+    }
+
+    private record Frame<T>(T message, int size, String key) {
+    }
+
+    /**
+     * STOMP MESSAGE 프레임의 병합 기준
+     * @param key 구독 ID + 목적지
+     * @param conflate 병합 헤더(conflate:snapshot)가 있는 프레임
+     */
+    record FrameKey(String key, boolean conflate) {
+
+        private static final String COMMAND = "MESSAGE";
+        private static final String DESTINATION = "destination:";
+        private static final String SUBSCRIPTION = "subscription:";
+        private static final String CONFLATE = OutboundSessionPolicy.CONFLATE_HEADER + ":" + OutboundSessionPolicy.CONFLATE_SNAPSHOT;
+
+        /**
+         * 인코딩된 STOMP 프레임의 헤더만 읽어서 병합 기준 추출 (MESSAGE 프레임이 아니면 null)
+         */
+        static FrameKey of(String frame) {
+            if (frame == null || !frame.startsWith(COMMAND)) {
+                return null;
+            }
+            int commandEnd = COMMAND.length();
+            if (commandEnd < frame.length() && frame.charAt(commandEnd) == '\r') {
+                commandEnd++;
+            }
+            if (commandEnd >= frame.length() || frame.charAt(commandEnd) != '\n') {
+                return null;
+            }
+            String destination = null;
+            String subscription = null;
+            boolean conflate = false;
+            int pos = commandEnd + 1;
+            while (pos < frame.length()) {
+                int end = frame.indexOf('\n', pos);
+                if (end < 0) {
+                    break;
+                }
+                int lineEnd = end > pos && frame.charAt(end - 1) == '\r' ? end - 1 : end;
+                if (lineEnd == pos) {
+                    // 빈 줄: 헤더 끝 (본문은 읽지 않음)
+                    break;
+                }
+                if (frame.startsWith(DESTINATION, pos)) {
+                    destination = frame.substring(pos + DESTINATION.length(), lineEnd);
+                } else if (frame.startsWith(SUBSCRIPTION, pos)) {
+                    subscription = frame.substring(pos + SUBSCRIPTION.length(), lineEnd);
+                } else if (lineEnd - pos == CONFLATE.length() && frame.startsWith(CONFLATE, pos)) {
+                    conflate = true;
+                }
+                pos = end + 1;
+            }
+            if (destination == null) {
+                return null;
+            }
+            return new FrameKey(subscription + "|" + destination, conflate);
+        }
+
+        /**
+         * 헤더의 병합 표시(conflate:snapshot) 줄을 제거한 프레임 (없으면 그대로 반환)
+         */
+        static String withoutConflateHeader(String frame) {
+            int pos = frame.indexOf('\n') + 1;
+            while (pos > 0 && pos < frame.length()) {
+                int end = frame.indexOf('\n', pos);
+                if (end < 0) {
+                    break;
+                }
+                int lineEnd = end > pos && frame.charAt(end - 1) == '\r' ? end - 1 : end;
+                if (lineEnd == pos) {
+                    break;
+                }
+                if (lineEnd - pos == CONFLATE.length() && frame.startsWith(CONFLATE, pos)) {
+                    return frame.substring(0, pos) + frame.substring(end + 1);
+                }
+                pos = end + 1;
+            }
+            return frame;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * WebSocket 세션별 송신 정책 (느린 클라이언트 대응)
+ *
+ * 연결마다 세션을 SlowConsumerSessionDecorator로 감싸서 STOMP 처리기에 전달
+ * - send-buffer-bytes: 세션당 보내지 않은 프레임 최대 바이트 (병합 후에도 넘으면 연결 종료)
+ * - send-time-limit-ms: 프레임 하나의 최대 전송 시간 (넘으면 연결 종료)
+ * - conflation: 방 스냅샷 프레임(conflate:snapshot 헤더)이 같은 구독의 보내지 않은 프레임을 대체
+ *   (헤더는 서버 내부 표시이므로 병합 여부와 관계없이 클라이언트에 보내기 전에 제거)
+ * 전송은 세션마다 가상 스레드 하나에서 순서대로 실행 (느린 세션이 송신 채널 스레드를 붙잡지 않음)
+ *
+ * 지표: realtime.outbound.conflated / dropped / slow_disconnects (reason=buffer|time)
+ */
+@Component
+public class OutboundSessionPolicy implements WebSocketHandlerDecoratorFactory {
+
+    // 병합 대상 프레임 표시 헤더 (방 토픽 스냅샷 발행 시 추가)
+    public static final String CONFLATE_HEADER = "conflate";
+    public static final String CONFLATE_SNAPSHOT = "snapshot";
+
+    @Value("${realtime.outbound.send-buffer-bytes:524288}")
+    private int sendBufferBytes;
+
+    @Value("${realtime.outbound.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${realtime.outbound.conflation:true}")
+    private boolean conflation;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService sendExecutor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ws-send-", 0).factory());
+
+    private Counter conflatedCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void init() {
+        conflatedCounter = Counter.builder("realtime.outbound.conflated")
+            .description("새 방 스냅샷으로 대체되어 보내지 않은 프레임 수")
+            .register(meterRegistry);
+        droppedCounter = Counter.builder("realtime.outbound.dropped")
+            .description("느린 세션 종료/전송 실패로 버린 프레임 수")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new SlowConsumerSessionDecorator(session, OutboundSessionPolicy.this));
+            }
+        };
+    }
+
+    public int getSendBufferBytes() {
+        return sendBufferBytes;
+    }
+
+    public int getSendTimeLimitMillis() {
+        return sendTimeLimitMillis;
+    }
+
+    boolean isConflation() {
+        return conflation;
+    }
+
+    ExecutorService getSendExecutor() {
+        return sendExecutor;
+    }
+
+    void recordConflated(int count) {
+        conflatedCounter.increment(count);
+    }
+
+    void recordDropped(int count) {
+        if (count > 0) {
+            droppedCounter.increment(count);
+        }
+    }
+
+    void recordSlowDisconnect(String reason, int droppedFrames) {
+        meterRegistry.counter("realtime.outbound.slow_disconnects", "reason", reason).increment();
+        recordDropped(droppedFrames);
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.config;
 
+import com.example.entity.UserRole;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
@@ -21,6 +25,10 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/actuator/health").permitAll()
+                // 지표(방/세션 수 등 운영 정보)는 관리자 로그인 세션에서만 조회
+                .requestMatchers("/actuator/**").access((authentication, context) ->
+                    new AuthorizationDecision(isAdminSession(context.getRequest())))
                 .requestMatchers("/api/**", "/ws/**", "/**").permitAll()
                 .anyRequest().permitAll()
             );
@@ -28,6 +36,14 @@ public class SecurityConfig {
         return http.build();
     }
     
+    /**
+     * 로그인 시 세션에 저장한 역할(AuthService)이 ADMIN인지 확인
+     */
+    private static boolean isAdminSession(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session != null && UserRole.ADMIN.name().equals(session.getAttribute("userRole"));
+    }
+    
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
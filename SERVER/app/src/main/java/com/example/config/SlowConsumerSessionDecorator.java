@@ -0,0 +1,195 @@
+package com.example.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 느린 세션 송신 정책을 적용하는 세션 데코레이터 (세션마다 하나)
+ *
+ * sendMessage는 큐에 넣고 바로 반환하고, 실제 전송은 세션당 하나의 전송 작업이 순서대로 처리
+ * - 병합: 방 스냅샷 프레임이 들어오면 같은 구독의 보내지 않은 프레임(이전 스냅샷/델타)을 대체
+ * - 버퍼 제한: 병합 후에도 보내지 않은 프레임이 sendBufferBytes를 넘으면 연결 종료
+ * - 시간 제한: 프레임 하나를 sendTimeLimit 넘게 보내고 있으면 다음 프레임이 들어올 때 연결 종료
+ * 연결을 끊으면 클라이언트는 재접속 후 이어받기(resume)로 놓친 변경을 받음
+ *
+ * 병합 헤더(conflate:snapshot)는 서버 내부 표시이므로 큐에 넣기 전에 프레임에서 제거 (클라이언트에는 보내지 않음)
+ */
+class SlowConsumerSessionDecorator extends WebSocketSessionDecorator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowConsumerSessionDecorator.class);
+
+    private final OutboundSessionPolicy policy;
+
+    private final OutboundFrameQueue<WebSocketMessage<?>> queue = new OutboundFrameQueue<>();
+
+    // 가상 스레드에서 사용하므로 synchronized 대신 ReentrantLock (락 안에서는 전송하지 않음)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 전송 작업 실행 중 여부 (lock 안에서만 변경)
+    private boolean draining;
+
+    // 진행 중인 전송 시작 시각 (전송 중이 아니면 0)
+    private volatile long sendStartNanos;
+
+    private volatile boolean closing;
+
+    SlowConsumerSessionDecorator(WebSocketSession delegate, OutboundSessionPolicy policy) {
+        super(delegate);
+        this.policy = policy;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closing) {
+            policy.recordDropped(1);
+            return;
+        }
+        OutboundFrameQueue.FrameKey frameKey = null;
+        if (message instanceof TextMessage text) {
+            frameKey = OutboundFrameQueue.FrameKey.of(text.getPayload());
+            if (frameKey != null && frameKey.conflate()) {
+                message = new TextMessage(OutboundFrameQueue.FrameKey.withoutConflateHeader(text.getPayload()), text.isLast());
+            }
+        }
+        boolean conflate = policy.isConflation() && frameKey != null && frameKey.conflate();
+
+        int replaced;
+        boolean overBuffer;
+        boolean startDrain = false;
+        lock.lock();
+        try {
+            replaced = queue.offer(message, message.getPayloadLength(),
+                frameKey != null ? frameKey.key() : null, conflate);
+            overBuffer = queue.bytes() > policy.getSendBufferBytes();
+            if (!overBuffer && !draining) {
+                draining = true;
+                startDrain = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (replaced > 0) {
+            policy.recordConflated(replaced);
+        }
+
+        if (overBuffer) {
+            closeSlow("buffer");
+        } else if (isSendTimeExceeded()) {
+            closeSlow("time");
+        } else if (startDrain) {
+            startDrain();
+        }
+    }
+
+    /**
+     * 전송 작업 시작 (실행기가 거부하면 다음 프레임이 들어올 때 다시 시작하도록 표시만 되돌림, 호출자에게 전파하지 않음)
+     */
+    private void startDrain() {
+        try {
+            policy.getSendExecutor().execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            lock.lock();
+            try {
+                draining = false;
+            } finally {
+                lock.unlock();
+            }
+            logger.warn("WebSocket 전송 작업 시작 실패: sessionId={}, reason={}", getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        closing = true;
+        lock.lock();
+        try {
+            queue.clear();
+        } finally {
+            lock.unlock();
+        }
+        super.close(status);
+    }
+
+    /**
+     * 큐가 빌 때까지 순서대로 전송 (세션당 동시에 하나만 실행)
+     */
+    private void drain() {
+        while (true) {
+            WebSocketMessage<?> message;
+            lock.lock();
+            try {
+                message = closing ? null : queue.poll();
+                if (message == null) {
+                    draining = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            sendStartNanos = System.nanoTime();
+            try {
+                getDelegate().sendMessage(message);
+            } catch (Exception e) {
+                // 이미 닫힌 연결 등 전송 실패: 남은 프레임은 보낼 수 없음
+                logger.debug("WebSocket 프레임 전송 실패: sessionId={}", getId(), e);
+                discardAfterFailure();
+                return;
+            } finally {
+                sendStartNanos = 0;
+            }
+        }
+    }
+
+    private boolean isSendTimeExceeded() {
+        long started = sendStartNanos;
+        return started != 0
+            && System.nanoTime() - started > TimeUnit.MILLISECONDS.toNanos(policy.getSendTimeLimitMillis());
+    }
+
+    /**
+     * 송신이 따라오지 못하는 세션 종료 (보내지 않은 프레임은 버림)
+     */
+    private void closeSlow(String reason) {
+        int dropped;
+        lock.lock();
+        try {
+            if (closing) {
+                return;
+            }
+            closing = true;
+            dropped = queue.clear();
+        } finally {
+            lock.unlock();
+        }
+        policy.recordSlowDisconnect(reason, dropped);
+        logger.warn("느린 WebSocket 세션 종료: sessionId={}, reason={}, droppedFrames={}", getId(), reason, dropped);
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            logger.debug("느린 WebSocket 세션 종료 실패: sessionId={}", getId(), e);
+        }
+    }
+
+    private void discardAfterFailure() {
+        int dropped;
+        lock.lock();
+        try {
+            closing = true;
+            draining = false;
+            dropped = queue.clear();
+        } finally {
+            lock.unlock();
+        }
+        policy.recordDropped(dropped);
+    }
+}
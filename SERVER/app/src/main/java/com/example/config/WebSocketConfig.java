@@ -1,13 +1,18 @@
 package com.example.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.web.socket.server.HandshakeInterceptor;
@@ -18,14 +23,59 @@ import java.util.Map;
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private OutboundSessionPolicy outboundSessionPolicy;
+    
+    // STOMP 수신/송신 채널 실행기 정책 (ExecutorConfig 참고)
+    @Value("${realtime.executors.inbound:mode=platform,core=4,max=16,queue=1000}")
+    private String inboundSpec;
+    
+    @Value("${realtime.executors.outbound:mode=platform,core=4,max=16,queue=1000}")
+    private String outboundSpec;
+    
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic", "/queue");
         config.setApplicationDestinationPrefixes("/app");
+        // 세션마다 발행 순서대로 전달 (병합 시 나중 스냅샷이 이전 스냅샷보다 먼저 큐에 들어가지 않도록)
+        config.setPreservePublishOrder(true);
+    }
+    
+    /**
+     * 세션별 송신 정책 (보내지 않은 프레임 제한, 전송 시간 제한, 방 스냅샷 병합, 느린 세션 종료)
+     * 스프링 기본 송신 버퍼에도 같은 제한을 걸어 둠 (OutboundSessionPolicy가 바로 반환하므로 평소에는 쌓이지 않음)
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(outboundSessionPolicy);
+        registration.setSendBufferSizeLimit(outboundSessionPolicy.getSendBufferBytes());
+        registration.setSendTimeLimit(outboundSessionPolicy.getSendTimeLimitMillis());
+    }
+    
+    /**
+     * 수신 채널: 클라이언트 메시지/구독 처리 (접속 처리 중 DB 대기가 다른 세션을 막지 않도록 이름 있는 제한된 풀)
+     * 실행기는 스레드 풀 빈(clientInboundChannelExecutor)으로 등록되어 스프링이 초기화/종료
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(ExecutorConfig.buildPool(ExecutorConfig.INBOUND, inboundSpec, meterRegistry));
+    }
+    
+    /**
+     * 송신 채널: 세션별 프레임 전송
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(ExecutorConfig.buildPool(ExecutorConfig.OUTBOUND, outboundSpec, meterRegistry));
     }
     
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // 세션마다 받은 순서대로 처리 (토픽 구독 -> 입장 스냅샷 구독 순서가 뒤바뀌지 않도록)
+        registry.setPreserveReceiveOrder(true);
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
                 .addInterceptors(new HttpSessionHandshakeInterceptor())
@@ -1,5 +1,6 @@
 package com.example.config;
 
+import com.example.service.RoomSubscriptionRegistry;
 import com.example.service.WebSocketConnectionService;
 import jakarta.servlet.http.HttpSession;
 import org.slf4j.Logger;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 import java.util.Map;
 
@@ -26,6 +28,9 @@ public class WebSocketEventListener {
     @Autowired
     private WebSocketConnectionService connectionService;
     
+    @Autowired
+    private RoomSubscriptionRegistry roomSubscriptionRegistry;
+    
     /**
      * WebSocket 연결 이벤트
      */
@@ -43,6 +48,9 @@ public class WebSocketEventListener {
             StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
             String destination = headerAccessor.getDestination();
             
+            // 방 토픽 구독 수 추적 (구독자가 없는 방은 발행 생략)
+            roomSubscriptionRegistry.onSubscribe(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId(), destination);
+            
             // /topic/raid-room/{roomId} 구독 시 (users로 끝나지 않는 경우만)
             if (destination != null && destination.startsWith("/topic/raid-room/") && !destination.endsWith("/users")) {
                 String roomIdStr = destination.replace("/topic/raid-room/", "");
@@ -73,6 +81,19 @@ public class WebSocketEventListener {
         }
     }
     
+    /**
+     * WebSocket 구독 해제 이벤트
+     */
+    @EventListener
+    public void handleWebSocketUnsubscribeListener(SessionUnsubscribeEvent event) {
+        try {
+            StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+            roomSubscriptionRegistry.onUnsubscribe(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId());
+        } catch (Exception e) {
+            logger.error("WebSocket 구독 해제 이벤트 처리 중 오류", e);
+        }
+    }
+    
     /**
      * WebSocket 연결 해제 이벤트
      */
@@ -83,6 +104,7 @@ public class WebSocketEventListener {
             String sessionId = headerAccessor.getSessionId();
             
             if (sessionId != null) {
+                roomSubscriptionRegistry.onDisconnect(sessionId);
                 connectionService.onUserDisconnect(sessionId);
                 logger.info("WebSocket 연결 해제: sessionId={}", sessionId);
             }
@@ -1,6 +1,8 @@
 package com.example.controller;
 
+import com.example.dto.BossBoardView;
 import com.example.service.BossService;
+import com.example.service.LobbyBoard;
 import com.example.util.ResponseUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -19,11 +21,14 @@ public class BossController {
     @Autowired
     private BossService bossService;
     
-    // 오늘의 보스 목록 조회
+    @Autowired
+    private LobbyBoard lobbyBoard;
+    
+    // 오늘의 보스 목록 조회 (로비 보드, 이후 변경은 /topic/bosses/today 의 lobby_delta로 전달)
     @GetMapping("/today")
-    public ResponseEntity<Map<String, Object>> getTodayBosses() {
+    public ResponseEntity<?> getTodayBosses() {
         try {
-            Map<String, Object> response = bossService.getTodayBosses();
+            BossBoardView response = lobbyBoard.view();
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             Map<String, Object> error = new HashMap<>();
@@ -76,12 +81,14 @@ public class BossController {
         }
     }
     
-    // 완료된 레이드 방 목록 조회
+    // 완료된 레이드 방 목록 조회 (최근 완료 순, cursor: 이전 응답의 nextCursor, size: 페이지 크기)
     @GetMapping("/completed")
-    public ResponseEntity<Map<String, Object>> getCompletedRooms() {
+    public ResponseEntity<Map<String, Object>> getCompletedRooms(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
-            Map<String, Object> response = bossService.getCompletedRooms();
-            return ResponseEntity.ok(response);
+            Map<String, Object> response = bossService.getCompletedRooms(cursor, size);
+            return ResponseUtil.fromServiceResponse(response);
         } catch (Exception e) {
             Map<String, Object> error = new HashMap<>();
             error.put("error", "완료된 레이드 조회 중 오류가 발생했습니다: " + e.getMessage());
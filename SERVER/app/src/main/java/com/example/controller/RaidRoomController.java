@@ -1,8 +1,10 @@
 package com.example.controller;
 
 import com.example.service.RaidRoomService;
+import com.example.service.RealtimeBossService;
 import com.example.util.ResponseUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,15 +20,20 @@ public class RaidRoomController {
     @Autowired
     private RaidRoomService raidRoomService;
     
-    // 보스 방 상세 정보 조회
+    @Autowired
+    private RealtimeBossService realtimeBossService;
+    
+    // 보스 방 상세 정보 조회 (버전 포함 스냅샷, 직렬화된 프레임 재사용)
     @GetMapping("/{roomId}")
-    public ResponseEntity<Map<String, Object>> getRaidRoom(@PathVariable Long roomId) {
+    public ResponseEntity<?> getRaidRoom(@PathVariable Long roomId) {
         try {
-            Map<String, Object> response = raidRoomService.getRaidRoom(roomId);
-            if (response == null) {
+            byte[] frame = realtimeBossService.getRoomSnapshotFrame(roomId);
+            if (frame == null) {
                 return ResponseUtil.notFound("레이드 방을 찾을 수 없습니다");
             }
-            return ResponseUtil.fromServiceResponse(response);
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(frame);
         } catch (Exception e) {
             return ResponseUtil.internalError("레이드 방 조회 중 오류가 발생했습니다: " + e.getMessage());
         }
@@ -1,11 +1,15 @@
 package com.example.controller;
 
+import com.example.service.RealtimeBossService;
 import com.example.service.WebSocketConnectionService;
+import com.example.util.ErrorMessages;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.Map;
@@ -19,6 +23,9 @@ public class WebSocketController {
     @Autowired
     private WebSocketConnectionService connectionService;
     
+    @Autowired
+    private RealtimeBossService realtimeBossService;
+    
     /**
      * 레이드 방 접속 알림
      */
@@ -71,6 +78,52 @@ public class WebSocketController {
         }
     }
     
+    /**
+     * 레이드 방 입장 스냅샷 (클라이언트가 /app/raid-room/{roomId}/snapshot 구독)
+     * 구독한 세션에만 버전이 포함된 스냅샷을 한 번 전송 (브로커를 거치지 않음)
+     * 방 토픽을 먼저 구독한 뒤 요청하면 이후 델타는 토픽으로 이어서 받으므로 REST 조회가 필요 없음
+     * 같은 버전이면 직렬화된 프레임(JSON)을 그대로 재사용
+     */
+    @SubscribeMapping("/raid-room/{roomId}/snapshot")
+    public Object subscribeRoomSnapshot(@DestinationVariable Long roomId) {
+        try {
+            byte[] frame = realtimeBossService.getRoomSnapshotFrame(roomId);
+            if (frame != null) {
+                return frame;
+            }
+            return Map.of("type", "error", "roomId", roomId, "error", ErrorMessages.RAID_ROOM_NOT_FOUND);
+        } catch (Exception e) {
+            return Map.of("type", "error", "roomId", roomId, "error", ErrorMessages.RAID_ROOM_FETCH_ERROR);
+        }
+    }
+    
+    /**
+     * 레이드 방 재동기화 요청
+     * 클라이언트가 델타 버전 누락(gap)을 감지하면 요청하며, 요청한 세션에만 전체 스냅샷을 전송
+     * (구독 경로: /user/queue/raid-room)
+     */
+    @MessageMapping("/raid-room/{roomId}/sync")
+    public void syncRoom(@DestinationVariable Long roomId, SimpMessageHeaderAccessor headerAccessor) {
+        String sessionId = headerAccessor.getSessionId();
+        if (sessionId != null) {
+            realtimeBossService.sendRoomSnapshotToSession(roomId, sessionId);
+        }
+    }
+    
+    /**
+     * 레이드 방 이어받기 요청 (재접속 직후)
+     * 클라이언트가 마지막으로 반영한 버전(sinceVersion) 이후 놓친 델타만 요청한 세션에 재생하고,
+     * 재생 버퍼로 이을 수 없으면 전체 스냅샷을 전송 (구독 경로: /user/queue/raid-room)
+     */
+    @MessageMapping("/raid-room/{roomId}/resume")
+    public void resumeRoom(@DestinationVariable Long roomId, @Payload Map<String, Object> payload,
+                           SimpMessageHeaderAccessor headerAccessor) {
+        String sessionId = headerAccessor.getSessionId();
+        if (sessionId != null) {
+            realtimeBossService.resumeRoomForSession(roomId, sessionId, convertToLong(payload.get("sinceVersion")));
+        }
+    }
+    
     private Long convertToLong(Object obj) {
         if (obj == null) return null;
         if (obj instanceof Long) return (Long) obj;
@@ -0,0 +1,49 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 오늘 이후 보스 레이드 보드 (GET /api/bosses/today 본문)
+ * version은 로비 보드(LobbyBoard)가 채움 (todayBosses 캐시에 보관된 보드에는 없음)
+ * 이후 변경은 /topic/bosses/today 의 lobby_delta(fromVersion -> toVersion)로 전달
+ */
+public record BossBoardView(List<BossEntry> bosses, @JsonInclude(JsonInclude.Include.NON_NULL) Long version) {
+
+    public BossBoardView(List<BossEntry> bosses) {
+        this(bosses, null);
+    }
+
+    public static BossBoardView empty() {
+        return new BossBoardView(List.of());
+    }
+
+    /**
+     * 버전이 붙은 보드로 복사
+     */
+    public BossBoardView withVersion(long version) {
+        return new BossBoardView(bosses, version);
+    }
+
+    /**
+     * 보스별 그룹
+     * @param sortOrder 정렬 우선순위 (DRAGON이 0으로 항상 위)
+     */
+    public record BossEntry(Long id, String name, String type, Integer sortOrder, List<RoomEntry> rooms) {
+    }
+
+    /**
+     * 보스 그룹에 속한 레이드 방 요약
+     */
+    public record RoomEntry(
+        Long id,
+        Integer channelCount,
+        String raidTime,
+        String raidDate,
+        String createdAt,
+        String bossName,
+        String bossType
+    ) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.dto;
+
+import com.example.entity.Channel;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채널 행 (채널 컬럼만 조회하는 프로젝션)
+ */
+public record ChannelRow(
+    Long id,
+    Integer channelNumber,
+    Boolean isDefeated,
+    String memo,
+    String bossHeukColor,
+    String bossJinColor,
+    String bossMukColor,
+    String bossGamColor,
+    LocalDateTime waterDragonDefeatedAt,
+    LocalDateTime fireDragonDefeatedAt
+) {
+
+    /**
+     * 이미 로드된 엔티티에서 생성 (델타 발행 시 사용)
+     */
+    public static ChannelRow from(Channel channel) {
+        return new ChannelRow(
+            channel.getId(),
+            channel.getChannelNumber(),
+            channel.getIsDefeated(),
+            channel.getMemo(),
+            channel.getBossHeukColor(),
+            channel.getBossJinColor(),
+            channel.getBossMukColor(),
+            channel.getBossGamColor(),
+            channel.getWaterDragonDefeatedAt(),
+            channel.getFireDragonDefeatedAt()
+        );
+    }
+}
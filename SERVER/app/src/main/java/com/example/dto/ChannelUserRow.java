@@ -0,0 +1,34 @@
+package com.example.dto;
+
+import com.example.entity.ChannelUser;
+
+/**
+ * 채널 유저 행 (채널 유저 + 사용자 프로필 컬럼을 한 번에 조회하는 프로젝션)
+ */
+public record ChannelUserRow(
+    Long channelId,
+    Long userId,
+    String username,
+    String displayName,
+    String avatarUrl,
+    String guildName,
+    Integer memberCount,
+    Boolean isMoving
+) {
+
+    /**
+     * 이미 로드된 엔티티에서 생성 (델타 발행 시 사용)
+     */
+    public static ChannelUserRow from(ChannelUser channelUser) {
+        return new ChannelUserRow(
+            channelUser.getChannel() != null ? channelUser.getChannel().getId() : null,
+            channelUser.getUser().getId(),
+            channelUser.getUser().getUsername(),
+            channelUser.getUser().getDisplayName(),
+            channelUser.getUser().getAvatarUrl(),
+            channelUser.getGuildName(),
+            channelUser.getMemberCount(),
+            channelUser.getIsMoving()
+        );
+    }
+}
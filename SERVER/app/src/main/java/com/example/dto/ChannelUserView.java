@@ -0,0 +1,29 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 채널 유저(이동중 표시) 정보 (channels[].users 항목)
+ */
+public record ChannelUserView(
+    Long userId,
+    String username,
+    String displayName,
+    String avatarUrl,
+    String guildName,
+    Integer memberCount,
+    @JsonProperty("isMoving") Boolean isMoving
+) {
+
+    public static ChannelUserView from(ChannelUserRow row) {
+        return new ChannelUserView(
+            row.userId(),
+            row.username() != null ? row.username() : "",
+            row.displayName() != null ? row.displayName() : "",
+            row.avatarUrl() != null ? row.avatarUrl() : "",
+            row.guildName() != null ? row.guildName() : "",
+            row.memberCount() != null ? row.memberCount() : 0,
+            row.isMoving() != null ? row.isMoving() : false
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 채널 표시 정보 (channels 항목, channel_upserted 델타의 data)
+ *
+ * @param users null이면 JSON에서 생략 (델타 적용 시 클라이언트가 기존 채널 유저를 유지)
+ */
+public record ChannelView(
+    Long id,
+    Integer channelNumber,
+    @JsonProperty("isDefeated") Boolean isDefeated,
+    String memo,
+    String bossHeukColor,
+    String bossJinColor,
+    String bossMukColor,
+    String bossGamColor,
+    String waterDragonDefeatedAt,
+    String fireDragonDefeatedAt,
+    @JsonInclude(JsonInclude.Include.NON_NULL) List<ChannelUserView> users
+) {
+
+    /**
+     * @param users null이면 users 생략
+     */
+    public static ChannelView from(ChannelRow row, List<ChannelUserRow> users) {
+        return new ChannelView(
+            row.id(),
+            row.channelNumber() != null ? row.channelNumber() : 0,
+            row.isDefeated() != null ? row.isDefeated() : false,
+            row.memo() != null ? row.memo() : "",
+            row.bossHeukColor() != null ? row.bossHeukColor() : "",
+            row.bossJinColor() != null ? row.bossJinColor() : "",
+            row.bossMukColor() != null ? row.bossMukColor() : "",
+            row.bossGamColor() != null ? row.bossGamColor() : "",
+            row.waterDragonDefeatedAt() != null ? row.waterDragonDefeatedAt().toString() : null,
+            row.fireDragonDefeatedAt() != null ? row.fireDragonDefeatedAt().toString() : null,
+            users != null ? users.stream().map(ChannelUserView::from).toList() : null
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 완료된 레이드 목록 커서 (마지막으로 받은 행의 completedAt, id)
+ * 다음 페이지는 (completedAt, id)가 이 값보다 작은 행부터 조회 (OFFSET 없이 인덱스에서 바로 이어 읽음)
+ * 클라이언트에는 불투명한 문자열로 전달
+ */
+public record CompletedRoomCursor(LocalDateTime completedAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = completedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static CompletedRoomCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new CompletedRoomCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.dto;
+
+import com.example.entity.BossType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 완료된 레이드 목록 행 (방 + 보스 컬럼 + 채널 수만 조회하는 프로젝션, RaidRoom 엔티티 로드 없음)
+ */
+public record CompletedRoomRow(
+    Long id,
+    String bossName,
+    BossType bossType,
+    LocalDate raidDate,
+    LocalTime raidTime,
+    LocalDateTime completedAt,
+    Long channelCount
+) {
+
+    /**
+     * 이 행 다음부터 조회하기 위한 커서
+     */
+    public CompletedRoomCursor cursor() {
+        return new CompletedRoomCursor(completedAt, id);
+    }
+
+    /**
+     * 응답 형식으로 변환 (GET /api/bosses/completed 의 rooms 항목)
+     */
+    public Map<String, Object> toResponse() {
+        Map<String, Object> roomData = new HashMap<>();
+        roomData.put("id", id);
+        roomData.put("bossName", bossName);
+        roomData.put("bossType", bossType != null ? bossType.name() : "UNKNOWN");
+        roomData.put("raidDate", raidDate != null ? raidDate.toString() : "");
+        roomData.put("raidTime", raidTime != null ? raidTime.toString() : "");
+        roomData.put("completedAt", completedAt != null ? completedAt.toString() : "");
+        roomData.put("channelCount", channelCount != null ? channelCount.intValue() : 0);
+        return roomData;
+    }
+}
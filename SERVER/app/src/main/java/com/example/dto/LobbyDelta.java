@@ -0,0 +1,31 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 로비 보드 변경 델타 (/topic/bosses/today 로 발행되는 lobby_delta 메시지의 ops 항목)
+ *
+ * 모든 op는 "현재 값으로 설정" 형태라서 여러 번 적용해도 결과가 같음 (멱등)
+ * - room_upserted: 보스 그룹에 방 설정 (보스 그룹이 없으면 생성)
+ * - room_removed: 방 제거 (보스 그룹에 남은 방이 없으면 그룹도 제거)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LobbyDelta(String op, Long roomId, BossRef boss, BossBoardView.RoomEntry room) {
+
+    public static final String ROOM_UPSERTED = "room_upserted";
+    public static final String ROOM_REMOVED = "room_removed";
+
+    public static LobbyDelta roomUpserted(BossRef boss, BossBoardView.RoomEntry room) {
+        return new LobbyDelta(ROOM_UPSERTED, room.id(), boss, room);
+    }
+
+    public static LobbyDelta roomRemoved(Long roomId) {
+        return new LobbyDelta(ROOM_REMOVED, roomId, null, null);
+    }
+
+    /**
+     * 방이 속한 보스 그룹 정보 (그룹이 없을 때 클라이언트가 생성하는 데 사용)
+     */
+    public record BossRef(Long id, String name, String type, Integer sortOrder) {
+    }
+}
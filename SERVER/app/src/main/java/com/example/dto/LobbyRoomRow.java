@@ -0,0 +1,49 @@
+package com.example.dto;
+
+import com.example.entity.BossType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 보스 목록(로비 보드) 방 행 (방 + 보스 컬럼 + 채널 수만 조회하는 프로젝션, 채널 컬렉션 로드 없음)
+ */
+public record LobbyRoomRow(
+    Long id,
+    Long bossId,
+    String bossName,
+    BossType bossType,
+    LocalDate raidDate,
+    LocalTime raidTime,
+    Boolean isCompleted,
+    LocalDateTime createdAt,
+    Long channelCount
+) {
+
+    public String bossTypeName() {
+        return bossType != null ? bossType.name() : "UNKNOWN";
+    }
+
+    /**
+     * 정렬을 위한 우선순위 (DRAGON이 항상 위에)
+     */
+    public int sortOrder() {
+        return bossType == BossType.DRAGON ? 0 : 1;
+    }
+
+    /**
+     * 보스 목록에 표시할 방 요약으로 변환
+     */
+    public BossBoardView.RoomEntry toRoomEntry() {
+        return new BossBoardView.RoomEntry(
+            id,
+            channelCount != null ? channelCount.intValue() : 0,
+            raidTime != null ? raidTime.toString() : "",
+            raidDate != null ? raidDate.toString() : "",
+            createdAt != null ? createdAt.toString() : null,
+            bossName,
+            bossTypeName()
+        );
+    }
+}
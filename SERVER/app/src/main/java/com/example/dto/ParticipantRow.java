@@ -0,0 +1,21 @@
+package com.example.dto;
+
+import com.example.entity.User;
+
+/**
+ * 참가자 행 (참가 기록 + 사용자 프로필 컬럼만 조회하는 프로젝션)
+ */
+public record ParticipantRow(
+    Long userId,
+    String username,
+    String displayName,
+    String avatarUrl
+) {
+
+    /**
+     * 이미 로드된 엔티티에서 생성 (델타 발행 시 사용)
+     */
+    public static ParticipantRow from(User user) {
+        return new ParticipantRow(user.getId(), user.getUsername(), user.getDisplayName(), user.getAvatarUrl());
+    }
+}
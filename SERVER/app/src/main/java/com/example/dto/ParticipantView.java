@@ -0,0 +1,27 @@
+package com.example.dto;
+
+import com.example.entity.User;
+
+/**
+ * 참가자 / 접속 사용자 표시 정보 (participants, connectedUsers 항목)
+ */
+public record ParticipantView(
+    Long userId,
+    String username,
+    String displayName,
+    String avatarUrl
+) {
+
+    public static ParticipantView from(ParticipantRow row) {
+        return new ParticipantView(
+            row.userId(),
+            row.username() != null ? row.username() : "",
+            row.displayName() != null ? row.displayName() : "",
+            row.avatarUrl() != null ? row.avatarUrl() : ""
+        );
+    }
+
+    public static ParticipantView from(User user) {
+        return from(ParticipantRow.from(user));
+    }
+}
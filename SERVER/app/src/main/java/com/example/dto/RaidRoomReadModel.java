@@ -0,0 +1,22 @@
+package com.example.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레이드 방 조회용 읽기 모델 (RaidRoomReadModelLoader가 고정된 수의 쿼리로 채움)
+ *
+ * @param channels channelNumber 오름차순
+ * @param usersByChannel channelId -> 이동중 채널 유저 목록 (MovingStateRegistry 기준, 유저가 없는 채널은 키 없음)
+ */
+public record RaidRoomReadModel(
+    RoomHeaderRow header,
+    List<ChannelRow> channels,
+    Map<Long, List<ChannelUserRow>> usersByChannel,
+    List<ParticipantRow> participants
+) {
+
+    public List<ChannelUserRow> usersOf(Long channelId) {
+        return usersByChannel.getOrDefault(channelId, List.of());
+    }
+}
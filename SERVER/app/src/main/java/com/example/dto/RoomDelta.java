@@ -0,0 +1,53 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 레이드 방 변경 델타 (/topic/raid-room/{roomId} 로 발행되는 delta 메시지의 ops 항목)
+ *
+ * 모든 op는 "현재 값으로 설정" 형태라서 여러 번 적용해도 결과가 같음 (멱등)
+ * - channel_upserted: 채널 필드 설정 (data에 users가 없으면 기존 채널 유저 유지)
+ * - channel_removed: 채널 삭제
+ * - user_moved: 사용자의 이동중 채널 설정 (channelId가 없으면 이동중 해제)
+ * - participant_toggled: 참석 여부 설정
+ * - presence_changed: 접속 사용자 목록 교체
+ * - room_updated: 방 상태(완료 여부 등) 설정
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RoomDelta(String op, Long channelId, Long userId, Boolean participating, Object data) {
+
+    public static final String CHANNEL_UPSERTED = "channel_upserted";
+    public static final String CHANNEL_REMOVED = "channel_removed";
+    public static final String USER_MOVED = "user_moved";
+    public static final String PARTICIPANT_TOGGLED = "participant_toggled";
+    public static final String PRESENCE_CHANGED = "presence_changed";
+    public static final String ROOM_UPDATED = "room_updated";
+
+    public static RoomDelta channelUpserted(Long channelId, Object channel) {
+        return new RoomDelta(CHANNEL_UPSERTED, channelId, null, null, channel);
+    }
+
+    public static RoomDelta channelRemoved(Long channelId) {
+        return new RoomDelta(CHANNEL_REMOVED, channelId, null, null, null);
+    }
+
+    /**
+     * @param channelId 이동중인 채널 (null이면 이동중 해제)
+     * @param user 채널 유저 표시 정보 (해제 시 null)
+     */
+    public static RoomDelta userMoved(Long userId, Long channelId, Object user) {
+        return new RoomDelta(USER_MOVED, channelId, userId, null, user);
+    }
+
+    public static RoomDelta participantToggled(Long userId, boolean participating, Object participant) {
+        return new RoomDelta(PARTICIPANT_TOGGLED, null, userId, participating, participant);
+    }
+
+    public static RoomDelta presenceChanged(Object connectedUsers) {
+        return new RoomDelta(PRESENCE_CHANGED, null, null, null, connectedUsers);
+    }
+
+    public static RoomDelta roomUpdated(Object room) {
+        return new RoomDelta(ROOM_UPDATED, null, null, null, room);
+    }
+}
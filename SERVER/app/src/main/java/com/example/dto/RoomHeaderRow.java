@@ -0,0 +1,22 @@
+package com.example.dto;
+
+import com.example.entity.BossType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 레이드 방 헤더 행 (방 + 보스 컬럼만 조회하는 프로젝션)
+ */
+public record RoomHeaderRow(
+    Long id,
+    Long bossId,
+    String bossName,
+    BossType bossType,
+    LocalDate raidDate,
+    LocalTime raidTime,
+    Boolean isCompleted,
+    LocalDateTime completedAt
+) {
+}
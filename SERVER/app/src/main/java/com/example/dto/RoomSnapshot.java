@@ -0,0 +1,45 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 레이드 방 스냅샷 (REST 조회, 스냅샷 브로드캐스트, 재동기화 응답의 공통 본문)
+ *
+ * 불변 객체라서 raidRoom 캐시에 그대로 보관하고 여러 요청이 공유해도 안전함
+ * type/version은 발행 시점에 withVersion으로 채움 (캐시에 보관된 스냅샷에는 없음)
+ */
+public record RoomSnapshot(
+    @JsonInclude(JsonInclude.Include.NON_NULL) String type,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long version,
+    Long id,
+    BossInfo boss,
+    String raidDate,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String raidTime,
+    @JsonProperty("isCompleted") Boolean isCompleted,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String completedAt,
+    List<ChannelView> channels,
+    List<ParticipantView> connectedUsers,
+    List<ParticipantView> participants
+) {
+
+    public static final String TYPE_SNAPSHOT = "snapshot";
+
+    /**
+     * 버전이 붙은 스냅샷 메시지로 복사
+     */
+    public RoomSnapshot withVersion(long version) {
+        return new RoomSnapshot(TYPE_SNAPSHOT, version, id, boss, raidDate, raidTime, isCompleted, completedAt,
+            channels, connectedUsers, participants);
+    }
+
+    /**
+     * @param id 보스가 없으면 0
+     */
+    public record BossInfo(Long id, String name, String type) {
+
+        public static final BossInfo UNKNOWN = new BossInfo(0L, "알 수 없음", "UNKNOWN");
+    }
+}
@@ -8,8 +8,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// 완료된 레이드 목록 인덱스(idx_raid_rooms_completed_page)는 ddl-auto가 아닌
+// db/migration/index_completed_raid_rooms.sql로 생성 (CONCURRENTLY, 부분/포함 인덱스)
 @Table(name = "raid_rooms")
-@EntityListeners(com.example.listener.RaidRoomEventListener.class)
 public class RaidRoom {
     
     /**
@@ -0,0 +1,108 @@
+package com.example.entity;
+
+import com.example.dto.RoomSnapshot;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 보관된 완료 레이드 방 (RaidRoomArchiver가 완료 후 유예 기간이 지난 방을 한 행으로 압축)
+ * 방/채널/채널 유저/참가 기록 행은 삭제되고, 상세 화면은 snapshot(JSON)으로, 목록은 요약 컬럼으로 표시
+ * 한 번 기록되면 수정하지 않음
+ */
+@Entity
+@Immutable
+@Table(name = "raid_room_archives", indexes = {
+    // 완료된 레이드 목록 키셋 페이지 조회 (RaidRoomArchiveRepository.findPage*)
+    @Index(name = "idx_raid_room_archives_completed", columnList = "completed_at DESC, room_id")
+})
+public class RaidRoomArchive {
+
+    // 원래 방 ID (보관 후에도 같은 주소로 상세 조회)
+    @Id
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Column(name = "boss_id")
+    private Long bossId;
+
+    @Column(name = "boss_name")
+    private String bossName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "boss_type", length = 30)
+    private BossType bossType;
+
+    @Column(name = "raid_date")
+    private LocalDate raidDate;
+
+    @Column(name = "raid_time")
+    private LocalTime raidTime;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    @Column(name = "channel_count", nullable = false)
+    private Integer channelCount;
+
+    @Column(name = "defeated_channel_count", nullable = false)
+    private Integer defeatedChannelCount;
+
+    @Column(name = "participant_count", nullable = false)
+    private Integer participantCount;
+
+    // 보관 시점의 방 스냅샷 (PostgreSQL에서는 jsonb)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "snapshot", nullable = false)
+    private RoomSnapshot snapshot;
+
+    @Column(name = "archived_at", nullable = false, updatable = false)
+    private LocalDateTime archivedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        archivedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+
+    public Long getBossId() { return bossId; }
+    public void setBossId(Long bossId) { this.bossId = bossId; }
+
+    public String getBossName() { return bossName; }
+    public void setBossName(String bossName) { this.bossName = bossName; }
+
+    public BossType getBossType() { return bossType; }
+    public void setBossType(BossType bossType) { this.bossType = bossType; }
+
+    public LocalDate getRaidDate() { return raidDate; }
+    public void setRaidDate(LocalDate raidDate) { this.raidDate = raidDate; }
+
+    public LocalTime getRaidTime() { return raidTime; }
+    public void setRaidTime(LocalTime raidTime) { this.raidTime = raidTime; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+
+    public Integer getChannelCount() { return channelCount; }
+    public void setChannelCount(Integer channelCount) { this.channelCount = channelCount; }
+
+    public Integer getDefeatedChannelCount() { return defeatedChannelCount; }
+    public void setDefeatedChannelCount(Integer defeatedChannelCount) { this.defeatedChannelCount = defeatedChannelCount; }
+
+    public Integer getParticipantCount() { return participantCount; }
+    public void setParticipantCount(Integer participantCount) { this.participantCount = participantCount; }
+
+    public RoomSnapshot getSnapshot() { return snapshot; }
+    public void setSnapshot(RoomSnapshot snapshot) { this.snapshot = snapshot; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+    public void setArchivedAt(LocalDateTime archivedAt) { this.archivedAt = archivedAt; }
+}
@@ -0,0 +1,60 @@
+package com.example.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 이벤트 아웃박스 엔티티
+ * 변경과 같은 트랜잭션에서 기록되고, 커밋 후 RealtimeOutbox가 커밋 순서대로 발행한 뒤 삭제
+ * (커밋 직후 서버가 종료되어도 다음 시작 시 남은 이벤트를 id 순서대로 발행)
+ */
+@Entity
+@Table(name = "realtime_outbox")
+public class RealtimeOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private EventType eventType;
+
+    // 바뀐 방 (보스 목록 이벤트는 목록에서 바뀐 방)
+    @Column(name = "room_id")
+    private Long roomId;
+
+    // ROOM_DELTA의 RoomDelta (JSON)
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public EventType getEventType() { return eventType; }
+    public void setEventType(EventType eventType) { this.eventType = eventType; }
+
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public enum EventType {
+        ROOM_DELTA,     // 방 변경 델타 (/topic/raid-room/{roomId})
+        ROOM_SNAPSHOT,  // 방 전체 스냅샷 (/topic/raid-room/{roomId})
+        BOSS_LIST       // 보스 목록에서 방 변경 (/topic/bosses/today, LobbyBoard)
+    }
+}
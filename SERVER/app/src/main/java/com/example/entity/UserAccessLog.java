@@ -6,6 +6,8 @@ import java.time.LocalDateTime;
 /**
  * 사용자 접속/해제 로그 엔티티
  * 수화룡 레이드 방 접속 기록을 저장
+ * PostgreSQL에서는 created_at 기준 월별 파티션 테이블 (db/migration/partition_user_access_logs.sql)
+ * 기본 키는 (id, created_at)이지만 id만으로도 유일하므로 엔티티 매핑은 그대로 사용
  */
 @Entity
 @Table(name = "user_access_logs", indexes = {
@@ -1,12 +1,15 @@
 package com.example.repository;
 
+import com.example.dto.ChannelRow;
 import com.example.entity.Channel;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,23 @@ public interface ChannelRepository extends JpaRepository<Channel, Long> {
     @Query("SELECT c FROM Channel c WHERE c.raidRoom.id = :raidRoomId AND c.channelNumber = :channelNumber")
     Optional<Channel> findByRaidRoomIdAndChannelNumber(@Param("raidRoomId") Long raidRoomId, @Param("channelNumber") Integer channelNumber);
     
+    // 방의 채널 컬럼만 조회 (읽기 모델용)
+    @Query("SELECT new com.example.dto.ChannelRow(c.id, c.channelNumber, c.isDefeated, c.memo, " +
+           "c.bossHeukColor, c.bossJinColor, c.bossMukColor, c.bossGamColor, " +
+           "c.waterDragonDefeatedAt, c.fireDragonDefeatedAt) " +
+           "FROM Channel c WHERE c.raidRoom.id = :raidRoomId " +
+           "ORDER BY c.channelNumber ASC, c.id ASC")
+    List<ChannelRow> findRowsByRaidRoomId(@Param("raidRoomId") Long raidRoomId);
+    
+    // 채널이 속한 방 ID만 조회 (채널 엔티티 로드 없이 방 확인용)
+    @Query("SELECT c.raidRoom.id FROM Channel c WHERE c.id = :channelId")
+    Optional<Long> findRaidRoomIdById(@Param("channelId") Long channelId);
+    
+    // 방들의 채널 일괄 삭제 (보관 후, 채널 유저를 먼저 삭제해야 함)
+    @Modifying
+    @Query("DELETE FROM Channel c WHERE c.raidRoom.id IN :roomIds")
+    int deleteAllByRaidRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
+    
     // raidRoom을 함께 로드하여 lazy loading 문제 방지
     @EntityGraph(attributePaths = {"raidRoom"})
     @Query("SELECT c FROM Channel c WHERE c.id = :channelId")
@@ -2,10 +2,12 @@ package com.example.repository;
 
 import com.example.entity.ChannelUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,5 +20,10 @@ public interface ChannelUserRepository extends JpaRepository<ChannelUser, Long>
     
     @Query("SELECT cu FROM ChannelUser cu WHERE cu.user.id = :userId AND cu.channel.raidRoom.id = :roomId")
     List<ChannelUser> findByUserIdAndRoomId(@Param("userId") Long userId, @Param("roomId") Long roomId);
+    
+    // 방들의 채널 유저 일괄 삭제 (보관 후)
+    @Modifying
+    @Query("DELETE FROM ChannelUser cu WHERE cu.channel.id IN " +
+           "(SELECT c.id FROM Channel c WHERE c.raidRoom.id IN :roomIds)")
+    int deleteAllByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
 }
-
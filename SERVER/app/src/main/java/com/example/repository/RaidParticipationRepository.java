@@ -1,9 +1,14 @@
 package com.example.repository;
 
+import com.example.dto.ParticipantRow;
 import com.example.entity.RaidParticipation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +25,33 @@ public interface RaidParticipationRepository extends JpaRepository<RaidParticipa
      */
     Optional<RaidParticipation> findByUserIdAndRaidRoomId(Long userId, Long raidRoomId);
     
+    /**
+     * 특정 사용자의 참가 기록 삭제 (참석 토글, 조회 없이 삭제 한 번)
+     * @return 삭제된 행 수 (0이면 참가하지 않은 상태)
+     */
+    @Modifying
+    @Query("DELETE FROM RaidParticipation p WHERE p.user.id = :userId AND p.raidRoom.id = :roomId")
+    int deleteByUserIdAndRaidRoomId(@Param("userId") Long userId, @Param("roomId") Long roomId);
+    
+    /**
+     * 특정 레이드 방의 참가자를 사용자 프로필과 함께 한 번에 조회 (읽기 모델용)
+     */
+    @Query("SELECT new com.example.dto.ParticipantRow(u.id, u.username, u.displayName, u.avatarUrl) " +
+           "FROM RaidParticipation p JOIN p.user u " +
+           "WHERE p.raidRoom.id = :roomId " +
+           "ORDER BY p.id ASC")
+    List<ParticipantRow> findRowsByRaidRoomId(@Param("roomId") Long roomId);
+    
     /**
      * 특정 사용자의 모든 참가 기록 조회
      */
     List<RaidParticipation> findByUserId(Long userId);
+    
+    /**
+     * 방들의 참가 기록 일괄 삭제 (보관 후)
+     */
+    @Modifying
+    @Query("DELETE FROM RaidParticipation p WHERE p.raidRoom.id IN :roomIds")
+    int deleteAllByRaidRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
 }
 
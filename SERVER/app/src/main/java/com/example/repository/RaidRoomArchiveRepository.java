@@ -0,0 +1,33 @@
+package com.example.repository;
+
+import com.example.dto.CompletedRoomRow;
+import com.example.entity.RaidRoomArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RaidRoomArchiveRepository extends JpaRepository<RaidRoomArchive, Long> {
+    
+    // 보관된 완료 방 첫 페이지 (completedAt, roomId 내림차순, 요약 컬럼만 조회)
+    @Query("SELECT new com.example.dto.CompletedRoomRow(a.roomId, a.bossName, a.bossType, a.raidDate, a.raidTime, a.completedAt, " +
+           "CAST(a.channelCount AS Long)) " +
+           "FROM RaidRoomArchive a " +
+           "ORDER BY a.completedAt DESC, a.roomId DESC")
+    List<CompletedRoomRow> findPage(Pageable pageable);
+    
+    // 보관된 완료 방 다음 페이지 (커서 (completedAt, roomId)보다 뒤의 행부터)
+    @Query("SELECT new com.example.dto.CompletedRoomRow(a.roomId, a.bossName, a.bossType, a.raidDate, a.raidTime, a.completedAt, " +
+           "CAST(a.channelCount AS Long)) " +
+           "FROM RaidRoomArchive a " +
+           "WHERE a.completedAt < :completedAt OR (a.completedAt = :completedAt AND a.roomId < :id) " +
+           "ORDER BY a.completedAt DESC, a.roomId DESC")
+    List<CompletedRoomRow> findPageAfter(@Param("completedAt") LocalDateTime completedAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+}
@@ -1,12 +1,19 @@
 package com.example.repository;
 
+import com.example.dto.CompletedRoomRow;
+import com.example.dto.LobbyRoomRow;
+import com.example.dto.RoomHeaderRow;
 import com.example.entity.RaidRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +25,14 @@ public interface RaidRoomRepository extends JpaRepository<RaidRoom, Long> {
     @Query("SELECT r FROM RaidRoom r WHERE r.raidDate >= :date ORDER BY r.raidDate ASC, r.raidTime ASC")
     List<RaidRoom> findByRaidDateGreaterThanEqual(@Param("date") LocalDate date);
     
+    // 보스 목록 방 행 조회 (오늘 이후, 완료되지 않은 방, 채널 수는 GROUP BY로 집계하여 쿼리 1회)
+    @Query("SELECT new com.example.dto.LobbyRoomRow(r.id, b.id, b.name, b.type, r.raidDate, r.raidTime, r.isCompleted, r.createdAt, COUNT(c)) " +
+           "FROM RaidRoom r JOIN r.boss b LEFT JOIN r.channels c " +
+           "WHERE r.raidDate >= :date AND (r.isCompleted = false OR r.isCompleted IS NULL) " +
+           "GROUP BY r.id, b.id, b.name, b.type, r.raidDate, r.raidTime, r.isCompleted, r.createdAt " +
+           "ORDER BY r.raidDate ASC, r.raidTime ASC, r.id ASC")
+    List<LobbyRoomRow> findBoardRowsFrom(@Param("date") LocalDate date);
+    
     @Query("SELECT r FROM RaidRoom r WHERE r.raidDate = :date AND r.boss.id = :bossId")
     Optional<RaidRoom> findByRaidDateAndBossId(@Param("date") LocalDate date, @Param("bossId") Long bossId);
     
@@ -25,9 +40,48 @@ public interface RaidRoomRepository extends JpaRepository<RaidRoom, Long> {
     @Query("SELECT r FROM RaidRoom r WHERE r.raidDate = :date AND r.boss.id = :bossId AND (r.isCompleted = false OR r.isCompleted IS NULL)")
     List<RaidRoom> findActiveByRaidDateAndBossId(@Param("date") LocalDate date, @Param("bossId") Long bossId);
     
-    // 완료된 방 조회
-    @Query("SELECT r FROM RaidRoom r WHERE r.isCompleted = true ORDER BY r.completedAt DESC")
-    List<RaidRoom> findCompletedRooms();
+    // 완료된 방 첫 페이지 (completedAt, id 내림차순, idx_raid_rooms_completed_page 인덱스 순서대로 읽음)
+    // 채널 수는 페이지에 포함된 방에 대해서만 서브쿼리로 집계
+    @Query("SELECT new com.example.dto.CompletedRoomRow(r.id, b.name, b.type, r.raidDate, r.raidTime, r.completedAt, " +
+           "(SELECT COUNT(c) FROM Channel c WHERE c.raidRoom = r)) " +
+           "FROM RaidRoom r JOIN r.boss b " +
+           "WHERE r.isCompleted = true AND r.completedAt IS NOT NULL " +
+           "ORDER BY r.completedAt DESC, r.id DESC")
+    List<CompletedRoomRow> findCompletedPage(Pageable pageable);
+    
+    // 완료된 방 다음 페이지 (커서 (completedAt, id)보다 뒤의 행부터, OFFSET 없음)
+    @Query("SELECT new com.example.dto.CompletedRoomRow(r.id, b.name, b.type, r.raidDate, r.raidTime, r.completedAt, " +
+           "(SELECT COUNT(c) FROM Channel c WHERE c.raidRoom = r)) " +
+           "FROM RaidRoom r JOIN r.boss b " +
+           "WHERE r.isCompleted = true AND r.completedAt IS NOT NULL " +
+           "AND (r.completedAt < :completedAt OR (r.completedAt = :completedAt AND r.id < :id)) " +
+           "ORDER BY r.completedAt DESC, r.id DESC")
+    List<CompletedRoomRow> findCompletedPageAfter(@Param("completedAt") LocalDateTime completedAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+    
+    // 보관 대상 방 ID (완료 후 cutoff 이전, 오래된 순)
+    @Query("SELECT r.id FROM RaidRoom r " +
+           "WHERE r.isCompleted = true AND r.completedAt < :cutoff " +
+           "ORDER BY r.completedAt ASC, r.id ASC")
+    List<Long> findArchivableRoomIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    // 보관 대상 방 ID (보관에 실패해 잠시 건너뛰는 방 제외, excluded는 비어 있으면 안 됨)
+    @Query("SELECT r.id FROM RaidRoom r " +
+           "WHERE r.isCompleted = true AND r.completedAt < :cutoff AND r.id NOT IN :excluded " +
+           "ORDER BY r.completedAt ASC, r.id ASC")
+    List<Long> findArchivableRoomIdsExcluding(@Param("cutoff") LocalDateTime cutoff,
+                                              @Param("excluded") Collection<Long> excluded,
+                                              Pageable pageable);
+    
+    // 방 일괄 삭제 (보관 후, 채널/참가 기록을 먼저 삭제해야 함)
+    @Modifying
+    @Query("DELETE FROM RaidRoom r WHERE r.id IN :roomIds")
+    int deleteAllByIdIn(@Param("roomIds") Collection<Long> roomIds);
+    
+    // 완료되지 않은 방 ID 목록 (인메모리 방 상태 저장소 구성용)
+    @Query("SELECT r.id FROM RaidRoom r WHERE r.isCompleted = false OR r.isCompleted IS NULL")
+    List<Long> findActiveRoomIds();
     
     // 채널만 함께 로드 (MultipleBagFetchException 방지를 위해 channelUsers는 별도 조회)
     // Hibernate는 여러 @OneToMany 컬렉션을 동시에 JOIN FETCH할 수 없음
@@ -36,6 +90,19 @@ public interface RaidRoomRepository extends JpaRepository<RaidRoom, Long> {
            "WHERE r.id = :roomId")
     Optional<RaidRoom> findByIdWithChannels(@Param("roomId") Long roomId);
     
+    // 방 헤더(방 + 보스 컬럼)만 조회 (읽기 모델용, 연관 컬렉션 로드 없음)
+    @Query("SELECT new com.example.dto.RoomHeaderRow(r.id, b.id, b.name, b.type, r.raidDate, r.raidTime, r.isCompleted, r.completedAt) " +
+           "FROM RaidRoom r LEFT JOIN r.boss b " +
+           "WHERE r.id = :roomId")
+    Optional<RoomHeaderRow> findHeaderById(@Param("roomId") Long roomId);
+    
+    // 로비 보드 방 행 조회 (방 + 보스 컬럼 + 채널 수, 채널 컬렉션 로드 없음)
+    @Query("SELECT new com.example.dto.LobbyRoomRow(r.id, b.id, b.name, b.type, r.raidDate, r.raidTime, r.isCompleted, r.createdAt, COUNT(c)) " +
+           "FROM RaidRoom r JOIN r.boss b LEFT JOIN r.channels c " +
+           "WHERE r.id IN :roomIds " +
+           "GROUP BY r.id, b.id, b.name, b.type, r.raidDate, r.raidTime, r.isCompleted, r.createdAt")
+    List<LobbyRoomRow> findLobbyRowsByIds(@Param("roomIds") Collection<Long> roomIds);
+    
     // 수화룡 레이드 방 찾기 (날짜 무관, 완료되지 않은 것만)
     @Query("SELECT r FROM RaidRoom r " +
            "WHERE r.boss.type = :bossType " +
@@ -0,0 +1,17 @@
+package com.example.repository;
+
+import com.example.entity.RealtimeOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RealtimeOutboxRepository extends JpaRepository<RealtimeOutboxEvent, Long> {
+
+    /**
+     * 이전 실행에서 발행하지 못하고 남은 이벤트를 기록 순서대로 조회 (시작 시 복구용)
+     */
+    List<RealtimeOutboxEvent> findByOrderByIdAsc(Pageable pageable);
+}
@@ -4,39 +4,160 @@ import com.example.repository.UserAccessLogRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * 접속 로그 정리 스케줄러
  * 3개월 이상 된 접속 로그를 자동으로 삭제
+ *
+ * user_access_logs가 월별 파티션 테이블이면 (db/migration/partition_user_access_logs.sql)
+ * - 앞으로 쓸 파티션을 미리 생성 (PARTITIONS_AHEAD개월)
+ * - 보존 기간이 지난 파티션은 DROP TABLE로 통째로 삭제 (행 단위 DELETE 없음)
+ * 파티션 테이블이 아니면 기존처럼 DELETE로 삭제
  */
 @Component
 public class AccessLogCleanupScheduler {
-    
+
     private static final Logger logger = LoggerFactory.getLogger(AccessLogCleanupScheduler.class);
-    
+
+    private static final String TABLE_NAME = "user_access_logs";
+    private static final String PARTITION_PREFIX = TABLE_NAME + "_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // 보존 기간 (개월)
+    private static final int RETENTION_MONTHS = 3;
+
+    // 미리 만들어 둘 파티션 수 (이번 달 이후)
+    private static final int PARTITIONS_AHEAD = 2;
+
     @Autowired
     private UserAccessLogRepository userAccessLogRepository;
-    
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 시작 시 파티션 준비 (배포가 월말을 넘겨도 기록할 파티션이 있도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareOnStartup() {
+        try {
+            if (isPartitioned()) {
+                createFuturePartitions();
+            }
+        } catch (Exception e) {
+            logger.error("[접속 로그 정리] 시작 시 파티션 준비 중 오류 발생", e);
+        }
+    }
+
     /**
      * 매일 새벽 3시에 실행하여 3개월 이상 된 로그 삭제
      * cron 표현식: 초 분 시 일 월 요일
      * 0 0 3 * * ? = 매일 03:00:00
      */
     @Scheduled(cron = "0 0 3 * * ?")
-    @Transactional
     public void cleanupOldLogs() {
         try {
             // 3개월 전 날짜 계산
-            LocalDateTime cutoffDate = LocalDateTime.now().minusMonths(3);
-            
+            LocalDateTime cutoffDate = LocalDateTime.now().minusMonths(RETENTION_MONTHS);
+
+            if (isPartitioned()) {
+                createFuturePartitions();
+                dropExpiredPartitions(cutoffDate);
+            } else {
+                deleteOldRows(cutoffDate);
+            }
+        } catch (Exception e) {
+            logger.error("[접속 로그 정리] 오래된 로그 삭제 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * user_access_logs가 파티션 테이블인지 확인 (PostgreSQL이 아니면 false)
+     */
+    private boolean isPartitioned() {
+        try {
+            Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt " +
+                "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?)",
+                Boolean.class, TABLE_NAME);
+            return Boolean.TRUE.equals(partitioned);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 이번 달부터 PARTITIONS_AHEAD개월 뒤까지 파티션 생성 (이미 있으면 건너뜀)
+     */
+    private void createFuturePartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= PARTITIONS_AHEAD; i++) {
+            YearMonth month = current.plusMonths(i);
+            LocalDate from = month.atDay(1);
+            LocalDate to = month.plusMonths(1).atDay(1);
+            jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                PARTITION_PREFIX + month.format(PARTITION_SUFFIX), TABLE_NAME, from, to));
+        }
+    }
+
+    /**
+     * 범위 전체가 기준일 이전인 파티션 삭제
+     */
+    private void dropExpiredPartitions(LocalDateTime cutoffDate) {
+        List<String> partitions = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = ?",
+            String.class, TABLE_NAME);
+
+        int droppedCount = 0;
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(matcher.group(1), PARTITION_SUFFIX);
+            LocalDateTime upperBound = month.plusMonths(1).atDay(1).atStartOfDay();
+            if (!upperBound.isAfter(cutoffDate)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                droppedCount++;
+                logger.info("[접속 로그 정리] 만료된 파티션 삭제: {}", partition);
+            }
+        }
+
+        if (droppedCount == 0) {
+            logger.debug("[접속 로그 정리] 삭제할 파티션이 없습니다 (기준일: {})", cutoffDate);
+        }
+    }
+
+    /**
+     * 파티션 테이블이 아닌 경우 행 단위로 삭제
+     */
+    private void deleteOldRows(LocalDateTime cutoffDate) {
+        transactionTemplate.executeWithoutResult(status -> {
             // 삭제될 레코드 수 확인
             long countToDelete = userAccessLogRepository.countOldLogs(cutoffDate);
-            
+
             if (countToDelete > 0) {
                 // 오래된 로그 삭제
                 int deletedCount = userAccessLogRepository.deleteOldLogs(cutoffDate);
@@ -44,9 +165,6 @@ public class AccessLogCleanupScheduler {
             } else {
                 logger.debug("[접속 로그 정리] 삭제할 로그가 없습니다 (기준일: {})", cutoffDate);
             }
-        } catch (Exception e) {
-            logger.error("[접속 로그 정리] 오래된 로그 삭제 중 오류 발생", e);
-        }
+        });
     }
 }
-
@@ -0,0 +1,272 @@
+package com.example.service;
+
+import com.example.config.ExecutorConfig;
+import com.example.entity.UserAccessLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접속/해제 로그 일괄 기록기
+ *
+ * 접속/해제 이벤트마다 트랜잭션을 하나씩 만들지 않고, 제한된 크기의 메모리 큐에 쌓은 뒤
+ * 전용 스레드가 최대 batch-size건씩 꺼내 여러 행 INSERT 한 번으로 기록
+ * (배포 직후 재접속이 몰려도 DB 커넥션은 기록 스레드 하나만 사용)
+ *
+ * - 사용자 엔티티를 조회하지 않고 user_id만 기록
+ * - 큐가 가득 차면 새 로그는 버리고 realtime.access-log.dropped 증가 (게임 요청을 막지 않음)
+ * - 데이터 오류(제약 위반 등)로 일괄 기록이 실패하면 행 단위로 다시 기록 (잘못된 행 하나 때문에 배치 전체를 잃지 않도록)
+ * - DB 연결/일시 오류면 행 단위로 재시도하지 않고 배치를 큐에 한 번만 되돌린 뒤 대기 시간을 늘려가며 쉼
+ *   (다시 실패한 로그는 버림, DB 장애 중에 행마다 커넥션 타임아웃을 기다리지 않도록)
+ * - 종료 시 남은 로그를 모두 기록
+ */
+@Service
+public class AccessLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogWriter.class);
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO user_access_logs (user_id, room_id, action, session_id, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${realtime.access-log.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // INSERT 1회당 최대 행 수
+    @Value("${realtime.access-log.batch-size:500}")
+    private int batchSize;
+
+    // 로그가 적을 때 배치를 모으기 위해 기다리는 최대 시간
+    @Value("${realtime.access-log.flush-interval-ms:1000}")
+    private long flushIntervalMillis;
+
+    // DB 연결/일시 오류 후 첫 대기 시간 (연속 실패 시 두 배씩 늘림)
+    @Value("${realtime.access-log.retry-backoff-ms:1000}")
+    private long retryBackoffMillis;
+
+    @Value("${realtime.access-log.max-backoff-ms:30000}")
+    private long maxBackoffMillis;
+
+    private BlockingQueue<Entry> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    // 현재 대기 시간 (기록 스레드에서만 사용, 성공하면 0)
+    private long backoffMillis;
+
+    private Counter writtenCounter;
+    private Counter droppedCounter;
+    private Counter failureCounter;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        writtenCounter = Counter.builder("realtime.access-log.written")
+            .description("DB에 기록된 접속 로그 수")
+            .register(meterRegistry);
+        droppedCounter = Counter.builder("realtime.access-log.dropped")
+            .description("큐가 가득 차거나 기록에 실패하여 버려진 접속 로그 수")
+            .register(meterRegistry);
+        failureCounter = Counter.builder("realtime.access-log.write.failures")
+            .description("접속 로그 일괄 기록 실패 횟수")
+            .register(meterRegistry);
+        Gauge.builder("realtime.access-log.queue.depth", this, writer -> writer.queue.size())
+            .description("기록 대기 중인 접속 로그 수")
+            .register(meterRegistry);
+
+        running = true;
+        writerThread = ExecutorConfig.dedicatedThreads(ExecutorConfig.ACCESS_LOG_WRITER).newThread(this::runWriter);
+        writerThread.start();
+    }
+
+    /**
+     * 종료 시 기록 스레드를 멈추고 남은 로그를 모두 기록
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Entry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            List<Entry> failed = write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            if (!failed.isEmpty()) {
+                droppedCounter.increment(failed.size());
+                logger.error("종료 중 접속 로그 기록 실패로 버림: {}건", failed.size());
+            }
+        }
+        logger.info("접속 로그 기록기 종료: 남은 로그 {}건 기록", remaining.size());
+    }
+
+    /**
+     * 접속/해제 로그를 큐에 추가 (호출 스레드는 DB를 기다리지 않음)
+     * @return 큐가 가득 차서 버려졌으면 false
+     */
+    public boolean enqueue(Long userId, Long roomId, UserAccessLog.AccessAction action, String sessionId) {
+        Entry entry = new Entry(userId, roomId, action, sessionId, LocalDateTime.now(), false);
+        if (!queue.offer(entry)) {
+            droppedCounter.increment();
+            logger.warn("접속 로그 큐가 가득 차서 로그를 버림: userId={}, roomId={}, action={}", userId, roomId, action);
+            return false;
+        }
+        return true;
+    }
+
+    private void runWriter() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Entry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                List<Entry> failed = write(batch);
+                if (failed.isEmpty()) {
+                    backoffMillis = 0;
+                } else {
+                    requeue(failed);
+                    backOff();
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청 (남은 로그는 shutdown에서 기록)
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("접속 로그 기록 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 여러 행 INSERT 한 번으로 기록, 데이터 오류면 행 단위로 재시도
+     * @return DB 연결/일시 오류로 기록하지 못한 로그 (모두 기록했거나 데이터 오류로 버렸으면 빈 목록)
+     */
+    private List<Entry> write(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        try {
+            insert(entries);
+            writtenCounter.increment(entries.size());
+            logger.debug("접속 로그 일괄 기록: {}건", entries.size());
+            return List.of();
+        } catch (DataIntegrityViolationException e) {
+            failureCounter.increment();
+            logger.warn("접속 로그 일괄 기록 실패(데이터 오류), 행 단위로 재시도: {}건", entries.size(), e);
+            return writeRows(entries);
+        } catch (Exception e) {
+            failureCounter.increment();
+            logger.warn("접속 로그 일괄 기록 실패(DB 연결/일시 오류): {}건", entries.size(), e);
+            return entries;
+        }
+    }
+
+    /**
+     * 행 단위로 기록 (데이터 오류인 행만 버리고, 연결/일시 오류가 나면 남은 행은 기록하지 않고 반환)
+     */
+    private List<Entry> writeRows(List<Entry> entries) {
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            try {
+                insert(List.of(entry));
+                writtenCounter.increment();
+            } catch (DataIntegrityViolationException rowError) {
+                droppedCounter.increment();
+                logger.error("접속 로그 기록 실패: userId={}, roomId={}, action={}",
+                    entry.userId(), entry.roomId(), entry.action(), rowError);
+            } catch (Exception rowError) {
+                logger.warn("접속 로그 행 단위 기록 중단(DB 연결/일시 오류): 남은 {}건", entries.size() - i, rowError);
+                return entries.subList(i, entries.size());
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 기록하지 못한 로그를 큐에 한 번만 되돌림 (이미 되돌린 로그이거나 큐가 가득 차면 버림)
+     */
+    private void requeue(List<Entry> failed) {
+        int dropped = 0;
+        for (Entry entry : failed) {
+            if (entry.retried() || !queue.offer(entry.retry())) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+            logger.error("접속 로그 재시도 실패로 버림: {}건", dropped);
+        }
+    }
+
+    /**
+     * DB 연결/일시 오류 후 대기 (연속 실패 시 두 배씩 늘려 max-backoff-ms까지)
+     */
+    private void backOff() throws InterruptedException {
+        backoffMillis = backoffMillis == 0 ? retryBackoffMillis : Math.min(backoffMillis * 2, maxBackoffMillis);
+        logger.warn("접속 로그 기록 {}ms 대기 후 재개", backoffMillis);
+        Thread.sleep(backoffMillis);
+    }
+
+    private void insert(List<Entry> entries) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + entries.size() * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        Object[] args = new Object[entries.size() * 5];
+        int i = 0;
+        for (Entry entry : entries) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            args[i++] = entry.userId();
+            args[i++] = entry.roomId();
+            args[i++] = entry.action().name();
+            args[i++] = entry.sessionId();
+            args[i++] = Timestamp.valueOf(entry.createdAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /**
+     * @param retried 기록 실패 후 큐에 되돌린 로그 (다시 실패하면 버림)
+     */
+    private record Entry(Long userId, Long roomId, UserAccessLog.AccessAction action, String sessionId,
+                         LocalDateTime createdAt, boolean retried) {
+
+        Entry retry() {
+            return new Entry(userId, roomId, action, sessionId, createdAt, true);
+        }
+    }
+}
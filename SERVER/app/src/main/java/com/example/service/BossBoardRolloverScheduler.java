@@ -0,0 +1,58 @@
+package com.example.service;
+
+import com.example.dto.BossBoardView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 보스 목록 자정 전환 스케줄러
+ * todayBosses 캐시 키와 로비 보드가 날짜 기준이라 자정 직후 첫 요청들이 모두 DB 조회를 기다리게 됨
+ * - 자정 직전: 다음 날 보드를 미리 구성해 캐시에 넣음 (방 의존성도 함께 기록되어 그 사이 변경은 무효화됨)
+ * - 자정: 로비 보드를 새 날짜 보드로 한 번에 교체하고 전날 캐시 항목 제거
+ */
+@Component
+public class BossBoardRolloverScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BossBoardRolloverScheduler.class);
+
+    @Autowired
+    private BossService bossService;
+
+    @Autowired
+    private LobbyBoard lobbyBoard;
+
+    /**
+     * 다음 날 보드 미리 구성 (기본 23:58, todayBosses TTL 안에 자정이 오도록)
+     */
+    @Scheduled(cron = "${cache.rollover.precompute-cron:0 58 23 * * *}")
+    public void precomputeNextDay() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        try {
+            BossBoardView board = bossService.precomputeBoard(tomorrow);
+            logger.info("[보스 목록 전환] {} 보드 미리 구성 완료 (보스 {}종)", tomorrow, board.bosses().size());
+        } catch (Exception e) {
+            logger.error("[보스 목록 전환] {} 보드 미리 구성 중 오류 발생", tomorrow, e);
+        }
+    }
+
+    /**
+     * 매일 00:00:00 새 날짜로 전환
+     * 미리 구성한 항목이 없거나 무효화됐으면 여기서 한 번 조회 (요청 스레드 대신 스케줄러가 기다림)
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollOver() {
+        LocalDate today = LocalDate.now();
+        try {
+            lobbyBoard.rollOver(today, bossService.precomputeBoard(today));
+            bossService.evictBoard(today.minusDays(1));
+            logger.info("[보스 목록 전환] {} 보드로 전환 완료", today);
+        } catch (Exception e) {
+            logger.error("[보스 목록 전환] {} 보드 전환 중 오류 발생", today, e);
+        }
+    }
+}
@@ -1,19 +1,28 @@
 package com.example.service;
 
+import com.example.dto.BossBoardView;
+import com.example.dto.LobbyRoomRow;
 import com.example.entity.Boss;
 import com.example.entity.BossType;
 import com.example.entity.RaidRoom;
 import com.example.repository.BossRepository;
 import com.example.repository.RaidRoomRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,90 +46,124 @@ public class BossService {
     @Autowired
     private CacheManager cacheManager;
     
+    @Autowired
+    private CacheLoadCoalescer cacheLoadCoalescer;
+    
+    @Autowired
+    private CacheDependencyIndex cacheDependencyIndex;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate readOnlyTransaction;
+    
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+    
     /**
      * 오늘 이후의 모든 보스 레이드 목록 조회
      * 이벤트 기반 캐싱: DB 변경 시에만 재조회, 그 외에는 캐시 사용
+     * 캐시 미스가 동시에 발생하면 한 번만 조회하고 결과를 공유 (CacheLoadCoalescer)
+     * 합류한 요청이 대기하는 동안 커넥션을 잡지 않도록 트랜잭션은 실제 조회할 때만 시작
+     * 캐시 항목은 목록에 포함된 각 방(room:{roomId})과 기준 날짜(board-from:{date})에 의존 (CacheDependencyIndex)
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = "todayBosses", key = "#root.method.name + '_' + T(java.time.LocalDate).now().toString()")
-    public Map<String, Object> getTodayBosses() {
-        try {
-            LocalDate today = LocalDate.now();
-            List<RaidRoom> upcomingRooms;
-            
-            try {
-                // 오늘 이후의 모든 레이드 방 조회
-                upcomingRooms = raidRoomRepository.findByRaidDateGreaterThanEqual(today);
-            } catch (Exception e) {
-                // 오류 발생 시 빈 리스트 반환
-                upcomingRooms = new java.util.ArrayList<>();
-            }
-            
-            // 방이 없으면 빈 리스트 반환
-            if (upcomingRooms == null || upcomingRooms.isEmpty()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("bosses", new java.util.ArrayList<>());
-                return response;
+    @Cacheable(value = "todayBosses", key = "T(java.time.LocalDate).now()")
+    public BossBoardView getTodayBosses() {
+        LocalDate today = LocalDate.now();
+        return cacheLoadCoalescer.load("todayBosses", today, () -> loadAndRecord(today));
+    }
+    
+    /**
+     * date 기준 보스 목록을 미리 구성하여 todayBosses 캐시에 넣음 (BossBoardRolloverScheduler가 자정 직전 호출)
+     * 자정이 지나 getTodayBosses의 키가 date로 바뀌면 첫 요청부터 캐시에서 응답
+     * 이미 캐시에 있으면 그대로 사용
+     */
+    public BossBoardView precomputeBoard(LocalDate date) {
+        Cache cache = cacheManager.getCache("todayBosses");
+        BossBoardView cached = cache != null ? cache.get(date, BossBoardView.class) : null;
+        if (cached != null) {
+            return cached;
+        }
+        BossBoardView board = cacheLoadCoalescer.load("todayBosses", date, () -> loadAndRecord(date));
+        if (cache != null) {
+            cache.putIfAbsent(date, board);
+        }
+        return board;
+    }
+    
+    /**
+     * 지난 날짜의 보스 목록을 캐시에서 제거 (의존성 색인은 제거 리스너가 정리)
+     */
+    public void evictBoard(LocalDate date) {
+        Cache cache = cacheManager.getCache("todayBosses");
+        if (cache != null) {
+            cache.evict(date);
+        }
+        cacheLoadCoalescer.invalidate("todayBosses", date);
+    }
+    
+    /**
+     * date 기준 보스 목록 조회 후 의존성 기록 (읽기 전용 트랜잭션)
+     */
+    private BossBoardView loadAndRecord(LocalDate date) {
+        BossBoardView board = readOnlyTransaction.execute(status -> loadTodayBosses(date));
+        cacheDependencyIndex.record("todayBosses", date, board, dependenciesOf(date, board));
+        return board;
+    }
+    
+    /**
+     * 보스 목록의 의존성 (기준 날짜 + 목록에 포함된 방)
+     */
+    private static List<String> dependenciesOf(LocalDate today, BossBoardView board) {
+        List<String> dependencies = new ArrayList<>();
+        dependencies.add(CacheDependencyIndex.boardFrom(today));
+        if (board != null) {
+            for (BossBoardView.BossEntry boss : board.bosses()) {
+                for (BossBoardView.RoomEntry room : boss.rooms()) {
+                    dependencies.add(CacheDependencyIndex.room(room.id()));
+                }
             }
-            
-            // 보스별로 그룹화 (null 체크 추가, 완료되지 않은 것만)
-            Map<Boss, List<RaidRoom>> bossRooms = upcomingRooms.stream()
-                .filter(room -> room.getBoss() != null)
-                .filter(room -> room.getIsCompleted() == null || !room.getIsCompleted())
-                .collect(Collectors.groupingBy(RaidRoom::getBoss));
-            
-            List<Map<String, Object>> bosses = bossRooms.entrySet().stream()
-                .map(entry -> {
-                    Boss boss = entry.getKey();
-                    List<RaidRoom> rooms = entry.getValue();
-                    
-                    Map<String, Object> bossData = new HashMap<>();
-                    bossData.put("id", boss.getId());
-                    bossData.put("name", boss.getName());
-                    bossData.put("type", boss.getType().name());
-                    // 정렬을 위한 우선순위 (DRAGON이 항상 위에)
-                    bossData.put("sortOrder", boss.getType() == BossType.DRAGON ? 0 : 1);
-                    
-                    List<Map<String, Object>> roomList = rooms.stream().map(room -> {
-                        Map<String, Object> roomData = new HashMap<>();
-                        roomData.put("id", room.getId());
-                        roomData.put("channelCount", room.getChannels() != null ? room.getChannels().size() : 0);
-                        
-                        // raidTime 처리
-                        LocalTime raidTime = room.getRaidTime();
-                        String raidTimeStr = raidTime != null ? raidTime.toString() : "";
-                        roomData.put("raidTime", raidTimeStr);
-                        
-                        // raidDate 추가
-                        LocalDate raidDate = room.getRaidDate();
-                        roomData.put("raidDate", raidDate != null ? raidDate.toString() : "");
-                        
-                        roomData.put("createdAt", room.getCreatedAt() != null ? room.getCreatedAt().toString() : null);
-                        roomData.put("bossName", boss.getName());
-                        roomData.put("bossType", boss.getType() != null ? boss.getType().name() : "UNKNOWN");
-                        return roomData;
-                    }).collect(Collectors.toList());
-                    
-                    bossData.put("rooms", roomList);
-                    return bossData;
-                })
-                .sorted((b1, b2) -> {
-                    // DRAGON을 항상 위에 (sortOrder 기준 정렬)
-                    Integer order1 = (Integer) b1.get("sortOrder");
-                    Integer order2 = (Integer) b2.get("sortOrder");
-                    return order1.compareTo(order2);
-                })
-                .collect(Collectors.toList());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("bosses", bosses);
-            return response;
-        } catch (Exception e) {
-            // 오류 발생 시 빈 리스트 반환
-            Map<String, Object> response = new HashMap<>();
-            response.put("bosses", new java.util.ArrayList<>());
-            return response;
         }
+        return dependencies;
+    }
+    
+    /**
+     * date 이후 보스 목록 조회
+     * 방 + 보스 컬럼 + 채널 수를 GROUP BY 프로젝션 한 번으로 조회 (방 수와 무관하게 쿼리 1회, 채널 엔티티 로드 없음)
+     * 조회 실패는 그대로 전달 (빈 목록을 캐시/로비 보드에 넣으면 그날 내내 빈 로비가 보이므로)
+     */
+    private BossBoardView loadTodayBosses(LocalDate date) {
+        return buildBoard(raidRoomRepository.findBoardRowsFrom(date));
+    }
+    
+    /**
+     * 방 행을 보스별로 묶어 보스 목록 구성
+     * 방은 조회 순서(날짜, 시간, ID)를 유지하고, 보스는 sortOrder 기준 정렬 (DRAGON이 항상 위에)
+     */
+    static BossBoardView buildBoard(List<LobbyRoomRow> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return BossBoardView.empty();
+        }
+        
+        Map<Long, List<LobbyRoomRow>> rowsByBoss = rows.stream()
+            .collect(Collectors.groupingBy(LobbyRoomRow::bossId, LinkedHashMap::new, Collectors.toList()));
+        
+        List<BossBoardView.BossEntry> bosses = rowsByBoss.values().stream()
+            .map(bossRows -> {
+                LobbyRoomRow first = bossRows.get(0);
+                List<BossBoardView.RoomEntry> roomList = bossRows.stream()
+                    .map(LobbyRoomRow::toRoomEntry)
+                    .toList();
+                return new BossBoardView.BossEntry(first.bossId(), first.bossName(), first.bossTypeName(),
+                    first.sortOrder(), roomList);
+            })
+            .sorted(Comparator.comparing(BossBoardView.BossEntry::sortOrder))
+            .toList();
+        
+        return new BossBoardView(bosses);
     }
     
     /**
@@ -234,23 +277,21 @@ public class BossService {
                 
                 room = raidRoomRepository.save(room);
                 
-                // 트랜잭션 커밋 후 캐시 무효화 및 브로드캐스트
+                // 트랜잭션 커밋 후 새 방의 날짜를 포함하는 보스 목록만 무효화
                 if (org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive()) {
                     org.springframework.transaction.support.TransactionSynchronizationManager
                         .registerSynchronization(new org.springframework.transaction.support.TransactionSynchronization() {
                             @Override
                             public void afterCommit() {
-                                // 캐시 무효화
-                                evictTodayBossesCache();
-                                // 보스 목록 브로드캐스트
-                                realtimeBossService.broadcastBossListUpdate();
+                                evictTodayBossesCache(raidDate);
                             }
                         });
                 } else {
                     // 트랜잭션 외부에서 호출된 경우 즉시 실행
-                    evictTodayBossesCache();
-                    realtimeBossService.broadcastBossListUpdate();
+                    evictTodayBossesCache(raidDate);
                 }
+                // 보스 목록 브로드캐스트 (아웃박스로 커밋 후 발행)
+                realtimeBossService.broadcastBossListUpdate(room.getId());
                 
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", true);
@@ -276,27 +317,22 @@ public class BossService {
     }
     
     /**
-     * todayBosses 캐시 무효화
+     * raidDate의 방이 생겼을 때 달라지는 todayBosses 항목만 무효화 (기준 날짜가 raidDate 이하인 목록)
      */
-    private void evictTodayBossesCache() {
+    private void evictTodayBossesCache(LocalDate raidDate) {
         try {
-            if (cacheManager != null) {
-                var todayBossesCache = cacheManager.getCache("todayBosses");
-                if (todayBossesCache != null) {
-                    todayBossesCache.clear();
-                }
-            }
+            cacheDependencyIndex.evictBoardsCovering(raidDate);
         } catch (Exception e) {
             // 캐시 무효화 실패는 무시
         }
     }
     
     /**
-     * 완료된 레이드 방 목록 조회
+     * 완료된 레이드 방 목록 조회 (키셋 페이지, RaidRoomService.getCompletedRooms)
      */
     @Transactional(readOnly = true)
-    public Map<String, Object> getCompletedRooms() {
-        return raidRoomService.getCompletedRooms();
+    public Map<String, Object> getCompletedRooms(String cursor, Integer size) {
+        return raidRoomService.getCompletedRooms(cursor, size);
     }
 }
 
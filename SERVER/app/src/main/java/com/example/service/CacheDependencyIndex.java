@@ -0,0 +1,195 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 캐시 항목의 의존성 색인 (변경된 방/날짜에 의존하는 항목만 무효화)
+ *
+ * 캐시에 넣는 값을 만들 때 어떤 방/날짜에 의존하는지 기록해 두고,
+ * 변경이 생기면 캐시 전체를 비우지 않고 그 의존성을 가진 항목만 제거
+ * - raidRoom[roomId]: room:{roomId}
+ * - todayBosses[date]: 목록에 포함된 각 방의 room:{roomId} + board-from:{date}
+ *   (board-from: raidDate가 date 이후인 방이 새로 생기면 목록이 달라짐)
+ *
+ * 캐시에서 만료/제거된 항목은 CacheConfig의 제거 리스너가 onRemoval로 알려 색인에서도 제거
+ *
+ * 의존성은 로더 안에서 기록되고 캐시 저장(@Cacheable)은 그 뒤에 일어나므로,
+ * 그 사이에 무효화되면 색인 없이 캐시에 남는 항목이 생길 수 있음
+ * 그래서 evictRoom은 색인과 관계없이 raidRoom[roomId]와 색인에 없는 보스 목록을 직접 제거하고,
+ * 색인은 그 외의 항목(그 방이 포함된 보스 목록)을 찾는 데만 사용 (evictBoardsCovering도 색인에 없는 목록은 직접 제거)
+ *
+ * 지표: cache.invalidation.entries (tag: dependency) - 무효화 1회당 제거된 항목 수
+ */
+@Component
+public class CacheDependencyIndex {
+
+    private static final String ROOM = "room:";
+    private static final String BOARD_FROM = "board-from:";
+
+    private static final String RAID_ROOM = "raidRoom";
+    private static final String TODAY_BOSSES = "todayBosses";
+
+    // CacheConfig가 이 색인을 제거 리스너로 사용하므로 지연 조회 (순환 참조 방지)
+    @Autowired
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    @Autowired
+    private CacheLoadCoalescer cacheLoadCoalescer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 의존성 -> 그 의존성을 가진 캐시 항목
+    private final Map<String, Set<EntryRef>> dependents = new ConcurrentHashMap<>();
+
+    // 캐시 항목 -> 기록된 값과 의존성
+    private final Map<EntryRef, Recorded> entries = new ConcurrentHashMap<>();
+
+    public static String room(Long roomId) {
+        return ROOM + roomId;
+    }
+
+    public static String boardFrom(LocalDate date) {
+        return BOARD_FROM + date;
+    }
+
+    /**
+     * 캐시에 들어갈 값의 의존성 기록 (같은 항목의 이전 기록은 대체)
+     */
+    public void record(String cacheName, Object key, Object value, Collection<String> dependencies) {
+        EntryRef ref = new EntryRef(cacheName, key);
+        Recorded recorded = new Recorded(value, Set.copyOf(dependencies));
+        for (String dependency : recorded.dependencies()) {
+            dependents.compute(dependency, (k, refs) -> {
+                Set<EntryRef> linked = refs != null ? refs : ConcurrentHashMap.newKeySet();
+                linked.add(ref);
+                return linked;
+            });
+        }
+        Recorded previous = entries.put(ref, recorded);
+        if (previous != null) {
+            unlink(ref, previous.dependencies(), recorded.dependencies());
+        }
+    }
+
+    /**
+     * 캐시에서 항목이 제거됨 (만료/크기 초과/명시적 제거)
+     * 기록된 값과 같은 값일 때만 색인에서 제거 (이미 새 값이 기록된 경우 유지)
+     */
+    public void onRemoval(String cacheName, Object key, Object value) {
+        EntryRef ref = new EntryRef(cacheName, key);
+        Recorded recorded = entries.get(ref);
+        if (recorded != null && recorded.value() == value && entries.remove(ref, recorded)) {
+            unlink(ref, recorded.dependencies(), Set.of());
+        }
+    }
+
+    /**
+     * 방에 의존하는 항목 제거 (방 스냅샷 + 그 방이 포함된 보스 목록)
+     * 방 스냅샷과 색인에 없는 보스 목록은 색인과 관계없이 직접 제거
+     * @return 제거된 항목 수
+     */
+    public int evictRoom(Long roomId) {
+        String dependency = room(roomId);
+        Set<EntryRef> direct = new HashSet<>();
+        direct.add(new EntryRef(RAID_ROOM, roomId));
+        direct.addAll(unindexedEntries(TODAY_BOSSES));
+        return evictIf(dependency::equals, direct, "room");
+    }
+
+    /**
+     * raidDate의 방이 새로 생겼을 때 달라지는 보스 목록 제거 (기준 날짜가 raidDate 이하인 목록 + 색인에 없는 목록)
+     * @return 제거된 항목 수
+     */
+    public int evictBoardsCovering(LocalDate raidDate) {
+        return evictIf(dependency -> dependency.startsWith(BOARD_FROM)
+            && (raidDate == null || !LocalDate.parse(dependency.substring(BOARD_FROM.length())).isAfter(raidDate)),
+            unindexedEntries(TODAY_BOSSES), "board-date");
+    }
+
+    /**
+     * 의존성이 matcher와 일치하는 항목과 direct 항목 제거
+     */
+    private int evictIf(Predicate<String> matcher, Set<EntryRef> direct, String dependencyType) {
+        Set<EntryRef> targets = new HashSet<>(direct);
+        dependents.forEach((dependency, refs) -> {
+            if (matcher.test(dependency)) {
+                targets.addAll(refs);
+            }
+        });
+
+        int removed = 0;
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        for (EntryRef ref : targets) {
+            Recorded recorded = entries.remove(ref);
+            if (recorded != null) {
+                unlink(ref, recorded.dependencies(), Set.of());
+            }
+            Cache cache = cacheManager != null ? cacheManager.getCache(ref.cacheName()) : null;
+            if (cache != null && cache.evictIfPresent(ref.key())) {
+                removed++;
+            }
+            cacheLoadCoalescer.invalidate(ref.cacheName(), ref.key());
+        }
+
+        DistributionSummary.builder("cache.invalidation.entries")
+            .tag("dependency", dependencyType)
+            .description("무효화 1회당 제거된 캐시 항목 수")
+            .register(meterRegistry)
+            .record(removed);
+        return removed;
+    }
+
+    /**
+     * 캐시에 있지만 색인에 기록이 없는 항목 (기록과 캐시 저장 사이에 무효화된 항목)
+     */
+    private Set<EntryRef> unindexedEntries(String cacheName) {
+        Set<EntryRef> unindexed = new HashSet<>();
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        Cache cache = cacheManager != null ? cacheManager.getCache(cacheName) : null;
+        if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            for (Object key : nativeCache.asMap().keySet()) {
+                EntryRef ref = new EntryRef(cacheName, key);
+                if (!entries.containsKey(ref)) {
+                    unindexed.add(ref);
+                }
+            }
+        }
+        return unindexed;
+    }
+
+    /**
+     * 의존성 -> 항목 연결 제거 (새 기록에도 있는 의존성은 유지)
+     */
+    private void unlink(EntryRef ref, Set<String> dependencies, Set<String> keep) {
+        for (String dependency : dependencies) {
+            if (keep.contains(dependency)) {
+                continue;
+            }
+            dependents.computeIfPresent(dependency, (k, refs) -> {
+                refs.remove(ref);
+                return refs.isEmpty() ? null : refs;
+            });
+        }
+    }
+
+    private record EntryRef(String cacheName, Object key) {
+    }
+
+    private record Recorded(Object value, Set<String> dependencies) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 시 같은 키의 동시 조회를 하나로 합치는 single-flight 로더
+ *
+ * 변경 직후 캐시가 비워지면 열려 있는 모든 탭이 동시에 같은 방/보스 목록을 조회함
+ * 같은 (캐시 이름, 키)에 대해 이미 진행 중인 조회가 있으면 새로 조회하지 않고 그 결과를 함께 기다림
+ * (첫 요청만 DB를 조회하고, 나머지는 같은 결과 객체를 받음)
+ *
+ * 캐시를 무효화할 때 invalidate도 호출해야 함
+ * (무효화 이전에 시작된 조회에 무효화 이후 요청이 합류하여 변경 전 데이터를 받지 않도록)
+ *
+ * 지표: cache.singleflight.loads / cache.singleflight.coalesced / cache.singleflight.load.duration (tag: cache)
+ */
+@Component
+public class CacheLoadCoalescer {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 진행 중인 조회 ((캐시 이름, 키) -> 결과)
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 키의 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 직접 조회
+     * 조회 중 예외가 발생하면 함께 기다리던 요청에도 같은 예외가 전달됨
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V load(String cacheName, Object key, Supplier<V> loader) {
+        FlightKey flightKey = new FlightKey(cacheName, key);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, created);
+
+        if (existing != null) {
+            counter("cache.singleflight.coalesced", "진행 중인 조회에 합류한 요청 수", cacheName).increment();
+            try {
+                return (V) existing.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+
+        counter("cache.singleflight.loads", "캐시 미스로 실제 조회한 횟수", cacheName).increment();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, created);
+            sample.stop(Timer.builder("cache.singleflight.load.duration")
+                .tag("cache", cacheName)
+                .description("캐시 미스 조회 소요 시간")
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 키의 진행 중인 조회와 연결을 끊음 (이후 요청은 새로 조회)
+     */
+    public void invalidate(String cacheName, Object key) {
+        inFlight.remove(new FlightKey(cacheName, key));
+    }
+
+    /**
+     * 캐시의 모든 진행 중인 조회와 연결을 끊음
+     */
+    public void invalidateAll(String cacheName) {
+        inFlight.keySet().removeIf(flightKey -> flightKey.cacheName().equals(cacheName));
+    }
+
+    private Counter counter(String name, String description, String cacheName) {
+        return Counter.builder(name)
+            .tag("cache", cacheName)
+            .description(description)
+            .register(meterRegistry);
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return e;
+    }
+
+    private record FlightKey(String cacheName, Object key) {
+    }
+}
@@ -0,0 +1,346 @@
+package com.example.service;
+
+import com.example.config.ApplicationContextProvider;
+import com.example.config.ExecutorConfig;
+import com.example.dto.BossBoardView;
+import com.example.dto.LobbyDelta;
+import com.example.dto.LobbyRoomRow;
+import com.example.repository.RaidRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 로비 보드 (오늘 이후 보스 레이드 목록을 메모리에 유지하고 변경된 방만 델타로 발행)
+ *
+ * 동작 방식:
+ * 1. 처음 조회할 때 (또는 날짜가 바뀌면) BossService.getTodayBosses로 보드 전체를 한 번 구성
+ * 2. 방 생성/완료/삭제, 채널 수 변경은 markDirty(roomId)로 알림 (RealtimeOutbox가 커밋 후 호출)
+ * 3. 발행 간격(realtime.lobby.publish-interval-ms)마다 최대 한 번, 그동안 바뀐 방만
+ *    방+보스+채널 수 프로젝션 한 번으로 다시 읽어 보드에 반영하고 lobby_delta 하나로 발행
+ *    (채널 일괄 생성처럼 같은 방이 여러 번 바뀌어도 조회/발행은 한 번)
+ *
+ * 보드 상태는 불변 스냅샷(SnapshotHolder)으로 보관
+ * - 조회는 잠금 없이 현재 스냅샷의 미리 구성된 응답을 반환
+ * - 델타 반영/자정 전환은 새 스냅샷을 만들어 compare-and-set으로 교체
+ * - 다시 구성이 필요하면 (처음 조회, 날짜 변경) 세대당 한 번만 조회, 날짜 변경 시 다른 조회는 기다리지 않고 이전 보드를 반환
+ *
+ * 클라이언트는 REST 보드의 version부터 fromVersion이 이어지는 델타만 적용하고, 끊기면 REST로 다시 조회
+ *
+ * 지표: realtime.lobby.requests / realtime.lobby.publishes / realtime.lobby.ops
+ */
+@Service
+public class LobbyBoard {
+
+    private static final Logger logger = LoggerFactory.getLogger(LobbyBoard.class);
+
+    private static final String TOPIC = "/topic/bosses/today";
+    private static final String TYPE_DELTA = "lobby_delta";
+
+    private static final Comparator<LiveRoom> ROOM_ORDER = Comparator
+        .comparing(LiveRoom::raidDate, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(LiveRoom::raidTime, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(room -> room.entry().id());
+
+    @Autowired
+    private RaidRoomRepository raidRoomRepository;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 로비 델타 최소 발행 간격
+    @Value("${realtime.lobby.publish-interval-ms:500}")
+    private long publishIntervalMillis;
+
+    private ScheduledExecutorService publisher;
+
+    // 다음 발행 때 다시 읽을 방
+    private final Set<Long> dirtyRooms = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile long lastPublishMillis;
+
+    // 보드 상태 (불변 스냅샷, 읽기는 잠금 없이 현재 스냅샷을 그대로 사용)
+    private final SnapshotHolder<LobbyState> board = new SnapshotHolder<>();
+
+    private Counter requestCounter;
+    private Counter publishCounter;
+    private DistributionSummary opsSummary;
+
+    @PostConstruct
+    public void init() {
+        requestCounter = Counter.builder("realtime.lobby.requests")
+            .description("로비 보드 갱신 요청 수 (병합 전)")
+            .register(meterRegistry);
+        publishCounter = Counter.builder("realtime.lobby.publishes")
+            .description("로비 델타 발행 수")
+            .register(meterRegistry);
+        opsSummary = DistributionSummary.builder("realtime.lobby.ops")
+            .description("로비 델타 1회당 변경된 방 수")
+            .register(meterRegistry);
+
+        publisher = Executors.newSingleThreadScheduledExecutor(ExecutorConfig.dedicatedThreads(ExecutorConfig.LOBBY_PUBLISHER));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+    }
+
+    /**
+     * 버전이 붙은 현재 보드 (GET /api/bosses/today)
+     * 스냅샷을 그대로 반환 (잠금 없음), 처음 조회하거나 날짜가 바뀐 경우에만 한 번 다시 구성
+     */
+    public BossBoardView view() {
+        return current().view();
+    }
+
+    private LobbyState current() {
+        return board.read(
+            state -> LocalDate.now().equals(state.date()),
+            stale -> LobbyState.load(LocalDate.now(), getBossService().getTodayBosses(), versionOf(stale)));
+    }
+
+    /**
+     * 방이 바뀌었음을 알림 (다음 발행 때 다시 읽어 델타로 발행)
+     */
+    public void markDirty(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        requestCounter.increment(roomIds.size());
+        dirtyRooms.addAll(roomIds);
+        scheduleFlush();
+    }
+
+    /**
+     * 마지막 발행 후 발행 간격이 지난 시점에 한 번만 발행 예약
+     */
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            long delay = Math.max(0, lastPublishMillis + publishIntervalMillis - System.currentTimeMillis());
+            try {
+                publisher.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                // 종료 중이면 발행하지 않음 (클라이언트는 다음 조회 때 최신 보드를 받음)
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * 바뀐 방을 다시 읽어 보드에 반영하고 델타 발행 (발행 스레드에서만 실행)
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        Set<Long> roomIds = new HashSet<>(dirtyRooms);
+        dirtyRooms.removeAll(roomIds);
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        boolean retry = false;
+        try {
+            SnapshotHolder.Snapshot<LobbyState> snapshot = board.snapshot();
+            if (snapshot == null) {
+                // 아직 보드가 없음 (처음 구성 중인 조회가 이 변경 전에 읽었을 수 있으므로 보드가 생긴 뒤 다시 반영)
+                dirtyRooms.addAll(roomIds);
+                retry = true;
+                return;
+            }
+            if (!LocalDate.now().equals(snapshot.value().date())
+                && !LocalDate.now().equals(current().date())) {
+                // 날짜가 바뀌어 다른 스레드가 보드를 다시 구성 중 (구성이 끝난 뒤 다시 반영)
+                dirtyRooms.addAll(roomIds);
+                retry = true;
+                return;
+            }
+            Map<Long, LobbyRoomRow> rows = new HashMap<>();
+            for (LobbyRoomRow row : raidRoomRepository.findLobbyRowsByIds(roomIds)) {
+                rows.put(row.id(), row);
+            }
+            publish(roomIds, rows);
+        } catch (Exception e) {
+            // 다시 dirty로 표시하여 발행 간격 뒤에 재시도 (일시적인 DB 오류로 방 변경이 빠지지 않도록)
+            logger.error("로비 델타 발행 실패, 재시도 예약: rooms={}", roomIds, e);
+            dirtyRooms.addAll(roomIds);
+            retry = true;
+        } finally {
+            lastPublishMillis = System.currentTimeMillis();
+        }
+        if (retry) {
+            scheduleFlush();
+        }
+    }
+
+    private void publish(Set<Long> roomIds, Map<Long, LobbyRoomRow> rows) {
+        SnapshotHolder.Snapshot<LobbyState> published = board.update(state ->
+            state == null || !LocalDate.now().equals(state.date()) ? null : state.apply(roomIds, rows));
+        if (published == null) {
+            return;
+        }
+        LobbyState state = published.value();
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", TYPE_DELTA);
+        message.put("fromVersion", state.version() - 1);
+        message.put("toVersion", state.version());
+        message.put("ops", state.ops());
+        message.put("_timestamp", System.currentTimeMillis());
+        opsSummary.record(state.ops().size());
+
+        messagingTemplate.convertAndSend(TOPIC, message);
+        publishCounter.increment();
+    }
+
+    /**
+     * 날짜 전환 (BossBoardRolloverScheduler가 자정에 호출)
+     * 미리 구성된 새 날짜의 보드로 한 번에 교체하고 버전이 붙은 전체 보드를 발행
+     * (구독 중인 클라이언트는 다시 조회하지 않고 전체 보드로 교체)
+     */
+    public void rollOver(LocalDate today, BossBoardView view) {
+        // 자정 직후 요청이 먼저 새 날짜 보드를 구성했으면 교체 없이 발행만
+        board.update(state -> state != null && today.equals(state.date())
+            ? null
+            : LobbyState.load(today, view, versionOf(state)));
+        messagingTemplate.convertAndSend(TOPIC, view());
+        publishCounter.increment();
+    }
+
+    private static long versionOf(LobbyState state) {
+        return state == null ? 0 : state.version();
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value == null || value.isEmpty() ? null : LocalDate.parse(value);
+    }
+
+    private static LocalTime parseTime(String value) {
+        return value == null || value.isEmpty() ? null : LocalTime.parse(value);
+    }
+
+    /**
+     * BossService를 지연 로딩으로 가져오기 (순환 참조 방지)
+     */
+    private BossService getBossService() {
+        ApplicationContext context = ApplicationContextProvider.getApplicationContext();
+        return context.getBean(BossService.class);
+    }
+
+    /**
+     * 보드에 올라간 방 (정렬용 날짜/시간 + 발행할 방 요약)
+     */
+    private record LiveRoom(Long bossId, LocalDate raidDate, LocalTime raidTime, BossBoardView.RoomEntry entry) {
+    }
+
+    /**
+     * 보드 상태 한 세대 (불변)
+     * @param version 클라이언트에 보내는 보드 버전 (델타마다 1씩 증가, 다시 구성하면 건너뜀)
+     * @param ops 이전 버전에서 이 버전이 된 변경 (다시 구성한 경우 비어 있음)
+     * @param view 이 상태의 REST 응답 (상태를 만들 때 한 번만 구성)
+     */
+    private record LobbyState(LocalDate date, long version, Map<Long, LiveRoom> rooms,
+                              Map<Long, LobbyDelta.BossRef> bosses, List<LobbyDelta> ops, BossBoardView view) {
+
+        /**
+         * 보드 전체 구성 (처음 조회, 날짜 변경, 자정 전환)
+         * 이전 버전에서 이어지지 않도록 버전을 건너뜀 (델타를 받던 클라이언트는 다시 조회)
+         */
+        static LobbyState load(LocalDate date, BossBoardView board, long previousVersion) {
+            Map<Long, LiveRoom> rooms = new HashMap<>();
+            Map<Long, LobbyDelta.BossRef> bosses = new HashMap<>();
+            for (BossBoardView.BossEntry boss : board.bosses()) {
+                bosses.put(boss.id(), new LobbyDelta.BossRef(boss.id(), boss.name(), boss.type(), boss.sortOrder()));
+                for (BossBoardView.RoomEntry room : boss.rooms()) {
+                    rooms.put(room.id(), new LiveRoom(boss.id(), parseDate(room.raidDate()), parseTime(room.raidTime()), room));
+                }
+            }
+            long version = Math.max(previousVersion + 2, System.currentTimeMillis());
+            logger.info("로비 보드 구성: date={}, rooms={}, version={}", date, rooms.size(), version);
+            return of(date, version, rooms, bosses, List.of());
+        }
+
+        private static LobbyState of(LocalDate date, long version, Map<Long, LiveRoom> rooms,
+                                     Map<Long, LobbyDelta.BossRef> bosses, List<LobbyDelta> ops) {
+            return new LobbyState(date, version, Map.copyOf(rooms), Map.copyOf(bosses), List.copyOf(ops),
+                render(rooms, bosses, version));
+        }
+
+        /**
+         * 바뀐 방 행을 반영한 다음 버전 (목록에 없어야 하는 방은 제거)
+         * @return 다음 상태, 보드가 바뀌지 않았으면 null
+         */
+        LobbyState apply(Set<Long> roomIds, Map<Long, LobbyRoomRow> rows) {
+            Map<Long, LiveRoom> nextRooms = new HashMap<>(rooms);
+            Map<Long, LobbyDelta.BossRef> nextBosses = new HashMap<>(bosses);
+            List<LobbyDelta> changes = new ArrayList<>();
+            for (Long roomId : roomIds) {
+                LobbyRoomRow row = rows.get(roomId);
+                boolean listed = row != null
+                    && !Boolean.TRUE.equals(row.isCompleted())
+                    && row.raidDate() != null
+                    && !row.raidDate().isBefore(date);
+                if (!listed) {
+                    if (nextRooms.remove(roomId) != null) {
+                        changes.add(LobbyDelta.roomRemoved(roomId));
+                    }
+                    continue;
+                }
+
+                LobbyDelta.BossRef boss = new LobbyDelta.BossRef(row.bossId(), row.bossName(), row.bossTypeName(), row.sortOrder());
+                nextBosses.put(boss.id(), boss);
+                LiveRoom room = new LiveRoom(boss.id(), row.raidDate(), row.raidTime(), row.toRoomEntry());
+                if (!room.equals(nextRooms.put(roomId, room))) {
+                    changes.add(LobbyDelta.roomUpserted(boss, room.entry()));
+                }
+            }
+            return changes.isEmpty() ? null : of(date, version + 1, nextRooms, nextBosses, changes);
+        }
+
+        private static BossBoardView render(Map<Long, LiveRoom> rooms, Map<Long, LobbyDelta.BossRef> bosses, long version) {
+            List<BossBoardView.BossEntry> entries = new ArrayList<>();
+            Map<Long, List<LiveRoom>> roomsByBoss = new HashMap<>();
+            for (LiveRoom room : rooms.values()) {
+                roomsByBoss.computeIfAbsent(room.bossId(), k -> new ArrayList<>()).add(room);
+            }
+            roomsByBoss.forEach((bossId, bossRooms) -> {
+                LobbyDelta.BossRef boss = bosses.get(bossId);
+                List<BossBoardView.RoomEntry> roomList = bossRooms.stream()
+                    .sorted(ROOM_ORDER)
+                    .map(LiveRoom::entry)
+                    .toList();
+                entries.add(new BossBoardView.BossEntry(boss.id(), boss.name(), boss.type(), boss.sortOrder(), roomList));
+            });
+            // DRAGON을 항상 위에 (sortOrder 기준 정렬)
+            entries.sort(Comparator.comparing(BossBoardView.BossEntry::sortOrder)
+                .thenComparing(BossBoardView.BossEntry::id));
+            return new BossBoardView(List.copyOf(entries), version);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.service;
+
+import com.example.dto.ChannelUserRow;
+import com.example.dto.RoomDelta;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채널 이동중 표시 레지스트리 (방별 인메모리, DB 기록 없음)
+ *
+ * "N채널로 이동중" 표시는 WebSocket 세션 동안만 의미가 있는 일시적인 상태이므로
+ * channel_users 테이블 대신 메모리에만 보관 (선택/해제 시 DB 쓰기 없음)
+ * - 방별 ConcurrentHashMap(userId -> 채널 유저)으로 관리, 사용자 단위 원자적 갱신 (별도 락 없음)
+ * - 사용자의 마지막 세션이 방을 나가면 WebSocketConnectionService가 표시를 제거
+ * - 한 사용자는 한 방에서 한 채널만 선택 가능
+ *
+ * 재시작 대비 스냅샷 (선택):
+ * realtime.moving-state.snapshot-path를 지정하면 종료 시 파일로 저장하고 시작 시 복원
+ * 복원된 표시는 restore-grace-ms 안에 다시 접속하지 않은 사용자의 것만 제거
+ */
+@Service
+public class MovingStateRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovingStateRegistry.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 비어 있으면 스냅샷 저장/복원 안 함
+    @Value("${realtime.moving-state.snapshot-path:}")
+    private String snapshotPath;
+
+    // 방별 이동중 사용자 (roomId -> (userId -> 채널 유저))
+    private final Map<Long, Map<Long, ChannelUserRow>> rooms = new ConcurrentHashMap<>();
+
+    // 스냅샷에서 복원되어 아직 재접속 확인이 안 된 방
+    private final Set<Long> restoredRooms = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("realtime.moving-state.users", rooms,
+                map -> map.values().stream().mapToInt(Map::size).sum())
+            .description("이동중 표시 중인 사용자 수")
+            .register(meterRegistry);
+        restoreSnapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveSnapshot();
+    }
+
+    /**
+     * 사용자의 이동중 채널 토글 (같은 채널을 다시 선택하면 해제, 다른 채널이면 이동)
+     * @param moving 선택할 채널 유저 정보
+     * @return 이동중인 채널 유저 (해제되면 null)
+     */
+    public ChannelUserRow toggle(Long roomId, ChannelUserRow moving) {
+        Map<Long, ChannelUserRow> users = rooms.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>());
+        return users.compute(moving.userId(), (userId, current) ->
+            current != null && moving.channelId().equals(current.channelId()) ? null : moving);
+    }
+
+    /**
+     * 사용자의 이동중 표시 제거
+     * @return 제거된 표시가 있었으면 true
+     */
+    public boolean clear(Long roomId, Long userId) {
+        Map<Long, ChannelUserRow> users = rooms.get(roomId);
+        return users != null && users.remove(userId) != null;
+    }
+
+    /**
+     * 방의 채널별 이동중 사용자 (channelId -> 이동중 사용자 목록, 사용자가 없는 채널은 키 없음)
+     */
+    public Map<Long, List<ChannelUserRow>> usersByChannel(Long roomId) {
+        Map<Long, ChannelUserRow> users = rooms.get(roomId);
+        if (users == null || users.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<ChannelUserRow>> byChannel = new HashMap<>();
+        for (ChannelUserRow user : users.values()) {
+            byChannel.computeIfAbsent(user.channelId(), k -> new ArrayList<>()).add(user);
+        }
+        return byChannel;
+    }
+
+    /**
+     * 삭제된 채널의 이동중 표시 제거
+     */
+    public void removeChannel(Long roomId, Long channelId) {
+        Map<Long, ChannelUserRow> users = rooms.get(roomId);
+        if (users != null) {
+            users.values().removeIf(user -> channelId.equals(user.channelId()));
+        }
+    }
+
+    /**
+     * 완료/삭제된 방의 이동중 표시 전체 제거
+     */
+    public void removeRoom(Long roomId) {
+        rooms.remove(roomId);
+        restoredRooms.remove(roomId);
+    }
+
+    /**
+     * 스냅샷에서 복원된 표시 중 유예 시간 안에 재접속하지 않은 사용자의 표시 제거
+     */
+    @Scheduled(initialDelayString = "${realtime.moving-state.restore-grace-ms:60000}",
+               fixedDelayString = "${realtime.moving-state.restore-grace-ms:60000}")
+    public void dropUnclaimedRestored() {
+        if (restoredRooms.isEmpty()) {
+            return;
+        }
+        // 순환 참조 방지를 위해 ApplicationContextProvider 사용
+        var context = com.example.config.ApplicationContextProvider.getApplicationContext();
+        WebSocketConnectionService connectionService = context.getBean(WebSocketConnectionService.class);
+        RealtimeBossService realtimeBossService = context.getBean(RealtimeBossService.class);
+
+        for (Long roomId : List.copyOf(restoredRooms)) {
+            restoredRooms.remove(roomId);
+            Map<Long, ChannelUserRow> users = rooms.get(roomId);
+            if (users == null) {
+                continue;
+            }
+            Set<Long> connected = connectionService.getConnectedUserIds(roomId);
+            for (Long userId : List.copyOf(users.keySet())) {
+                if (!connected.contains(userId) && users.remove(userId) != null) {
+                    realtimeBossService.publishRoomDelta(roomId, RoomDelta.userMoved(userId, null, null));
+                }
+            }
+        }
+    }
+
+    private void restoreSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return;
+        }
+        Path path = Path.of(snapshotPath);
+        if (!Files.exists(path)) {
+            return;
+        }
+        try {
+            Map<Long, List<ChannelUserRow>> saved = objectMapper.readValue(path.toFile(),
+                new TypeReference<Map<Long, List<ChannelUserRow>>>() {});
+            saved.forEach((roomId, users) -> {
+                Map<Long, ChannelUserRow> map = rooms.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>());
+                users.forEach(user -> map.put(user.userId(), user));
+                restoredRooms.add(roomId);
+            });
+            // 한 번만 사용 (비정상 종료 후 오래된 스냅샷이 다시 복원되지 않도록)
+            Files.delete(path);
+            logger.info("이동중 표시 복원: rooms={}, path={}", saved.size(), path);
+        } catch (Exception e) {
+            logger.warn("이동중 표시 스냅샷 복원 실패: path={}", path, e);
+        }
+    }
+
+    private void saveSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return;
+        }
+        Path path = Path.of(snapshotPath);
+        try {
+            Map<Long, List<ChannelUserRow>> snapshot = new LinkedHashMap<>();
+            rooms.forEach((roomId, users) -> {
+                if (!users.isEmpty()) {
+                    snapshot.put(roomId, List.copyOf(users.values()));
+                }
+            });
+            objectMapper.writeValue(path.toFile(), snapshot);
+            logger.info("이동중 표시 스냅샷 저장: rooms={}, path={}", snapshot.size(), path);
+        } catch (Exception e) {
+            logger.warn("이동중 표시 스냅샷 저장 실패: path={}", path, e);
+        }
+    }
+}
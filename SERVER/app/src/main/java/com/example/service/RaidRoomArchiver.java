@@ -0,0 +1,256 @@
+package com.example.service;
+
+import com.example.dto.RoomSnapshot;
+import com.example.entity.BossType;
+import com.example.entity.RaidRoomArchive;
+import com.example.repository.ChannelRepository;
+import com.example.repository.ChannelUserRepository;
+import com.example.repository.RaidParticipationRepository;
+import com.example.repository.RaidRoomArchiveRepository;
+import com.example.repository.RaidRoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 완료된 레이드 방 보관 스케줄러
+ * 완료 후 유예 기간(rooms.archive.grace-days)이 지난 방을 raid_room_archives 한 행(스냅샷 JSON + 요약 컬럼)으로 압축하고
+ * 방/채널/채널 유저/참가 기록 행은 일괄 삭제 (진행 중인 방 조회가 훑는 테이블을 작게 유지)
+ *
+ * 배치마다:
+ * 1. 보관 대상 방 ID 조회 (오래 완료된 순서로 batch-size개, 최근에 실패한 방 제외)
+ * 2. 방마다 스냅샷 조회 (읽기 모델, 방마다 짧은 읽기 트랜잭션)
+ *    조회에 실패한 방은 retry-after-ms 동안 건너뜀 (다음 배치가 같은 방을 다시 읽지 않고 넘어가도록)
+ * 3. 한 트랜잭션에서 보관 행 저장 + 채널 유저/채널/참가 기록/방 순서로 IN 조건 일괄 삭제
+ * 4. 커밋 후 방 캐시와 메모리 상태(버전/스냅샷 프레임/재생 버퍼 포함) 제거
+ * 완료된 방은 더 이상 바뀌지 않으므로 2와 3 사이에 잠금을 잡지 않음
+ *
+ * 지표: rooms.archive.archived / rooms.archive.failed / rooms.archive.deleted.rows
+ */
+@Component
+public class RaidRoomArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(RaidRoomArchiver.class);
+
+    @Autowired
+    private RaidRoomRepository raidRoomRepository;
+
+    @Autowired
+    private RaidRoomArchiveRepository raidRoomArchiveRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private ChannelUserRepository channelUserRepository;
+
+    @Autowired
+    private RaidParticipationRepository raidParticipationRepository;
+
+    @Autowired
+    private RaidRoomService raidRoomService;
+
+    @Autowired
+    private CacheDependencyIndex cacheDependencyIndex;
+
+    @Autowired
+    private RoomStateStore roomStateStore;
+
+    @Autowired
+    private RealtimeBossService realtimeBossService;
+
+    @Autowired
+    private MovingStateRegistry movingStateRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${rooms.archive.enabled:true}")
+    private boolean enabled;
+
+    // 완료 후 보관까지 유예 기간 (그동안은 원래 테이블에서 조회)
+    @Value("${rooms.archive.grace-days:7}")
+    private int graceDays;
+
+    // 한 트랜잭션에서 보관할 방 수
+    @Value("${rooms.archive.batch-size:50}")
+    private int batchSize;
+
+    // 한 번 실행할 때 처리할 최대 배치 수 (밀린 방이 많아도 한 번에 오래 붙잡지 않도록)
+    @Value("${rooms.archive.max-batches:20}")
+    private int maxBatches;
+
+    // 스냅샷 조회에 실패한 방을 건너뛰는 기간
+    @Value("${rooms.archive.retry-after-ms:86400000}")
+    private long retryAfterMillis;
+
+    // 보관에 실패해 잠시 건너뛰는 방 (roomId, retry-after-ms 후 만료)
+    private Cache<Long, Boolean> failedRooms;
+
+    private Counter archivedCounter;
+    private Counter failedCounter;
+    private Counter deletedRowsCounter;
+
+    @PostConstruct
+    public void init() {
+        failedRooms = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(retryAfterMillis))
+            .build();
+        archivedCounter = Counter.builder("rooms.archive.archived")
+            .description("보관된 완료 방 수")
+            .register(meterRegistry);
+        failedCounter = Counter.builder("rooms.archive.failed")
+            .description("스냅샷 조회 실패로 건너뛴 방 수")
+            .register(meterRegistry);
+        deletedRowsCounter = Counter.builder("rooms.archive.deleted.rows")
+            .description("보관 후 삭제된 방/채널/채널 유저/참가 기록 행 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 기본 매시간 실행 (rooms.archive.interval-ms)
+     */
+    @Scheduled(fixedDelayString = "${rooms.archive.interval-ms:3600000}", initialDelayString = "${rooms.archive.initial-delay-ms:60000}")
+    public void archiveCompletedRooms() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(graceDays);
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                BatchResult result = archiveBatch(cutoff);
+                total += result.archived();
+                if (result.selected() < batchSize) {
+                    break;
+                }
+            }
+            if (total > 0) {
+                logger.info("[방 보관] 완료된 방 {}개 보관 완료 (기준: {} 이전 완료)", total, cutoff);
+            }
+        } catch (Exception e) {
+            logger.error("[방 보관] 완료된 방 보관 중 오류 발생 ({}개 보관 후 중단)", total, e);
+        }
+    }
+
+    /**
+     * 배치 결과 (selected: 조회된 보관 대상 수, batchSize보다 작으면 남은 방 없음 / archived: 실제로 보관된 수)
+     */
+    private record BatchResult(int selected, int archived) {
+    }
+
+    /**
+     * cutoff 이전에 완료된 방을 최대 batchSize개 보관
+     * 스냅샷 조회에 실패한 방은 실패로 기록하여 다음 배치부터 제외
+     */
+    private BatchResult archiveBatch(LocalDateTime cutoff) {
+        Set<Long> excluded = Set.copyOf(failedRooms.asMap().keySet());
+        List<Long> roomIds = transactionTemplate.execute(status -> excluded.isEmpty()
+            ? raidRoomRepository.findArchivableRoomIds(cutoff, PageRequest.of(0, batchSize))
+            : raidRoomRepository.findArchivableRoomIdsExcluding(cutoff, excluded, PageRequest.of(0, batchSize)));
+        if (roomIds == null || roomIds.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        List<RaidRoomArchive> archives = new ArrayList<>();
+        for (Long roomId : roomIds) {
+            RoomSnapshot snapshot;
+            try {
+                snapshot = raidRoomService.getRaidRoomWithoutCache(roomId);
+            } catch (Exception e) {
+                logger.warn("[방 보관] 스냅샷 조회 중 오류: roomId={}", roomId, e);
+                snapshot = null;
+            }
+            if (snapshot == null) {
+                logger.warn("[방 보관] 스냅샷 조회 실패로 건너뜀 ({}ms 동안 제외): roomId={}", retryAfterMillis, roomId);
+                failedRooms.put(roomId, Boolean.TRUE);
+                failedCounter.increment();
+                continue;
+            }
+            archives.add(toArchive(snapshot));
+        }
+        if (archives.isEmpty()) {
+            return new BatchResult(roomIds.size(), 0);
+        }
+        List<Long> archivedIds = archives.stream().map(RaidRoomArchive::getRoomId).toList();
+
+        Integer deletedRows = transactionTemplate.execute(status -> {
+            raidRoomArchiveRepository.saveAll(archives);
+            // FK 순서대로 삭제 (채널 유저 -> 채널 -> 참가 기록 -> 방)
+            return channelUserRepository.deleteAllByRoomIdIn(archivedIds)
+                + channelRepository.deleteAllByRaidRoomIdIn(archivedIds)
+                + raidParticipationRepository.deleteAllByRaidRoomIdIn(archivedIds)
+                + raidRoomRepository.deleteAllByIdIn(archivedIds);
+        });
+
+        for (Long roomId : archivedIds) {
+            roomStateStore.evict(roomId);
+            movingStateRegistry.removeRoom(roomId);
+            cacheDependencyIndex.evictRoom(roomId);
+            realtimeBossService.forgetRoom(roomId);
+        }
+        archivedCounter.increment(archivedIds.size());
+        deletedRowsCounter.increment(deletedRows != null ? deletedRows : 0);
+        return new BatchResult(roomIds.size(), archivedIds.size());
+    }
+
+    /**
+     * 스냅샷으로 보관 행 구성 (접속 중인 사용자는 보관하지 않음)
+     */
+    static RaidRoomArchive toArchive(RoomSnapshot snapshot) {
+        RoomSnapshot stored = new RoomSnapshot(null, null, snapshot.id(), snapshot.boss(), snapshot.raidDate(),
+            snapshot.raidTime(), true, snapshot.completedAt(), snapshot.channels(), List.of(), snapshot.participants());
+
+        RaidRoomArchive archive = new RaidRoomArchive();
+        archive.setRoomId(snapshot.id());
+        RoomSnapshot.BossInfo boss = snapshot.boss();
+        if (boss != null && boss.id() != null && boss.id() != 0L) {
+            archive.setBossId(boss.id());
+            archive.setBossName(boss.name());
+            archive.setBossType(parseBossType(boss.type()));
+        }
+        archive.setRaidDate(isBlank(snapshot.raidDate()) ? null : LocalDate.parse(snapshot.raidDate()));
+        archive.setRaidTime(isBlank(snapshot.raidTime()) ? null : LocalTime.parse(snapshot.raidTime()));
+        archive.setCompletedAt(LocalDateTime.parse(snapshot.completedAt()));
+        archive.setChannelCount(snapshot.channels().size());
+        archive.setDefeatedChannelCount((int) snapshot.channels().stream()
+            .filter(channel -> Boolean.TRUE.equals(channel.isDefeated()))
+            .count());
+        archive.setParticipantCount(snapshot.participants().size());
+        archive.setSnapshot(stored);
+        return archive;
+    }
+
+    private static BossType parseBossType(String type) {
+        try {
+            return type != null ? BossType.valueOf(type) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.service;
+
+import com.example.dto.ChannelRow;
+import com.example.dto.ParticipantRow;
+import com.example.dto.RaidRoomReadModel;
+import com.example.dto.RoomHeaderRow;
+import com.example.repository.ChannelRepository;
+import com.example.repository.RaidParticipationRepository;
+import com.example.repository.RaidRoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 레이드 방 읽기 모델 로더
+ *
+ * 채널 수와 무관하게 항상 고정된 수(3회)의 집합 쿼리로 방 전체를 조회
+ * 1. 방 헤더 (방 + 보스)
+ * 2. 채널 목록
+ * 3. 참가자 목록 (사용자 프로필 컬럼 포함)
+ * 채널별 이동중 유저는 DB가 아닌 MovingStateRegistry(메모리)에서 채움
+ *
+ * 엔티티 대신 평면 DTO(프로젝션)로 조회하므로 지연 로딩(N+1)이 발생하지 않음
+ */
+@Service
+public class RaidRoomReadModelLoader {
+
+    @Autowired
+    private RaidRoomRepository raidRoomRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private MovingStateRegistry movingStateRegistry;
+
+    @Autowired
+    private RaidParticipationRepository raidParticipationRepository;
+
+    /**
+     * 레이드 방 읽기 모델 조회
+     * @return 방이 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public RaidRoomReadModel load(Long roomId) {
+        Optional<RoomHeaderRow> header = raidRoomRepository.findHeaderById(roomId);
+        if (header.isEmpty()) {
+            return null;
+        }
+
+        List<ChannelRow> channels = channelRepository.findRowsByRaidRoomId(roomId);
+
+        List<ParticipantRow> participants = raidParticipationRepository.findRowsByRaidRoomId(roomId);
+
+        return new RaidRoomReadModel(header.get(), channels, movingStateRegistry.usersByChannel(roomId), participants);
+    }
+}
@@ -1,35 +1,51 @@
 package com.example.service;
 
+import com.example.dto.ChannelRow;
+import com.example.dto.ChannelUserRow;
+import com.example.dto.ChannelUserView;
+import com.example.dto.ChannelView;
+import com.example.dto.CompletedRoomCursor;
+import com.example.dto.CompletedRoomRow;
+import com.example.dto.ParticipantView;
+import com.example.dto.RaidRoomReadModel;
+import com.example.dto.RoomDelta;
+import com.example.dto.RoomHeaderRow;
+import com.example.dto.RoomSnapshot;
+import com.example.entity.BossType;
 import com.example.entity.Channel;
-import com.example.entity.ChannelUser;
 import com.example.entity.RaidParticipation;
 import com.example.entity.RaidRoom;
+import com.example.entity.RaidRoomArchive;
 import com.example.entity.User;
 import com.example.repository.ChannelRepository;
-import com.example.repository.ChannelUserRepository;
 import com.example.repository.RaidParticipationRepository;
+import com.example.repository.RaidRoomArchiveRepository;
 import com.example.repository.RaidRoomRepository;
 import com.example.repository.UserRepository;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,9 +59,6 @@ public class RaidRoomService {
     @Autowired
     private ChannelRepository channelRepository;
     
-    @Autowired
-    private ChannelUserRepository channelUserRepository;
-    
     @Autowired
     private UserRepository userRepository;
     
@@ -59,248 +72,151 @@ public class RaidRoomService {
     private com.example.service.WebSocketConnectionService webSocketConnectionService;
     
     @Autowired
-    private CacheManager cacheManager;
+    private RaidRoomReadModelLoader raidRoomReadModelLoader;
+    
+    @Autowired
+    private RoomStateStore roomStateStore;
+    
+    @Autowired
+    private MovingStateRegistry movingStateRegistry;
+    
+    @Autowired
+    private CacheLoadCoalescer cacheLoadCoalescer;
+    
+    @Autowired
+    private CacheDependencyIndex cacheDependencyIndex;
     
-    @PersistenceContext
-    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private RaidRoomArchiveRepository raidRoomArchiveRepository;
+    
+    @Autowired
+    private RoomCommandExecutor roomCommandExecutor;
+    
+    // 완료된 레이드 목록 기본 페이지 크기
+    @Value("${rooms.completed.page-size:20}")
+    private int completedPageSize;
+    
+    // 완료된 레이드 목록 최대 페이지 크기 (요청한 size가 더 커도 이 값으로 제한)
+    @Value("${rooms.completed.max-page-size:100}")
+    private int completedMaxPageSize;
     
     /**
      * 레이드 방 상세 정보 조회 (캐시 사용)
-     * 캐시: 10초간 유지 (실시간 업데이트 필요하므로 짧게)
+     * 캐시: 10초간 유지 (실시간 업데이트 필요하므로 짧게, CacheConfig의 raidRoom 정책)
+     * 불변 스냅샷이라 캐시된 값을 그대로 공유해도 안전
+     * 캐시 미스가 동시에 발생하면 한 번만 조회하고 결과를 공유 (CacheLoadCoalescer)
+     * 합류한 요청이 대기하는 동안 커넥션을 잡지 않도록 트랜잭션은 읽기 모델 로더에서만 시작
+     * 캐시 항목은 room:{roomId}에 의존 (CacheDependencyIndex)
      */
-    @Transactional(readOnly = true)
     @Cacheable(value = "raidRoom", key = "#roomId", unless = "#result == null")
-    public Map<String, Object> getRaidRoom(Long roomId) {
-        return getRaidRoomInternal(roomId, false);
+    public RoomSnapshot getRaidRoom(Long roomId) {
+        return cacheLoadCoalescer.load("raidRoom", roomId, () -> {
+            RoomSnapshot snapshot = getRaidRoomInternal(roomId);
+            if (snapshot != null) {
+                cacheDependencyIndex.record("raidRoom", roomId, snapshot, List.of(CacheDependencyIndex.room(roomId)));
+            }
+            return snapshot;
+        });
     }
     
     /**
      * 레이드 방 상세 정보 조회 (캐시 우회)
      * WebSocket 브로드캐스트 시 최신 데이터를 보장하기 위해 사용
-     * REQUIRES_NEW: 완전히 새로운 트랜잭션에서 실행하여 영속성 컨텍스트 초기화
+     * REQUIRES_NEW: 완전히 새로운 트랜잭션에서 실행하여 커밋된 최신 데이터 조회
      */
     @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
-    public Map<String, Object> getRaidRoomWithoutCache(Long roomId) {
-        // 영속성 컨텍스트를 clear하여 최신 데이터를 보장
-        entityManager.clear();
-        return getRaidRoomInternal(roomId, true);
+    public RoomSnapshot getRaidRoomWithoutCache(Long roomId) {
+        return getRaidRoomInternal(roomId);
     }
     
     /**
      * 레이드 방 상세 정보 조회 내부 로직 (공통)
-     * @param loadChannelsAndUsers true면 EntityGraph로 채널과 채널 유저를 함께 로드 (이동중 표시를 위해)
+     * 읽기 모델 로더로 채널 수와 무관하게 고정된 수의 쿼리만 실행 (N+1 없음)
      */
-    private Map<String, Object> getRaidRoomInternal(Long roomId, boolean loadChannelsAndUsers) {
+    private RoomSnapshot getRaidRoomInternal(Long roomId) {
         try {
-            Optional<RaidRoom> roomOpt = null;
-            if (loadChannelsAndUsers) {
-                try {
-                    // 채널만 함께 로드 (MultipleBagFetchException 방지)
-                    roomOpt = raidRoomRepository.findByIdWithChannels(roomId);
-                    if (roomOpt.isPresent()) {
-                        RaidRoom room = roomOpt.get();
-                        // 각 채널의 채널 유저를 별도로 조회하여 lazy loading 문제 방지
-                        try {
-                            for (Channel channel : room.getChannels()) {
-                                List<ChannelUser> channelUsers = channelUserRepository.findByChannelId(channel.getId());
-                                channel.getChannelUsers().clear();
-                                channel.getChannelUsers().addAll(channelUsers);
-                            }
-                            logger.debug("JOIN FETCH로 레이드 방 조회 성공: roomId={}, channels={}", roomId, room.getChannels().size());
-                        } catch (Exception e) {
-                            logger.warn("채널 유저 조회 실패: roomId={}", roomId, e);
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.warn("JOIN FETCH 쿼리 실패, 폴백 시도: roomId={}, error={}", roomId, e.getMessage());
-                }
-                
-                // JOIN FETCH가 실패하거나 결과가 없으면 명시적으로 채널과 채널 유저를 조회
-                if (roomOpt == null || roomOpt.isEmpty()) {
-                    roomOpt = raidRoomRepository.findById(roomId);
-                    if (roomOpt.isPresent()) {
-                        RaidRoom room = roomOpt.get();
-                        // 명시적으로 채널과 채널 유저를 조회하여 lazy loading 문제 방지
-                        try {
-                            List<Channel> channels = channelRepository.findByRaidRoomId(roomId);
-                            room.getChannels().clear();
-                            room.getChannels().addAll(channels);
-                            
-                            // 각 채널의 채널 유저도 명시적으로 로드
-                            for (Channel channel : channels) {
-                                List<ChannelUser> channelUsers = channelUserRepository.findByChannelId(channel.getId());
-                                channel.getChannelUsers().clear();
-                                channel.getChannelUsers().addAll(channelUsers);
-                            }
-                            logger.debug("명시적 조회로 레이드 방 데이터 로드 성공: roomId={}, channels={}", roomId, channels.size());
-                        } catch (Exception e) {
-                            logger.error("채널 및 채널 유저 명시적 조회 실패: roomId={}", roomId, e);
-                            // 조회 실패해도 기본 데이터는 반환
-                        }
-                    }
+            RaidRoomReadModel model = raidRoomReadModelLoader.load(roomId);
+            if (model == null) {
+                // 보관된 완료 방이면 보관 시점의 스냅샷 (RaidRoomArchiver)
+                Optional<RaidRoomArchive> archive = raidRoomArchiveRepository.findById(roomId);
+                if (archive.isPresent()) {
+                    return archive.get().getSnapshot();
                 }
-            } else {
-                // 일반 조회는 기본 findById 사용
-                roomOpt = raidRoomRepository.findById(roomId);
-            }
-            
-            if (roomOpt == null || roomOpt.isEmpty()) {
                 logger.warn("레이드 방을 찾을 수 없습니다: roomId={}", roomId);
                 return null;
             }
             
-            RaidRoom room = roomOpt.get();
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("id", room.getId());
+            RoomHeaderRow header = model.header();
             
             // 보스 정보 (null 체크)
-            if (room.getBoss() != null) {
-                Map<String, Object> boss = new HashMap<>();
-                boss.put("id", room.getBoss().getId());
-                boss.put("name", room.getBoss().getName());
-                boss.put("type", room.getBoss().getType() != null ? room.getBoss().getType().name() : "UNKNOWN");
-                response.put("boss", boss);
-            } else {
-                Map<String, Object> boss = new HashMap<>();
-                boss.put("id", 0L);
-                boss.put("name", "알 수 없음");
-                boss.put("type", "UNKNOWN");
-                response.put("boss", boss);
-            }
+            RoomSnapshot.BossInfo boss = header.bossId() != null
+                ? new RoomSnapshot.BossInfo(header.bossId(), header.bossName(),
+                    header.bossType() != null ? header.bossType().name() : "UNKNOWN")
+                : RoomSnapshot.BossInfo.UNKNOWN;
             
-            // 레이드 날짜
-            if (room.getRaidDate() != null) {
-                response.put("raidDate", room.getRaidDate().toString());
-            } else {
-                response.put("raidDate", "");
-            }
-            
-            // 레이드 시간
-            if (room.getRaidTime() != null) {
-                response.put("raidTime", room.getRaidTime().toString());
-            }
-            
-            // 완료 여부
-            response.put("isCompleted", room.getIsCompleted() != null ? room.getIsCompleted() : false);
-            if (room.getCompletedAt() != null) {
-                response.put("completedAt", room.getCompletedAt().toString());
-            }
-            
-            // 채널 목록 (null 체크 및 정렬)
-            List<Map<String, Object>> channels = new java.util.ArrayList<>();
-            if (room.getChannels() != null) {
-                try {
-                    channels = room.getChannels().stream()
-                        .filter(channel -> channel != null)
-                        .sorted((c1, c2) -> {
-                            // channelNumber로 정렬 (null 처리)
-                            Integer num1 = c1.getChannelNumber() != null ? c1.getChannelNumber() : 0;
-                            Integer num2 = c2.getChannelNumber() != null ? c2.getChannelNumber() : 0;
-                            return num1.compareTo(num2);
-                        })
-                        .map((Channel channel) -> {
-                            Map<String, Object> channelData = new HashMap<>();
-                            channelData.put("id", channel.getId());
-                            channelData.put("channelNumber", channel.getChannelNumber() != null ? channel.getChannelNumber() : 0);
-                            channelData.put("isDefeated", channel.getIsDefeated() != null ? channel.getIsDefeated() : false);
-                            channelData.put("memo", channel.getMemo() != null ? channel.getMemo() : "");
-                            channelData.put("bossHeukColor", channel.getBossHeukColor() != null ? channel.getBossHeukColor() : "");
-                            channelData.put("bossJinColor", channel.getBossJinColor() != null ? channel.getBossJinColor() : "");
-                            channelData.put("bossMukColor", channel.getBossMukColor() != null ? channel.getBossMukColor() : "");
-                            channelData.put("bossGamColor", channel.getBossGamColor() != null ? channel.getBossGamColor() : "");
-                            
-                            // 수화룡 레이드용 필드
-                            if (channel.getWaterDragonDefeatedAt() != null) {
-                                channelData.put("waterDragonDefeatedAt", channel.getWaterDragonDefeatedAt().toString());
-                            } else {
-                                channelData.put("waterDragonDefeatedAt", null);
-                            }
-                            if (channel.getFireDragonDefeatedAt() != null) {
-                                channelData.put("fireDragonDefeatedAt", channel.getFireDragonDefeatedAt().toString());
-                            } else {
-                                channelData.put("fireDragonDefeatedAt", null);
-                            }
-                            
-                            // 채널에 있는 유저들 (null 체크)
-                            List<Map<String, Object>> users = new java.util.ArrayList<>();
-                            if (channel.getChannelUsers() != null) {
-                                try {
-                                    users = channel.getChannelUsers().stream()
-                                        .filter(cu -> cu != null && cu.getUser() != null)
-                                        .map(cu -> {
-                                            Map<String, Object> userData = new HashMap<>();
-                                            userData.put("userId", cu.getUser().getId());
-                                            userData.put("username", cu.getUser().getUsername() != null ? cu.getUser().getUsername() : "");
-                                            // displayName과 avatarUrl 추가
-                                            userData.put("displayName", cu.getUser().getDisplayName() != null ? cu.getUser().getDisplayName() : "");
-                                            userData.put("avatarUrl", cu.getUser().getAvatarUrl() != null ? cu.getUser().getAvatarUrl() : "");
-                                            userData.put("guildName", cu.getGuildName() != null ? cu.getGuildName() : "");
-                                            userData.put("memberCount", cu.getMemberCount() != null ? cu.getMemberCount() : 0);
-                                            userData.put("isMoving", cu.getIsMoving() != null ? cu.getIsMoving() : false);
-                                            return userData;
-                                        })
-                                        .collect(Collectors.toList());
-                                } catch (Exception e) {
-                                    // 채널 유저 조회 실패 시 빈 리스트 유지
-                                }
-                            }
-                            
-                            channelData.put("users", users);
-                            return channelData;
-                        })
-                        .collect(Collectors.toList());
-                } catch (Exception e) {
-                    // 채널 목록 조회 실패 시 빈 리스트 유지
-                }
-            }
-            
-            response.put("channels", channels);
+            // 채널 목록 (channelNumber 순으로 조회됨)
+            List<ChannelView> channels = model.channels().stream()
+                .map(channel -> ChannelView.from(channel, model.usersOf(channel.id())))
+                .toList();
             
             // 현재 접속한 사용자 목록 (WebSocket 연결 추적)
+            List<ParticipantView> connectedUsers;
             try {
-                List<Map<String, Object>> connectedUsers = webSocketConnectionService.getConnectedUsers(roomId);
-                response.put("connectedUsers", connectedUsers);
+                connectedUsers = webSocketConnectionService.getConnectedUsers(roomId);
             } catch (Exception e) {
                 logger.warn("접속 사용자 목록 조회 실패: roomId={}", roomId, e);
-                response.put("connectedUsers", new java.util.ArrayList<>());
-            }
-            
-            // 참가자 목록 (null 체크)
-            List<Map<String, Object>> participants = new java.util.ArrayList<>();
-            if (room.getParticipations() != null) {
-                try {
-                    participants = room.getParticipations().stream()
-                        .filter(p -> p != null && p.getUser() != null)
-                        .map(p -> {
-                            Map<String, Object> participantData = new HashMap<>();
-                            participantData.put("userId", p.getUser().getId());
-                            participantData.put("username", p.getUser().getUsername() != null ? p.getUser().getUsername() : "");
-                            participantData.put("displayName", p.getUser().getDisplayName() != null ? p.getUser().getDisplayName() : "");
-                            participantData.put("avatarUrl", p.getUser().getAvatarUrl() != null ? p.getUser().getAvatarUrl() : "");
-                            return participantData;
-                        })
-                        .collect(Collectors.toList());
-                } catch (Exception e) {
-                    // 참가자 목록 조회 실패 시 빈 리스트 유지
-                }
+                connectedUsers = List.of();
             }
             
-            response.put("participants", participants);
+            // 참가자 목록
+            List<ParticipantView> participants = model.participants().stream()
+                .map(ParticipantView::from)
+                .toList();
             
-            return response;
+            return new RoomSnapshot(
+                null,
+                null,
+                header.id(),
+                boss,
+                header.raidDate() != null ? header.raidDate().toString() : "",
+                header.raidTime() != null ? header.raidTime().toString() : null,
+                header.isCompleted() != null ? header.isCompleted() : false,
+                header.completedAt() != null ? header.completedAt().toString() : null,
+                channels,
+                connectedUsers,
+                participants
+            );
         } catch (Exception e) {
-            logger.error("레이드 방 조회 중 예외 발생: roomId={}, loadChannelsAndUsers={}", roomId, loadChannelsAndUsers, e);
+            logger.error("레이드 방 조회 중 예외 발생: roomId={}", roomId, e);
             return null;
         }
     }
     
     /**
-     * 채널 생성
+     * 채널 표시 정보 생성 (엔티티 기반, 델타 발행용)
+     * @param includeUsers false면 users를 생략 (델타 적용 시 클라이언트가 기존 채널 유저를 유지)
+     */
+    private ChannelView buildChannelView(Channel channel, boolean includeUsers) {
+        List<ChannelUserRow> users = null;
+        if (includeUsers) {
+            users = movingStateRegistry.usersByChannel(channel.getRaidRoom().getId())
+                .getOrDefault(channel.getId(), List.of());
+        }
+        return ChannelView.from(ChannelRow.from(channel), users);
+    }
+    
+    /**
+     * 채널 생성 (방 메일박스에서 같은 방의 다른 명령과 순서대로 실행)
      * 캐시 무효화는 트랜잭션 커밋 후 RealtimeBossService에서 처리
      */
-    @Transactional
     public Map<String, Object> createChannel(Long roomId, Integer channelNumber) {
+        return inRoom(roomId, () -> transactionTemplate.execute(status -> createChannelInRoom(roomId, channelNumber)));
+    }
+    
+    private Map<String, Object> createChannelInRoom(Long roomId, Integer channelNumber) {
         Optional<RaidRoom> roomOpt = raidRoomRepository.findById(roomId);
         
         if (roomOpt.isEmpty()) {
@@ -325,10 +241,12 @@ public class RaidRoomService {
         channel.setIsDefeated(false);
         
         channel = channelRepository.save(channel);
+        roomStateStore.addChannelAfterCommit(roomId, channel);
         
-        // 실시간 브로드캐스트
-        realtimeBossService.broadcastRaidRoomUpdate(roomId);
-        realtimeBossService.broadcastBossListUpdate(); // 채널 수 변경 반영
+        // 실시간 브로드캐스트 (새 채널 델타)
+        realtimeBossService.publishRoomDelta(roomId, RoomDelta.channelUpserted(channel.getId(), buildChannelView(channel, true)));
+        evictRoomCachesAfterCommit(roomId); // 이 방이 포함된 보스 목록만 무효화
+        realtimeBossService.broadcastBossListUpdate(roomId); // 채널 수 변경 반영
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -337,11 +255,14 @@ public class RaidRoomService {
     }
     
     /**
-     * 채널 일괄 생성
+     * 채널 일괄 생성 (방 메일박스에서 같은 방의 다른 명령과 순서대로 실행)
      * 캐시 무효화는 트랜잭션 커밋 후 RealtimeBossService에서 처리
      */
-    @Transactional
     public Map<String, Object> createChannelsBatch(Long roomId, List<Integer> channelNumbers) {
+        return inRoom(roomId, () -> transactionTemplate.execute(status -> createChannelsBatchInRoom(roomId, channelNumbers)));
+    }
+    
+    private Map<String, Object> createChannelsBatchInRoom(Long roomId, List<Integer> channelNumbers) {
         Optional<RaidRoom> roomOpt = raidRoomRepository.findById(roomId);
         
         if (roomOpt.isEmpty()) {
@@ -360,6 +281,7 @@ public class RaidRoomService {
         
         List<Integer> created = new ArrayList<>();
         List<Integer> failed = new ArrayList<>();
+        List<Channel> createdChannels = new ArrayList<>();
         
         for (Integer channelNumber : channelNumbers) {
             // 중복 체크
@@ -374,7 +296,9 @@ public class RaidRoomService {
                 channel.setChannelNumber(channelNumber);
                 channel.setIsDefeated(false);
                 
-                channelRepository.save(channel);
+                Channel savedChannel = channelRepository.save(channel);
+                roomStateStore.addChannelAfterCommit(roomId, savedChannel);
+                createdChannels.add(savedChannel);
                 created.add(channelNumber);
                 existingChannelNumbers.add(channelNumber); // 중복 방지를 위해 추가
             } catch (Exception e) {
@@ -385,8 +309,11 @@ public class RaidRoomService {
         
         // 실시간 브로드캐스트
         if (!created.isEmpty()) {
-            realtimeBossService.broadcastRaidRoomUpdate(roomId);
-            realtimeBossService.broadcastBossListUpdate(); // 채널 수 변경 반영
+            for (Channel channel : createdChannels) {
+                realtimeBossService.publishRoomDelta(roomId, RoomDelta.channelUpserted(channel.getId(), buildChannelView(channel, true)));
+            }
+            evictRoomCachesAfterCommit(roomId); // 이 방이 포함된 보스 목록만 무효화
+            realtimeBossService.broadcastBossListUpdate(roomId); // 채널 수 변경 반영
         }
         
         Map<String, Object> response = new HashMap<>();
@@ -399,11 +326,14 @@ public class RaidRoomService {
     }
     
     /**
-     * 채널 삭제
+     * 채널 삭제 (방 메일박스에서 같은 방의 다른 명령과 순서대로 실행)
      * 캐시 무효화는 트랜잭션 커밋 후 RealtimeBossService에서 처리
      */
-    @Transactional
     public Map<String, Object> deleteChannel(Long roomId, Long channelId) {
+        return inRoom(roomId, () -> transactionTemplate.execute(status -> deleteChannelInRoom(roomId, channelId)));
+    }
+    
+    private Map<String, Object> deleteChannelInRoom(Long roomId, Long channelId) {
         Optional<Channel> channelOpt = channelRepository.findById(channelId);
         
         if (channelOpt.isEmpty()) {
@@ -423,10 +353,13 @@ public class RaidRoomService {
         
         // 채널 삭제 (Cascade로 ChannelUser도 자동 삭제됨)
         channelRepository.delete(channel);
+        roomStateStore.removeChannelAfterCommit(roomId, channelId);
+        movingStateRegistry.removeChannel(roomId, channelId);
         
         // 실시간 브로드캐스트
-        realtimeBossService.broadcastRaidRoomUpdate(roomId);
-        realtimeBossService.broadcastBossListUpdate(); // 채널 수 변경 반영
+        realtimeBossService.publishRoomDelta(roomId, RoomDelta.channelRemoved(channelId));
+        evictRoomCachesAfterCommit(roomId); // 이 방이 포함된 보스 목록만 무효화
+        realtimeBossService.broadcastBossListUpdate(roomId); // 채널 수 변경 반영
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -438,8 +371,20 @@ public class RaidRoomService {
      * 채널 메모 업데이트
      * 캐시 무효화는 트랜잭션 커밋 후 RealtimeBossService에서 처리
      */
-    @Transactional
     public Map<String, Object> updateChannelMemo(Long roomId, Long channelId, String memo) {
+        return inRoom(roomId, () -> updateChannelMemoInRoom(roomId, channelId, memo));
+    }
+    
+    private Map<String, Object> updateChannelMemoInRoom(Long roomId, Long channelId, String memo) {
+        // 인메모리 저장소 모드: 메모리에 즉시 반영 후 브로드캐스트 (DB는 write-behind)
+        RoomStateStore.LiveRoom liveRoom = roomStateStore.getRoom(roomId);
+        if (liveRoom != null) {
+            return updateChannelMemoLive(liveRoom, roomId, channelId, memo);
+        }
+        return transactionTemplate.execute(status -> updateChannelMemoWithJpa(roomId, channelId, memo));
+    }
+    
+    private Map<String, Object> updateChannelMemoWithJpa(Long roomId, Long channelId, String memo) {
         try {
             // raidRoom을 함께 로드하여 lazy loading 문제 방지
             Optional<Channel> channelOpt = channelRepository.findByIdWithRaidRoom(channelId);
@@ -467,7 +412,7 @@ public class RaidRoomService {
             channelRepository.save(channel);
             
             // 실시간 브로드캐스트
-            realtimeBossService.broadcastRaidRoomUpdate(roomId);
+            realtimeBossService.publishRoomDelta(roomId, RoomDelta.channelUpserted(channel.getId(), buildChannelView(channel, false)));
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -484,8 +429,20 @@ public class RaidRoomService {
      * 동시성 제어: 낙관적 잠금으로 동시 업데이트 방지
      * 캐시 무효화는 트랜잭션 커밋 후 RealtimeBossService에서 처리
      */
-    @Transactional
     public Map<String, Object> markDefeated(Long roomId, Long channelId) {
+        return inRoom(roomId, () -> markDefeatedInRoom(roomId, channelId));
+    }
+    
+    private Map<String, Object> markDefeatedInRoom(Long roomId, Long channelId) {
+        // 인메모리 저장소 모드: 메모리에 즉시 반영 후 브로드캐스트 (DB는 write-behind)
+        RoomStateStore.LiveRoom liveRoom = roomStateStore.getRoom(roomId);
+        if (liveRoom != null) {
+            return markDefeatedLive(liveRoom, roomId, channelId);
+        }
+        return transactionTemplate.execute(status -> markDefeatedWithJpa(roomId, channelId));
+    }
+    
+    private Map<String, Object> markDefeatedWithJpa(Long roomId, Long channelId) {
         try {
             // raidRoom을 함께 로드하여 lazy loading 문제 방지
             Optional<Channel> channelOpt = channelRepository.findByIdWithRaidRoom(channelId);
@@ -515,7 +472,7 @@ public class RaidRoomService {
             channelRepository.save(channel);
             
             // 실시간 브로드캐스트 (트랜잭션 커밋 후 실행)
-            realtimeBossService.broadcastRaidRoomUpdate(roomId);
+            realtimeBossService.publishRoomDelta(roomId, RoomDelta.channelUpserted(channel.getId(), buildChannelView(channel, false)));
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -550,6 +507,10 @@ public class RaidRoomService {
             return error;
         }
         
+        // 완료된 방은 JPA 경로로 처리 (메모리의 남은 변경을 먼저 DB에 기록)
+        roomStateStore.evict(roomId);
+        movingStateRegistry.removeRoom(roomId);
+        
         room.setIsCompleted(true);
         room.setCompletedAt(java.time.LocalDateTime.now());
         raidRoomRepository.save(room);
@@ -557,26 +518,16 @@ public class RaidRoomService {
         // 참가 기록은 WebSocket 접속 시점에 이미 생성되므로, 완료 시점에는 추가 작업 불필요
         // (한 번이라도 접속했던 모든 사용자의 참가 기록이 이미 저장되어 있음)
         
-        // 트랜잭션 커밋 후 캐시 무효화 및 브로드캐스트
-        if (org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive()) {
-            org.springframework.transaction.support.TransactionSynchronizationManager
-                .registerSynchronization(new org.springframework.transaction.support.TransactionSynchronization() {
-                    @Override
-                    public void afterCommit() {
-                        // 캐시 무효화
-                        evictAllCaches();
-                        // 보스 목록 브로드캐스트 (완료된 방은 목록에서 제외됨)
-                        realtimeBossService.broadcastBossListUpdate();
-                        // 레이드 방 업데이트 브로드캐스트 (완료 상태 반영)
-                        realtimeBossService.broadcastRaidRoomUpdate(roomId);
-                    }
-                });
-        } else {
-            // 트랜잭션 외부에서 호출된 경우 즉시 실행
-            evictAllCaches();
-            realtimeBossService.broadcastBossListUpdate();
-            realtimeBossService.broadcastRaidRoomUpdate(roomId);
-        }
+        // 레이드 방 업데이트 브로드캐스트 (완료 상태 반영, 트랜잭션 커밋 후 실행)
+        Map<String, Object> roomState = new HashMap<>();
+        roomState.put("isCompleted", true);
+        roomState.put("completedAt", room.getCompletedAt().toString());
+        realtimeBossService.publishRoomDelta(roomId, RoomDelta.roomUpdated(roomState));
+        
+        // 트랜잭션 커밋 후 이 방에 의존하는 캐시 항목만 무효화
+        evictRoomCachesAfterCommit(roomId);
+        // 보스 목록 브로드캐스트 (완료된 방은 목록에서 제외됨), 아웃박스로 커밋 후 발행
+        realtimeBossService.broadcastBossListUpdate(roomId);
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -601,47 +552,69 @@ public class RaidRoomService {
         RaidRoom room = roomOpt.get();
         
         // 연관된 채널과 참가자들은 cascade로 자동 삭제됨
+        roomStateStore.evict(roomId);
+        movingStateRegistry.removeRoom(roomId);
         raidRoomRepository.delete(room);
         
-        // 트랜잭션 커밋 후 캐시 무효화 및 브로드캐스트
+        // 트랜잭션 커밋 후 이 방에 의존하는 캐시 항목만 무효화
+        evictRoomCachesAfterCommit(roomId);
+        // 커밋 후 방 버전/스냅샷 프레임/재생 버퍼 제거
+        realtimeBossService.forgetRoom(roomId);
+        // 보스 목록 브로드캐스트, 아웃박스로 커밋 후 발행
+        realtimeBossService.broadcastBossListUpdate(roomId);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "레이드 방이 삭제되었습니다");
+        return response;
+    }
+    
+    /**
+     * 방 명령 실행 (RoomCommandExecutor가 켜져 있으면 방 메일박스에서 순서대로, 아니면 바로 실행)
+     * 메일박스가 가득 찼거나 시작 전에 대기 시간이 초과되면 에러 응답 (실행되지 않았으므로 다시 시도 가능)
+     * 이미 시작한 명령이 끝나지 않았으면 inProgress 응답 (토글이 두 번 적용되지 않도록 재시도 대신 상태 확인)
+     */
+    private Map<String, Object> inRoom(Long roomId, Supplier<Map<String, Object>> command) {
+        try {
+            return roomCommandExecutor.execute(roomId, command);
+        } catch (RoomCommandExecutor.RoomBusyException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return error;
+        } catch (RoomCommandExecutor.RoomCommandInProgressException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            error.put("inProgress", true);
+            return error;
+        }
+    }
+    
+    /**
+     * 트랜잭션 커밋 후 방 캐시 무효화 (트랜잭션 외부에서 호출된 경우 즉시 실행)
+     * 커밋 전에 무효화하면 그 사이 다른 요청이 변경 전 데이터를 다시 캐시할 수 있음
+     */
+    private void evictRoomCachesAfterCommit(Long roomId) {
         if (org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive()) {
             org.springframework.transaction.support.TransactionSynchronizationManager
                 .registerSynchronization(new org.springframework.transaction.support.TransactionSynchronization() {
                     @Override
                     public void afterCommit() {
-                        // 캐시 무효화
-                        evictAllCaches();
-                        // 보스 목록 브로드캐스트
-                        realtimeBossService.broadcastBossListUpdate();
+                        evictRoomCaches(roomId);
                     }
                 });
         } else {
-            // 트랜잭션 외부에서 호출된 경우 즉시 실행
-            evictAllCaches();
-            realtimeBossService.broadcastBossListUpdate();
+            evictRoomCaches(roomId);
         }
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("message", "레이드 방이 삭제되었습니다");
-        return response;
     }
     
     /**
-     * 모든 관련 캐시 무효화
+     * 방에 의존하는 캐시 항목 무효화 (방 스냅샷 + 그 방이 포함된 보스 목록)
+     * 다른 방의 스냅샷과 보스 목록은 유지
      */
-    private void evictAllCaches() {
+    private void evictRoomCaches(Long roomId) {
         try {
-            if (cacheManager != null) {
-                var raidRoomCache = cacheManager.getCache("raidRoom");
-                if (raidRoomCache != null) {
-                    raidRoomCache.clear();
-                }
-                var todayBossesCache = cacheManager.getCache("todayBosses");
-                if (todayBossesCache != null) {
-                    todayBossesCache.clear();
-                }
-            }
+            int removed = cacheDependencyIndex.evictRoom(roomId);
+            logger.debug("방 캐시 무효화: roomId={}, removed={}", roomId, removed);
         } catch (Exception e) {
             logger.warn("캐시 무효화 실패", e);
         }
@@ -651,8 +624,20 @@ public class RaidRoomService {
      * 채널 보스 색상 업데이트 (용의 경우)
      * 캐시 무효화는 트랜잭션 커밋 후 RealtimeBossService에서 처리
      */
-    @Transactional
     public Map<String, Object> updateChannelBossColor(Long roomId, Long channelId, String bossType, String bossColor) {
+        return inRoom(roomId, () -> updateChannelBossColorInRoom(roomId, channelId, bossType, bossColor));
+    }
+    
+    private Map<String, Object> updateChannelBossColorInRoom(Long roomId, Long channelId, String bossType, String bossColor) {
+        // 인메모리 저장소 모드: 메모리에 즉시 반영 후 브로드캐스트 (DB는 write-behind)
+        RoomStateStore.LiveRoom liveRoom = roomStateStore.getRoom(roomId);
+        if (liveRoom != null) {
+            return updateChannelBossColorLive(liveRoom, roomId, channelId, bossType, bossColor);
+        }
+        return transactionTemplate.execute(status -> updateChannelBossColorWithJpa(roomId, channelId, bossType, bossColor));
+    }
+    
+    private Map<String, Object> updateChannelBossColorWithJpa(Long roomId, Long channelId, String bossType, String bossColor) {
         Optional<Channel> channelOpt = channelRepository.findById(channelId);
         
         if (channelOpt.isEmpty()) {
@@ -709,7 +694,7 @@ public class RaidRoomService {
         channelRepository.save(channel);
         
         // 실시간 브로드캐스트
-        realtimeBossService.broadcastRaidRoomUpdate(roomId);
+        realtimeBossService.publishRoomDelta(roomId, RoomDelta.channelUpserted(channel.getId(), buildChannelView(channel, false)));
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -718,30 +703,37 @@ public class RaidRoomService {
     
     /**
      * 채널 선택/해제 (이동중 표시)
-     * 동시성 제어: 낙관적 잠금으로 동시 업데이트 방지
-     * 캐시 무효화는 트랜잭션 커밋 후 RealtimeBossService에서 처리
+     * 이동중 표시는 MovingStateRegistry(메모리)에만 반영하고 DB에는 쓰지 않음
      */
-    @Transactional
     public Map<String, Object> toggleChannelSelection(Long roomId, Long channelId, Long userId) {
+        return inRoom(roomId, () -> toggleChannelSelectionInRoom(roomId, channelId, userId));
+    }
+    
+    private Map<String, Object> toggleChannelSelectionInRoom(Long roomId, Long channelId, Long userId) {
         try {
-            Optional<Channel> channelOpt = channelRepository.findById(channelId);
-            
-            if (channelOpt.isEmpty()) {
-                Map<String, Object> error = new HashMap<>();
-                error.put("error", "채널을 찾을 수 없습니다");
-                return error;
-            }
-            
-            Channel channel = channelOpt.get();
-            
-            // 방 ID 확인
-            if (!channel.getRaidRoom().getId().equals(roomId)) {
-                Map<String, Object> error = new HashMap<>();
-                error.put("error", "잘못된 레이드 방입니다");
-                return error;
+            // 방 ID 확인 (인메모리 저장소에 있는 방이면 DB 조회 없음)
+            RoomStateStore.LiveRoom liveRoom = roomStateStore.getRoom(roomId);
+            if (liveRoom != null) {
+                if (!roomStateStore.hasChannel(liveRoom, channelId)) {
+                    Map<String, Object> error = new HashMap<>();
+                    error.put("error", "채널을 찾을 수 없습니다");
+                    return error;
+                }
+            } else {
+                Optional<Long> channelRoomId = channelRepository.findRaidRoomIdById(channelId);
+                if (channelRoomId.isEmpty()) {
+                    Map<String, Object> error = new HashMap<>();
+                    error.put("error", "채널을 찾을 수 없습니다");
+                    return error;
+                }
+                if (!channelRoomId.get().equals(roomId)) {
+                    Map<String, Object> error = new HashMap<>();
+                    error.put("error", "잘못된 레이드 방입니다");
+                    return error;
+                }
             }
             
-            // 사용자 확인
+            // 사용자 확인 (표시 정보용 조회만, 쓰기 없음)
             Optional<User> userOpt = userRepository.findById(userId);
             if (userOpt.isEmpty()) {
                 Map<String, Object> error = new HashMap<>();
@@ -751,28 +743,15 @@ public class RaidRoomService {
             
             User user = userOpt.get();
             
-            // 기존 선택 확인
-            Optional<ChannelUser> existingOpt = channelUserRepository.findByChannelIdAndUserId(channelId, userId);
-            
-            if (existingOpt.isPresent()) {
-                // 이미 선택되어 있으면 해제 (다른 채널에서도 제거)
-                List<ChannelUser> userChannels = channelUserRepository.findByUserIdAndRoomId(userId, roomId);
-                channelUserRepository.deleteAll(userChannels);
-            } else {
-                // 다른 채널에서 제거
-                List<ChannelUser> userChannels = channelUserRepository.findByUserIdAndRoomId(userId, roomId);
-                channelUserRepository.deleteAll(userChannels);
-                
-                // 새로 선택
-                ChannelUser channelUser = new ChannelUser();
-                channelUser.setChannel(channel);
-                channelUser.setUser(user);
-                channelUser.setIsMoving(true);
-                channelUserRepository.save(channelUser);
-            }
+            // 같은 채널이면 해제, 아니면 이동 (다른 채널의 표시는 자동으로 대체됨)
+            ChannelUserRow moving = movingStateRegistry.toggle(roomId, new ChannelUserRow(channelId, userId,
+                user.getUsername(), user.getDisplayName(), user.getAvatarUrl(), null, null, true));
+            RoomDelta delta = moving != null
+                ? RoomDelta.userMoved(userId, channelId, ChannelUserView.from(moving))
+                : RoomDelta.userMoved(userId, null, null);
             
-            // 전체 데이터 브로드캐스트 (이동중 표시가 다른 사용자에게도 즉시 반영되도록)
-            realtimeBossService.broadcastRaidRoomUpdate(roomId);
+            // 이동중 델타 브로드캐스트 (이동중 표시가 다른 사용자에게도 즉시 반영되도록)
+            realtimeBossService.publishRoomDelta(roomId, delta);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -788,68 +767,99 @@ public class RaidRoomService {
     /**
      * 사용자의 이동중 상태 제거 (레이드 방 나갈 때)
      */
-    @Transactional
     public Map<String, Object> clearUserMovingStatus(Long roomId, Long userId) {
-        try {
-            // 해당 레이드 방의 모든 채널에서 사용자의 이동중 상태 제거
-            List<ChannelUser> userChannels = channelUserRepository.findByUserIdAndRoomId(userId, roomId);
-            if (!userChannels.isEmpty()) {
-                channelUserRepository.deleteAll(userChannels);
-                logger.info("사용자 이동중 상태 제거: userId={}, roomId={}, removedCount={}", userId, roomId, userChannels.size());
-                
-                // 실시간 브로드캐스트
-                realtimeBossService.broadcastRaidRoomUpdate(roomId);
-            }
+        return inRoom(roomId, () -> clearUserMovingStatusInRoom(roomId, userId));
+    }
+    
+    private Map<String, Object> clearUserMovingStatusInRoom(Long roomId, Long userId) {
+        if (movingStateRegistry.clear(roomId, userId)) {
+            logger.info("사용자 이동중 상태 제거: userId={}, roomId={}", userId, roomId);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            return response;
-        } catch (Exception e) {
-            logger.error("사용자 이동중 상태 제거 중 오류: userId={}, roomId={}", userId, roomId, e);
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", "이동중 상태 제거 중 오류가 발생했습니다: " + e.getMessage());
-            return error;
+            // 실시간 브로드캐스트
+            realtimeBossService.publishRoomDelta(roomId, RoomDelta.userMoved(userId, null, null));
         }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        return response;
     }
     
     /**
-     * 완료된 레이드 방 목록 조회
+     * 완료된 레이드 방 목록 조회 (키셋 페이지)
+     * cursor가 없으면 첫 페이지, 있으면 그 다음부터 size개 (기본/최대 페이지 크기로 제한)
+     * 응답의 nextCursor로 다음 페이지 조회 (마지막 페이지면 null)
+     * 보관 전(유예 기간 중) 방과 보관된 방을 같은 커서로 각각 조회한 뒤 (completedAt, id) 순서로 합침
      */
     @Transactional(readOnly = true)
-    public Map<String, Object> getCompletedRooms() {
-        try {
-            List<RaidRoom> completedRooms = raidRoomRepository.findCompletedRooms();
-            
-            List<Map<String, Object>> rooms = completedRooms.stream()
-                .filter(room -> room.getBoss() != null)
-                .map(room -> {
-                    Map<String, Object> roomData = new HashMap<>();
-                    roomData.put("id", room.getId());
-                    roomData.put("bossName", room.getBoss().getName());
-                    roomData.put("bossType", room.getBoss().getType() != null ? room.getBoss().getType().name() : "UNKNOWN");
-                    roomData.put("raidDate", room.getRaidDate() != null ? room.getRaidDate().toString() : "");
-                    roomData.put("raidTime", room.getRaidTime() != null ? room.getRaidTime().toString() : "");
-                    roomData.put("completedAt", room.getCompletedAt() != null ? room.getCompletedAt().toString() : "");
-                    roomData.put("channelCount", room.getChannels() != null ? room.getChannels().size() : 0);
-                    return roomData;
-                })
-                .collect(Collectors.toList());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("rooms", rooms);
-            return response;
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("rooms", new java.util.ArrayList<>());
-            return response;
+    public Map<String, Object> getCompletedRooms(String cursor, Integer size) {
+        int pageSize = size == null || size <= 0
+            ? completedPageSize
+            : Math.min(size, completedMaxPageSize);
+        // 다음 페이지가 있는지 알기 위해 한 행 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CompletedRoomRow> liveRows;
+        List<CompletedRoomRow> archivedRows;
+        if (cursor == null || cursor.isBlank()) {
+            liveRows = raidRoomRepository.findCompletedPage(limit);
+            archivedRows = raidRoomArchiveRepository.findPage(limit);
+        } else {
+            CompletedRoomCursor after;
+            try {
+                after = CompletedRoomCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                Map<String, Object> error = new HashMap<>();
+                error.put("error", e.getMessage());
+                return error;
+            }
+            liveRows = raidRoomRepository.findCompletedPageAfter(after.completedAt(), after.id(), limit);
+            archivedRows = raidRoomArchiveRepository.findPageAfter(after.completedAt(), after.id(), limit);
+        }
+        List<CompletedRoomRow> rows = mergeNewestFirst(liveRows, archivedRows, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<CompletedRoomRow> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("rooms", page.stream().map(CompletedRoomRow::toResponse).collect(Collectors.toList()));
+        response.put("hasMore", hasMore);
+        response.put("nextCursor", hasMore ? page.get(page.size() - 1).cursor().encode() : null);
+        return response;
+    }
+    
+    /**
+     * 두 목록을 (completedAt, id) 내림차순으로 합쳐 앞에서 limit개
+     * 각 목록은 이미 같은 순서로 정렬되어 있고, 보관된 방은 원래 테이블에 없으므로 id가 겹치지 않음
+     */
+    static List<CompletedRoomRow> mergeNewestFirst(List<CompletedRoomRow> first, List<CompletedRoomRow> second, int limit) {
+        Comparator<CompletedRoomRow> newestFirst = Comparator
+            .comparing(CompletedRoomRow::completedAt, Comparator.reverseOrder())
+            .thenComparing(CompletedRoomRow::id, Comparator.reverseOrder());
+        List<CompletedRoomRow> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j >= second.size() || (i < first.size() && newestFirst.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
         }
+        return merged;
     }
     
     /**
      * 레이드 참석/참석 취소 토글
+     * 참가 기록은 요청마다 바로 기록 (여러 요청을 모아 한 번에 쓰지 않음)
+     * - 응답하는 참석 여부가 같은 사용자의 직전 토글 결과에 따라 정해지므로 커밋된 행을 기준으로 판단해야 함
+     * - 방 메일박스가 이미 같은 방의 토글을 순서대로 하나씩 실행하므로, 모으려면 응답을 늦추는 그룹 커밋이 필요함
+     * 대신 기존 기록 조회 없이 삭제 한 번으로 판단 (삭제된 행이 없으면 참석 등록)
      */
-    @Transactional
     public Map<String, Object> toggleParticipation(Long roomId, Long userId) {
+        return inRoom(roomId, () -> transactionTemplate.execute(status -> toggleParticipationInRoom(roomId, userId)));
+    }
+    
+    private Map<String, Object> toggleParticipationInRoom(Long roomId, Long userId) {
         try {
             // 레이드 방 확인
             Optional<RaidRoom> roomOpt = raidRoomRepository.findById(roomId);
@@ -876,14 +886,10 @@ public class RaidRoomService {
                 return error;
             }
             
-            // 기존 참가 기록 확인
-            Optional<RaidParticipation> existingParticipation = 
-                raidParticipationRepository.findByUserIdAndRaidRoomId(userId, roomId);
-            
+            // 기존 참가 기록이 있으면 삭제 (조회 후 삭제 대신 한 번에)
             boolean isParticipating;
-            if (existingParticipation.isPresent()) {
+            if (raidParticipationRepository.deleteByUserIdAndRaidRoomId(userId, roomId) > 0) {
                 // 참석 취소
-                raidParticipationRepository.delete(existingParticipation.get());
                 isParticipating = false;
                 logger.info("레이드 참석 취소: userId={}, roomId={}", userId, roomId);
             } else {
@@ -897,7 +903,10 @@ public class RaidRoomService {
             }
             
             // 실시간 브로드캐스트 (참석 명단 업데이트)
-            realtimeBossService.broadcastRaidRoomUpdate(roomId);
+            ParticipantView participant = ParticipantView.from(userOpt.get());
+            roomStateStore.setParticipantAfterCommit(roomId, participant, isParticipating);
+            realtimeBossService.publishRoomDelta(roomId,
+                RoomDelta.participantToggled(userId, isParticipating, participant));
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -915,8 +924,20 @@ public class RaidRoomService {
      * 수화룡 레이드: 수룡/화룡 잡힌 시간 업데이트
      * 캐시 무효화는 트랜잭션 커밋 후 RealtimeBossService에서 처리
      */
-    @Transactional
     public Map<String, Object> updateDragonDefeatedTime(Long roomId, Long channelId, String dragonType, String defeatedAtStr) {
+        return inRoom(roomId, () -> updateDragonDefeatedTimeInRoom(roomId, channelId, dragonType, defeatedAtStr));
+    }
+    
+    private Map<String, Object> updateDragonDefeatedTimeInRoom(Long roomId, Long channelId, String dragonType, String defeatedAtStr) {
+        // 인메모리 저장소 모드: 메모리에 즉시 반영 후 브로드캐스트 (DB는 write-behind)
+        RoomStateStore.LiveRoom liveRoom = roomStateStore.getRoom(roomId);
+        if (liveRoom != null) {
+            return updateDragonDefeatedTimeLive(liveRoom, roomId, channelId, dragonType, defeatedAtStr);
+        }
+        return transactionTemplate.execute(status -> updateDragonDefeatedTimeWithJpa(roomId, channelId, dragonType, defeatedAtStr));
+    }
+    
+    private Map<String, Object> updateDragonDefeatedTimeWithJpa(Long roomId, Long channelId, String dragonType, String defeatedAtStr) {
         try {
             Optional<Channel> channelOpt = channelRepository.findById(channelId);
             
@@ -944,23 +965,13 @@ public class RaidRoomService {
                 return error;
             }
             
-            // 시간 파싱 (ISO 8601 형식: "2024-01-01T12:00:00" 또는 "2024-01-01T12:00:00.000")
-            LocalDateTime defeatedAt = null;
-            if (defeatedAtStr != null && !defeatedAtStr.trim().isEmpty()) {
-                try {
-                    // ISO 8601 형식 파싱 시도
-                    if (defeatedAtStr.contains("T")) {
-                        defeatedAt = LocalDateTime.parse(defeatedAtStr.replace("Z", ""), 
-                            DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                    } else {
-                        // 날짜만 있는 경우 현재 시간으로 설정
-                        defeatedAt = LocalDateTime.now();
-                    }
-                } catch (Exception e) {
-                    Map<String, Object> error = new HashMap<>();
-                    error.put("error", "잘못된 시간 형식입니다: " + e.getMessage());
-                    return error;
-                }
+            LocalDateTime defeatedAt;
+            try {
+                defeatedAt = parseDefeatedAt(defeatedAtStr);
+            } catch (Exception e) {
+                Map<String, Object> error = new HashMap<>();
+                error.put("error", "잘못된 시간 형식입니다: " + e.getMessage());
+                return error;
             }
             
             // 드래곤 타입에 따라 필드 업데이트
@@ -977,7 +988,7 @@ public class RaidRoomService {
             channelRepository.save(channel);
             
             // 실시간 브로드캐스트
-            realtimeBossService.broadcastRaidRoomUpdate(roomId);
+            realtimeBossService.publishRoomDelta(roomId, RoomDelta.channelUpserted(channel.getId(), buildChannelView(channel, false)));
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -990,5 +1001,115 @@ public class RaidRoomService {
             return error;
         }
     }
+    
+    /**
+     * 잡힌 시간 파싱 (ISO 8601 형식: "2024-01-01T12:00:00" 또는 "2024-01-01T12:00:00.000")
+     * @return 비어 있으면 null (시간 제거)
+     */
+    private LocalDateTime parseDefeatedAt(String defeatedAtStr) {
+        if (defeatedAtStr == null || defeatedAtStr.trim().isEmpty()) {
+            return null;
+        }
+        // ISO 8601 형식 파싱 시도
+        if (defeatedAtStr.contains("T")) {
+            return LocalDateTime.parse(defeatedAtStr.replace("Z", ""), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        }
+        // 날짜만 있는 경우 현재 시간으로 설정
+        return LocalDateTime.now();
+    }
+    
+    // ===== 인메모리 저장소 모드 (realtime.room-store.enabled=true) =====
+    
+    /**
+     * 메모리의 채널 상태 변경 후 델타 브로드캐스트 (DB 트랜잭션 없음)
+     */
+    private Map<String, Object> updateLiveChannel(RoomStateStore.LiveRoom liveRoom, Long roomId, Long channelId,
+                                                  Consumer<RoomStateStore.LiveChannel> mutator) {
+        ChannelView channel = roomStateStore.updateChannel(liveRoom, channelId, mutator);
+        if (channel == null) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "채널을 찾을 수 없습니다");
+            return error;
+        }
+        
+        realtimeBossService.publishRoomDelta(roomId, RoomDelta.channelUpserted(channelId, channel));
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        return response;
+    }
+    
+    private Map<String, Object> updateChannelMemoLive(RoomStateStore.LiveRoom liveRoom, Long roomId, Long channelId, String memo) {
+        return updateLiveChannel(liveRoom, roomId, channelId, channel -> channel.setMemo(memo));
+    }
+    
+    private Map<String, Object> markDefeatedLive(RoomStateStore.LiveRoom liveRoom, Long roomId, Long channelId) {
+        // 현재 상태를 토글
+        return updateLiveChannel(liveRoom, roomId, channelId,
+            channel -> channel.setIsDefeated(!Boolean.TRUE.equals(channel.getIsDefeated())));
+    }
+    
+    private Map<String, Object> updateChannelBossColorLive(RoomStateStore.LiveRoom liveRoom, Long roomId, Long channelId,
+                                                           String bossType, String bossColor) {
+        // 빈 문자열, null, 회색(gray)이면 색상 제거
+        String colorToSet = (bossColor == null || bossColor.trim().isEmpty() || "gray".equals(bossColor)) ? null : bossColor;
+        
+        if (colorToSet != null && !colorToSet.equals("green") && !colorToSet.equals("yellow") 
+            && !colorToSet.equals("orange") && !colorToSet.equals("red")) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "지원하지 않는 색상입니다");
+            return error;
+        }
+        
+        Consumer<RoomStateStore.LiveChannel> mutator;
+        switch (bossType != null ? bossType : "") {
+            case "흑":
+                mutator = channel -> channel.setBossHeukColor(colorToSet);
+                break;
+            case "진":
+                mutator = channel -> channel.setBossJinColor(colorToSet);
+                break;
+            case "묵":
+                mutator = channel -> channel.setBossMukColor(colorToSet);
+                break;
+            case "감":
+                mutator = channel -> channel.setBossGamColor(colorToSet);
+                break;
+            default:
+                Map<String, Object> error = new HashMap<>();
+                error.put("error", "잘못된 보스 타입입니다");
+                return error;
+        }
+        
+        return updateLiveChannel(liveRoom, roomId, channelId, mutator);
+    }
+    
+    private Map<String, Object> updateDragonDefeatedTimeLive(RoomStateStore.LiveRoom liveRoom, Long roomId, Long channelId,
+                                                             String dragonType, String defeatedAtStr) {
+        // 보스 타입 확인 (수화룡 레이드인지 확인)
+        if (liveRoom.getHeader().bossType() != BossType.DRAGON_WATER_FIRE) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "이 레이드는 수화룡 레이드가 아닙니다");
+            return error;
+        }
+        
+        LocalDateTime defeatedAt;
+        try {
+            defeatedAt = parseDefeatedAt(defeatedAtStr);
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "잘못된 시간 형식입니다: " + e.getMessage());
+            return error;
+        }
+        
+        final LocalDateTime time = defeatedAt;
+        if ("water".equals(dragonType)) {
+            return updateLiveChannel(liveRoom, roomId, channelId, channel -> channel.setWaterDragonDefeatedAt(time));
+        } else if ("fire".equals(dragonType)) {
+            return updateLiveChannel(liveRoom, roomId, channelId, channel -> channel.setFireDragonDefeatedAt(time));
+        }
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "잘못된 드래곤 타입입니다 (water 또는 fire)");
+        return error;
+    }
 }
-
@@ -1,18 +1,37 @@
 package com.example.service;
 
-import com.example.config.ApplicationContextProvider;
+import com.example.config.OutboundSessionPolicy;
+import com.example.dto.RoomDelta;
+import com.example.dto.RoomSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
-import org.springframework.context.ApplicationContext;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 실시간 보스 레이드 상태 동기화 서비스
@@ -39,155 +58,289 @@ public class RealtimeBossService {
     @Autowired
     private CacheManager cacheManager;
     
-    // 캐시된 보스 목록 데이터
-    private Map<String, Object> cachedBosses = null;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private RoomStateStore roomStateStore;
+    
+    @Autowired
+    private CacheLoadCoalescer cacheLoadCoalescer;
+    
+    @Autowired
+    private RealtimeOutbox realtimeOutbox;
+    
+    @Autowired
+    private LobbyBoard lobbyBoard;
+    
+    @Autowired
+    private RoomSubscriptionRegistry roomSubscriptionRegistry;
+    
+    // 방 브로드캐스트 발행 실행기 (ExecutorConfig)
+    @Autowired
+    @Qualifier("broadcastExecutor")
+    private Executor broadcastExecutor;
+    
+    // 병합 윈도우 (같은 방의 변경을 모아서 한 번에 발행)
+    @Value("${realtime.broadcast.coalesce-window-ms:100}")
+    private long coalesceWindowMillis;
+    
+    @Value("${realtime.broadcast.coalesce-threads:2}")
+    private int coalesceThreads;
+    
+    // 방별로 보관할 최근 델타 메시지 수 (재접속 시 이어서 재생할 수 있는 범위)
+    @Value("${realtime.replay.capacity:128}")
+    private int replayCapacity;
+    
+    // 발행이 없는 방의 재생 버퍼 보관 시간
+    @Value("${realtime.replay.retention-ms:600000}")
+    private long replayRetentionMillis;
+    
+    // 조회/발행이 없는 방의 버전과 직렬화된 프레임 보관 시간 (재생 버퍼보다 짧으면 재생 버퍼 보관 시간 사용)
+    @Value("${realtime.room-state.retention-ms:3600000}")
+    private long roomStateRetentionMillis;
+    
+    // 방별 브로드캐스트 병합 스케줄러
+    private RoomBroadcastCoalescer broadcastCoalescer;
+    
+    // 방별 직렬화된 스냅샷 프레임 캐시 (브로커/REST/재동기화 공용)
+    private RoomFrameCache frameCache;
+    
+    // 방별 최근 델타 메시지 (재접속한 세션에 놓친 델타만 재생)
+    private RoomReplayBuffer replayBuffer;
+    
+    // 방별 상태 버전 (roomId -> version), 발행할 때마다 1씩 증가
+    // 조회/발행이 없으면 만료 (다시 쓰일 때 현재 시각으로 시작하므로 버전은 줄어들지 않음)
+    private Cache<Long, AtomicLong> roomVersions;
+    
+    @PostConstruct
+    public void initBroadcastCoalescer() {
+        broadcastCoalescer = new RoomBroadcastCoalescer(
+            coalesceWindowMillis, coalesceThreads, broadcastExecutor, this::executeBroadcast, meterRegistry);
+        Duration roomStateRetention = Duration.ofMillis(Math.max(roomStateRetentionMillis, replayRetentionMillis));
+        roomVersions = Caffeine.newBuilder()
+            .expireAfterAccess(roomStateRetention)
+            .build();
+        frameCache = new RoomFrameCache(objectMapper, meterRegistry, roomStateRetention);
+        replayBuffer = new RoomReplayBuffer(replayCapacity, Duration.ofMillis(replayRetentionMillis));
+    }
+    
+    @PreDestroy
+    public void shutdownBroadcastCoalescer() {
+        if (broadcastCoalescer != null) {
+            broadcastCoalescer.shutdown();
+        }
+    }
     
     /**
-     * BossService를 지연 로딩으로 가져오기 (순환 참조 방지)
+     * RaidRoomService를 지연 로딩으로 가져오기 (순환 참조 방지)
      */
-    private BossService getBossService() {
+    private RaidRoomService getRaidRoomService() {
         return com.example.config.ApplicationContextProvider
             .getApplicationContext()
-            .getBean(BossService.class);
+            .getBean(RaidRoomService.class);
     }
     
     /**
-     * RaidRoomService를 지연 로딩으로 가져오기 (순환 참조 방지)
+     * WebSocketConnectionService를 지연 로딩으로 가져오기 (순환 참조 방지)
      */
-    private RaidRoomService getRaidRoomService() {
+    private WebSocketConnectionService getWebSocketConnectionService() {
         return com.example.config.ApplicationContextProvider
             .getApplicationContext()
-            .getBean(RaidRoomService.class);
+            .getBean(WebSocketConnectionService.class);
     }
     
     /**
-     * 보스 목록 조회 (캐시 활용)
-     * DB 변경 이벤트가 발생하지 않으면 캐시된 데이터 반환
+     * 특정 레이드 방의 전체 스냅샷을 브로드캐스트
+     * 델타로 표현하기 어려운 변경에만 사용 (일반 변경은 publishRoomDelta 사용)
+     * 
+     * 성능 개선: 방별 병합(coalescing) 발행
+     * 1. 트랜잭션 커밋 후 캐시 무효화
+     * 2. 병합 윈도우(realtime.broadcast.coalesce-window-ms) 동안 들어온 같은 방의 변경을 모아서
+     *    스냅샷 1회 조회 + 발행 1회로 처리
      */
-    public Map<String, Object> getBossesWithCache() {
-        if (cachedBosses == null) {
-            cachedBosses = getBossService().getTodayBosses();
+    public void broadcastRaidRoomUpdate(Long roomId) {
+        submitAfterCommit(roomId, null);
+    }
+    
+    /**
+     * 특정 레이드 방의 변경 델타를 브로드캐스트
+     * (채널 추가, 잡혔다 표시, 이동중 표시 등)
+     * 병합 윈도우 동안 모인 델타는 하나의 delta 메시지(fromVersion -> toVersion)로 발행됨
+     */
+    public void publishRoomDelta(Long roomId, RoomDelta delta) {
+        submitAfterCommit(roomId, delta);
+    }
+    
+    /**
+     * 트랜잭션 안이면 아웃박스에 기록 (커밋 후 RealtimeOutbox가 캐시 무효화 및 브로드캐스트 요청)
+     * 트랜잭션 밖이면 함께 커밋할 변경이 없으므로 바로 요청
+     */
+    private void submitAfterCommit(Long roomId, RoomDelta delta) {
+        if (realtimeOutbox.isTransactional()) {
+            realtimeOutbox.appendRoomEvent(roomId, delta);
+            return;
+        }
+        publishRoomEvents(roomId, delta != null ? List.of(delta) : null);
+    }
+    
+    /**
+     * 커밋된 방 이벤트 발행 요청 (RealtimeOutbox 발행 스레드 또는 트랜잭션 밖에서 호출)
+     * 캐시 무효화 후 병합 윈도우 뒤 브로드캐스트
+     * @param deltas 기록 순서대로의 델타 (null이면 전체 스냅샷)
+     */
+    public void publishRoomEvents(Long roomId, List<RoomDelta> deltas) {
+        evictRaidRoomCache(roomId);
+        if (deltas == null) {
+            broadcastCoalescer.submit(roomId);
+            return;
+        }
+        for (RoomDelta delta : deltas) {
+            broadcastCoalescer.submit(roomId, delta);
         }
-        return cachedBosses;
     }
     
     /**
-     * 캐시 무효화
+     * 레이드 방의 현재 버전 조회
+     * 처음 조회하는 방은 현재 시각으로 시작하여 서버 재시작 후에도 버전이 줄어들지 않도록 함
      */
-    public void invalidateCache() {
-        cachedBosses = null;
+    public long getRoomVersion(Long roomId) {
+        return roomVersions.get(roomId, k -> new AtomicLong(System.currentTimeMillis())).get();
+    }
+    
+    private long nextRoomVersion(Long roomId) {
+        return roomVersions.get(roomId, k -> new AtomicLong(System.currentTimeMillis())).incrementAndGet();
     }
     
     /**
-     * 특정 레이드 방의 변경사항을 즉시 브로드캐스트
-     * (채널 추가, 잡혔다 표시 등)
+     * 삭제/보관된 방의 버전, 직렬화된 프레임, 재생 버퍼 제거 (트랜잭션 안이면 커밋 후)
+     */
+    public void forgetRoom(Long roomId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forgetRoomNow(roomId);
+                }
+            });
+        } else {
+            forgetRoomNow(roomId);
+        }
+    }
+    
+    private void forgetRoomNow(Long roomId) {
+        roomVersions.invalidate(roomId);
+        frameCache.evict(roomId);
+        replayBuffer.evict(roomId);
+    }
+    
+    /**
+     * 버전이 포함된 레이드 방 스냅샷 프레임 조회 (REST 조회 및 클라이언트 재동기화용)
+     * 버전을 먼저 읽고 상태를 조회하므로, 스냅샷은 항상 해당 버전 이상의 상태를 포함함
+     * (이후 도착하는 델타는 멱등이라 중복 적용되어도 안전)
      * 
-     * 성능 개선: 증분 업데이트 + 백그라운드 전체 업데이트
-     * 1. 즉시 증분 업데이트 브로드캐스트 (빠른 반응)
-     * 2. 백그라운드에서 전체 데이터 조회 및 브로드캐스트 (데이터 일관성 보장)
+     * 같은 버전이면 이미 직렬화된 프레임(UTF-8 JSON)을 그대로 반환
+     * 상태는 raidRoom 캐시를 우회하여 조회 (커밋 전에 시작된 조회가 무효화 뒤에 캐시에 넣은
+     * 변경 전 상태를 새 버전으로 포장하지 않도록, 같은 버전의 재조회는 프레임 캐시가 흡수)
+     * @return 직렬화된 스냅샷 (방이 없으면 null)
      */
-    public void broadcastRaidRoomUpdate(Long roomId) {
+    public byte[] getRoomSnapshotFrame(Long roomId) throws JsonProcessingException {
+        long version = getRoomVersion(roomId);
+        return frameCache.getOrEncode(roomId, version,
+            () -> toSnapshot(loadRoomSnapshot(roomId), version));
+    }
+    
+    /**
+     * 요청한 세션에만 스냅샷 프레임 전송 (구독 경로: /user/queue/raid-room)
+     */
+    public void sendRoomSnapshotToSession(Long roomId, String sessionId) {
         try {
-            // 트랜잭션이 커밋된 후에만 브로드캐스트하도록
-            if (org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive()) {
-                org.springframework.transaction.support.TransactionSynchronizationManager
-                    .registerSynchronization(new org.springframework.transaction.support.TransactionSynchronization() {
-                        @Override
-                        public void afterCommit() {
-                            // 트랜잭션 커밋 후 캐시 무효화
-                            evictRaidRoomCache(roomId);
-                            // 즉시 증분 업데이트 브로드캐스트 (빠른 반응)
-                            broadcastIncrementalUpdate(roomId);
-                            // 백그라운드에서 전체 데이터 조회 및 브로드캐스트 (데이터 일관성 보장)
-                            executeBroadcastAsync(roomId, "트랜잭션 커밋 후");
-                        }
-                    });
-            } else {
-                // 트랜잭션 외부에서 호출된 경우 즉시 실행
-                evictRaidRoomCache(roomId);
-                broadcastIncrementalUpdate(roomId);
-                executeBroadcastAsync(roomId, "트랜잭션 외부");
+            byte[] frame = getRoomSnapshotFrame(roomId);
+            if (frame == null) {
+                return;
             }
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setSessionId(sessionId);
+            sendFrame("/user/" + sessionId + "/queue/raid-room", frame, accessor);
         } catch (Exception e) {
-            // 예외 발생 시에도 브로드캐스트 시도
-            evictRaidRoomCache(roomId);
-            broadcastIncrementalUpdate(roomId);
-            executeBroadcastAsync(roomId, "예외 처리 중");
+            logger.error("스냅샷 재동기화 전송 실패: roomId={}, sessionId={}", roomId, sessionId, e);
         }
     }
     
     /**
-     * 증분 업데이트 브로드캐스트 (즉시 실행, 빠른 반응)
-     * 클라이언트가 즉시 UI를 업데이트할 수 있도록 변경 사항만 전송
-     * 전체 데이터는 백그라운드에서 조회하여 보완
+     * 재접속한 세션에 놓친 변경 전달 (구독 경로: /user/queue/raid-room)
+     * - sinceVersion 이후의 델타가 재생 버퍼에 모두 있으면 그 델타 메시지만 순서대로 전송
+     * - 버퍼로 이을 수 없으면 (너무 오래됐거나, 중간에 스냅샷 발행, 서버 재시작) 전체 스냅샷 전송
+     * 마지막에 resumed 메시지(version)를 보내 재생이 끝났음을 알림
+     * @param sinceVersion 클라이언트가 마지막으로 반영한 버전 (없으면 스냅샷)
      */
-    private void broadcastIncrementalUpdate(Long roomId) {
+    public void resumeRoomForSession(Long roomId, String sessionId, Long sinceVersion) {
+        RoomReplayBuffer.Replay replay = sinceVersion != null ? replayBuffer.since(roomId, sinceVersion) : null;
+        if (replay == null && sinceVersion != null && sinceVersion == getRoomVersion(roomId)) {
+            // 버퍼가 만료됐어도 그동안 발행이 없었으면 놓친 변경 없음
+            replay = new RoomReplayBuffer.Replay(List.of(), sinceVersion);
+        }
+        if (replay == null) {
+            meterRegistry.counter("realtime.replay.resumes", "outcome", "snapshot").increment();
+            sendRoomSnapshotToSession(roomId, sessionId);
+            return;
+        }
         try {
-            // 캐시에서 최신 데이터를 빠르게 조회 (전체 조회보다 빠름)
-            Map<String, Object> cachedData = null;
-            try {
-                var cache = cacheManager != null ? cacheManager.getCache("raidRoom") : null;
-                if (cache != null) {
-                    var cacheValue = cache.get(roomId);
-                    if (cacheValue != null) {
-                        Object value = cacheValue.get();
-                        if (value instanceof Map<?, ?>) {
-                            @SuppressWarnings("unchecked")
-                            Map<String, Object> temp = (Map<String, Object>) value;
-                            cachedData = temp;
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                // 캐시 조회 실패는 무시
+            for (Object message : replay.messages()) {
+                sendToSession(sessionId, message);
             }
-            
-            Map<String, Object> update = new HashMap<>();
-            update.put("type", "incremental_update");
-            update.put("roomId", roomId);
-            update.put("_timestamp", System.currentTimeMillis());
-            
-            // 캐시된 데이터가 있으면 포함 (빠른 반응)
-            if (cachedData != null) {
-                update.put("channels", cachedData.get("channels"));
-                update.put("participants", cachedData.get("participants"));
-                update.put("connectedUsers", cachedData.get("connectedUsers"));
-                logger.debug("증분 업데이트 브로드캐스트 (캐시 사용): roomId={}", roomId);
-            } else {
-                // 캐시가 없으면 빠르게 최소한의 데이터만 조회 (전체 조회보다 빠름)
-                try {
-                    // 빠른 조회: getRaidRoom은 캐시를 확인하고, 캐시가 없으면 DB에서 조회
-                    // loadChannelsAndUsers=false로 빠르게 조회 (채널 유저는 제외)
-                    Map<String, Object> quickData = getRaidRoomService().getRaidRoom(roomId);
-                    if (quickData != null) {
-                        update.put("channels", quickData.get("channels"));
-                        update.put("participants", quickData.get("participants"));
-                        update.put("connectedUsers", quickData.get("connectedUsers"));
-                        logger.debug("증분 업데이트 브로드캐스트 (빠른 조회): roomId={}", roomId);
-                    } else {
-                        update.put("message", "업데이트가 발생했습니다. 전체 데이터를 기다리는 중...");
-                        logger.debug("증분 업데이트 브로드캐스트 (데이터 없음): roomId={}", roomId);
-                    }
-                } catch (Exception e) {
-                    update.put("message", "업데이트가 발생했습니다. 전체 데이터를 기다리는 중...");
-                    logger.debug("증분 업데이트 브로드캐스트 (조회 실패): roomId={}", roomId);
-                }
-            }
-            
-            messagingTemplate.convertAndSend("/topic/raid-room/" + roomId, update);
+            Map<String, Object> resumed = new HashMap<>();
+            resumed.put("type", "resumed");
+            resumed.put("roomId", roomId);
+            resumed.put("version", replay.version());
+            sendToSession(sessionId, resumed);
+            meterRegistry.counter("realtime.replay.resumes", "outcome", replay.messages().isEmpty() ? "current" : "replayed").increment();
+            meterRegistry.counter("realtime.replay.messages").increment(replay.messages().size());
         } catch (Exception e) {
-            logger.warn("증분 업데이트 브로드캐스트 실패: roomId={}", roomId, e);
+            logger.error("델타 재생 전송 실패: roomId={}, sessionId={}, sinceVersion={}", roomId, sessionId, sinceVersion, e);
         }
     }
     
+    private void sendToSession(String sessionId, Object payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.convertAndSend("/user/" + sessionId + "/queue/raid-room", payload, accessor.getMessageHeaders());
+    }
+    
     /**
-     * 비동기로 전체 데이터 브로드캐스트 (백그라운드 실행)
-     * 데이터 일관성을 보장하기 위해 전체 데이터를 조회하여 전송
+     * 레이드 방 상태 조회
+     * 인메모리 저장소에 있는 방이면 DB 조회 없이 메모리 상태 사용, 아니면 JPA 경로 (raidRoom 캐시 우회)
+     * 버전을 붙여 발행/제공하는 스냅샷이므로 캐시에 남은 변경 전 상태를 쓰지 않음
      */
-    @Async
-    public CompletableFuture<Void> executeBroadcastAsync(Long roomId, String context) {
-        executeBroadcast(roomId, context);
-        return CompletableFuture.completedFuture(null);
+    private RoomSnapshot loadRoomSnapshot(Long roomId) {
+        if (roomStateStore.isEnabled()) {
+            RoomSnapshot live = roomStateStore.snapshot(roomId, getWebSocketConnectionService().getConnectedUsers(roomId));
+            if (live != null) {
+                return live;
+            }
+        }
+        return getRaidRoomService().getRaidRoomWithoutCache(roomId);
+    }
+    
+    /**
+     * 방 데이터에 스냅샷 표시와 버전 추가 (캐시된 스냅샷은 불변이라 복사본 생성)
+     */
+    private RoomSnapshot toSnapshot(RoomSnapshot roomData, long version) {
+        return roomData != null ? roomData.withVersion(version) : null;
+    }
+    
+    /**
+     * 직렬화된 프레임을 메시지 변환 없이 그대로 브로커로 전송
+     * (byte[] 페이로드는 컨버터를 거치지 않으므로 재직렬화되지 않음)
+     */
+    private void sendFrame(String destination, byte[] frame, SimpMessageHeaderAccessor accessor) {
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(frame, accessor.getMessageHeaders()));
     }
     
     /**
@@ -200,7 +353,9 @@ public class RealtimeBossService {
                 if (cache != null) {
                     cache.evict(roomId);
                 }
+                cacheLoadCoalescer.invalidate("raidRoom", roomId);
             }
+            frameCache.evict(roomId);
         } catch (Exception e) {
             // 캐시 무효화 실패는 무시 (로깅만)
         }
@@ -225,61 +380,95 @@ public class RealtimeBossService {
     }
     
     /**
-     * 실제 브로드캐스트 실행 (전체 데이터)
-     * 캐시를 우회하여 최신 데이터를 보장
+     * 실제 브로드캐스트 실행
+     * 병합 윈도우가 끝날 때 방별로 한 번만(순차적으로) 호출됨
+     * - 전체 스냅샷 요청이 포함된 배치: 버전을 올리고 캐시를 우회한 전체 데이터 발행
+     * - 델타만 있는 배치: fromVersion -> toVersion 델타 메시지 하나로 발행
      */
-    private void executeBroadcast(Long roomId, String context) {
+    private void executeBroadcast(Long roomId, RoomBroadcastCoalescer.Batch batch) {
         try {
-            // 캐시를 우회하여 최신 데이터 조회 (트랜잭션 커밋 후이므로 최신 데이터 보장)
-            Map<String, Object> roomData = getRaidRoomService().getRaidRoomWithoutCache(roomId);
-            if (roomData != null) {
-                // 타임스탬프 추가하여 메시지 순서 보장
-                roomData.put("_timestamp", System.currentTimeMillis());
-                messagingTemplate.convertAndSend("/topic/raid-room/" + roomId, roomData);
-                int channelCount = roomData.get("channels") != null ? ((java.util.List<?>) roomData.get("channels")).size() : 0;
-                logger.info("WebSocket 브로드캐스트 성공: roomId={}, context={}, channels={}", roomId, context, channelCount);
+            if (!roomSubscriptionRegistry.hasRoomSubscribers(roomId)) {
+                skipBroadcast(roomId, batch);
+                return;
+            }
+            if (batch.isFullSnapshot()) {
+                // 버전을 먼저 올린 뒤 상태 조회 (스냅샷이 버전 이상의 상태를 포함하도록)
+                long version = nextRoomVersion(roomId);
+                // 캐시를 우회하여 최신 데이터 조회 (트랜잭션 커밋 후이므로 최신 데이터 보장)
+                RoomSnapshot roomData = loadRoomSnapshot(roomId);
+                if (roomData != null) {
+                    // 한 번만 직렬화하여 프레임 캐시에 저장 (이후 같은 버전의 REST/재동기화 조회가 재사용)
+                    // 순서는 version으로 보장되므로 프레임이 공유되도록 _timestamp는 넣지 않음
+                    byte[] frame = frameCache.put(roomId, version, toSnapshot(roomData, version));
+                    // 스냅샷 이전 델타로는 이 버전을 만들 수 없으므로 재생 버퍼는 이 버전부터 다시 시작
+                    replayBuffer.reset(roomId, version);
+                    // 느린 세션에서는 보내지 않은 이전 스냅샷/델타를 이 스냅샷으로 대체 (OutboundSessionPolicy)
+                    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+                    accessor.setNativeHeader(OutboundSessionPolicy.CONFLATE_HEADER, OutboundSessionPolicy.CONFLATE_SNAPSHOT);
+                    sendFrame("/topic/raid-room/" + roomId, frame, accessor);
+                    logger.info("WebSocket 스냅샷 브로드캐스트 성공: roomId={}, version={}, folded={}, channels={}",
+                        roomId, version, batch.getFoldedCount(), roomData.channels().size());
+                } else {
+                    logger.error("WebSocket 브로드캐스트 실패: roomData가 null입니다. roomId={}, folded={}", roomId, batch.getFoldedCount());
+                }
             } else {
-                logger.error("WebSocket 브로드캐스트 실패: roomData가 null입니다. roomId={}, context={}", roomId, context);
+                long fromVersion = getRoomVersion(roomId);
+                long toVersion = nextRoomVersion(roomId);
+                
+                Map<String, Object> message = new HashMap<>();
+                message.put("type", "delta");
+                message.put("roomId", roomId);
+                message.put("fromVersion", fromVersion);
+                message.put("toVersion", toVersion);
+                message.put("ops", batch.getDeltas());
+                message.put("_timestamp", System.currentTimeMillis());
+                
+                replayBuffer.append(roomId, fromVersion, toVersion, message);
+                messagingTemplate.convertAndSend("/topic/raid-room/" + roomId, message);
+                logger.debug("WebSocket 델타 브로드캐스트 성공: roomId={}, version={}->{}, ops={}",
+                    roomId, fromVersion, toVersion, batch.getDeltas().size());
             }
         } catch (Exception e) {
             // 브로드캐스트 실패 시 로깅
-            logger.error("WebSocket 브로드캐스트 예외 발생: roomId={}, context={}", roomId, context, e);
+            logger.error("WebSocket 브로드캐스트 예외 발생: roomId={}, folded={}", roomId, batch.getFoldedCount(), e);
         }
     }
     
     /**
-     * 보스 목록 전체 업데이트 브로드캐스트
-     * DB 변경 이벤트 발생 시 호출됨
-     * 1. 캐시 무효화
-     * 2. DB에서 최신 데이터 조회
-     * 3. WebSocket으로 브로드캐스트
+     * 방 토픽 구독자가 없으면 스냅샷 조회/직렬화/발행을 하지 않음
+     * 버전은 올리고 재생 버퍼는 비움 (나중에 이어받기를 요청한 클라이언트는 변경을 놓치지 않고 스냅샷을 받음)
+     * 새로 입장하는 클라이언트는 입장 스냅샷으로 최신 상태를 받음
+     * 하위 토픽(/users 등)만 구독 중인 방은 별도로 집계 (reason=sub_topic_only)
      */
-    public void broadcastBossListUpdate() {
-        try {
-            ApplicationContext context = ApplicationContextProvider.getApplicationContext();
-            if (context == null) {
-                return;
-            }
-            
-            // 캐시 무효화
-            invalidateCache();
-            
-            // 최신 데이터 조회 (캐시가 무효화되었으므로 DB에서 조회)
-            BossService bossService = getBossService();
-            if (bossService == null) {
-                return;
-            }
-            
-            Map<String, Object> bosses = bossService.getTodayBosses();
-            
-            // 캐시 업데이트
-            cachedBosses = bosses;
-            
-            // WebSocket 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/bosses/today", bosses);
-        } catch (Exception e) {
-            // 브로드캐스트 실패 시 무시
+    private void skipBroadcast(Long roomId, RoomBroadcastCoalescer.Batch batch) {
+        long version = nextRoomVersion(roomId);
+        replayBuffer.reset(roomId, version);
+        String reason = roomSubscriptionRegistry.hasAnySubscribers(roomId) ? "sub_topic_only" : "no_subscribers";
+        meterRegistry.counter("realtime.broadcast.skipped",
+            "reason", reason,
+            "kind", batch.isFullSnapshot() ? "snapshot" : "delta").increment();
+        logger.debug("구독자 없는 방 브로드캐스트 생략: roomId={}, version={}, reason={}, folded={}",
+            roomId, version, reason, batch.getFoldedCount());
+    }
+    
+    /**
+     * 보스 목록(로비)에서 방이 바뀌었음을 알림 (방 생성/완료/삭제, 채널 수 변경)
+     * 트랜잭션 안이면 아웃박스에 기록하여 커밋 후 전달, 트랜잭션 밖이면 바로 전달
+     * 로비 보드가 발행 간격마다 바뀐 방만 다시 읽어 lobby_delta로 발행
+     */
+    public void broadcastBossListUpdate(Long roomId) {
+        if (realtimeOutbox.isTransactional()) {
+            realtimeOutbox.appendBossListEvent(roomId);
+            return;
         }
+        publishLobbyRooms(List.of(roomId));
+    }
+    
+    /**
+     * 커밋된 로비 변경 전달 (RealtimeOutbox 발행 스레드 또는 트랜잭션 밖에서 호출)
+     */
+    public void publishLobbyRooms(Collection<Long> roomIds) {
+        lobbyBoard.markDirty(roomIds);
     }
 }
 
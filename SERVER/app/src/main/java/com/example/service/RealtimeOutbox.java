@@ -0,0 +1,380 @@
+package com.example.service;
+
+import com.example.config.ApplicationContextProvider;
+import com.example.config.ExecutorConfig;
+import com.example.dto.RoomDelta;
+import com.example.entity.RealtimeOutboxEvent;
+import com.example.entity.RealtimeOutboxEvent.EventType;
+import com.example.repository.RealtimeOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 실시간 이벤트 아웃박스 (변경과 같은 트랜잭션에 이벤트를 기록하고, 커밋 순서대로 발행)
+ *
+ * 동작 방식:
+ * 1. 변경 트랜잭션 안에서 append: realtime_outbox에 이벤트 기록 (롤백되면 이벤트도 사라짐)
+ *    같은 이벤트를 트랜잭션별 목록에도 보관
+ * 2. 커밋이 끝나면 (afterCompletion, 모든 afterCommit 캐시 무효화 이후) 그 트랜잭션의 이벤트 묶음을
+ *    메모리 발행 큐에 넣고 발행 스레드를 깨움
+ *    (IDENTITY id는 INSERT 순서라 커밋 순서와 다를 수 있음, 같은 행을 바꾸는 트랜잭션은 행 잠금으로
+ *     커밋 순서가 정해지므로 커밋 직후 넣는 순서가 곧 클라이언트가 받는 순서)
+ * 3. 발행 스레드가 큐에서 최대 batch-size건씩 꺼내 방별로 묶어 발행한 뒤 테이블에서 삭제 (DELETE 1회)
+ *    - 같은 방에 전체 스냅샷 이벤트가 있으면 그 방의 델타는 스냅샷 하나로 대체
+ *    - 연속으로 같은 델타는 한 번만 발행
+ *    - 보스 목록 이벤트는 바뀐 방 목록으로 모아 로비 보드(LobbyBoard)에 한 번에 전달
+ * 4. 테이블은 장애 복구용: 커밋 후 발행/삭제 전에 종료되면 다음 시작 시 남은 이벤트를 id 순서대로 한 번 발행
+ *    (델타는 멱등이라 중복 적용되어도 안전, 평상시에는 테이블을 조회하지 않음)
+ *
+ * 트랜잭션 밖의 변경(인메모리 방 상태 저장소 등)은 함께 커밋할 DB 변경이 없으므로 기록하지 않고 바로 발행
+ * 발행 스레드는 하나이며 단일 인스턴스 배포를 전제로 함
+ *
+ * 지표: realtime.outbox.appended / published / deduplicated / lag
+ */
+@Service
+public class RealtimeOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(RealtimeOutbox.class);
+
+    @Autowired
+    private RealtimeOutboxRepository realtimeOutboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 한 번에 꺼내 발행할 최대 이벤트 수
+    @Value("${realtime.outbox.batch-size:200}")
+    private int batchSize;
+
+    private ExecutorService relay;
+
+    // 커밋된 트랜잭션별 이벤트 묶음 (커밋 직후 넣은 순서 = 발행 순서)
+    private final Queue<List<RealtimeOutboxEvent>> committed = new ConcurrentLinkedQueue<>();
+
+    // 발행이 이미 예약되어 있으면 커밋마다 중복 예약하지 않음
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private Counter appendedCounter;
+    private Counter publishedCounter;
+    private Counter deduplicatedCounter;
+    private Timer lagTimer;
+
+    @PostConstruct
+    public void init() {
+        appendedCounter = Counter.builder("realtime.outbox.appended")
+            .description("아웃박스에 기록된 실시간 이벤트 수")
+            .register(meterRegistry);
+        publishedCounter = Counter.builder("realtime.outbox.published")
+            .description("아웃박스에서 발행 처리된 실시간 이벤트 수")
+            .register(meterRegistry);
+        deduplicatedCounter = Counter.builder("realtime.outbox.deduplicated")
+            .description("중복되거나 스냅샷에 포함되어 발행하지 않은 이벤트 수")
+            .register(meterRegistry);
+        lagTimer = Timer.builder("realtime.outbox.lag")
+            .description("이벤트 기록부터 발행까지 걸린 시간")
+            .register(meterRegistry);
+
+        relay = Executors.newSingleThreadExecutor(ExecutorConfig.dedicatedThreads(ExecutorConfig.OUTBOX_RELAY));
+    }
+
+    /**
+     * 시작 시 이전 실행에서 발행하지 못하고 남은 이벤트 발행 (발행 스레드에서 한 번만 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        relay.execute(this::recover);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relay.shutdown();
+        try {
+            relay.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에 기록할 수 있는지 (트랜잭션 밖이면 호출자가 바로 발행)
+     */
+    public boolean isTransactional() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * 방 이벤트 기록 (delta가 null이면 전체 스냅샷)
+     */
+    public void appendRoomEvent(Long roomId, RoomDelta delta) {
+        RealtimeOutboxEvent event = new RealtimeOutboxEvent();
+        event.setRoomId(roomId);
+        if (delta == null) {
+            event.setEventType(EventType.ROOM_SNAPSHOT);
+        } else {
+            event.setEventType(EventType.ROOM_DELTA);
+            try {
+                event.setPayload(objectMapper.writeValueAsString(delta));
+            } catch (JsonProcessingException e) {
+                // 델타를 기록할 수 없으면 스냅샷으로 대신 발행
+                logger.warn("아웃박스 델타 직렬화 실패, 스냅샷으로 대체: roomId={}, op={}", roomId, delta.op());
+                event.setEventType(EventType.ROOM_SNAPSHOT);
+            }
+        }
+        append(event);
+    }
+
+    /**
+     * 보스 목록(로비)에서 방이 바뀌었다는 이벤트 기록 (방 생성/완료/삭제, 채널 수 변경)
+     */
+    public void appendBossListEvent(Long roomId) {
+        RealtimeOutboxEvent event = new RealtimeOutboxEvent();
+        event.setEventType(EventType.BOSS_LIST);
+        event.setRoomId(roomId);
+        append(event);
+    }
+
+    private void append(RealtimeOutboxEvent event) {
+        realtimeOutboxRepository.save(event);
+        appendedCounter.increment();
+        currentTransactionEvents().events.add(event);
+    }
+
+    /**
+     * 현재 트랜잭션의 이벤트 목록 (처음 기록할 때 커밋 후 발행 동기화 등록)
+     * 중단(suspend)된 바깥 트랜잭션의 동기화는 목록에 보이지 않으므로 REQUIRES_NEW 안에서도 트랜잭션별로 분리됨
+     */
+    private TransactionEvents currentTransactionEvents() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionEvents events && events.owner() == this) {
+                return events;
+            }
+        }
+        TransactionEvents events = new TransactionEvents();
+        TransactionSynchronizationManager.registerSynchronization(events);
+        return events;
+    }
+
+    /**
+     * 발행 스레드에 남은 이벤트 발행 요청
+     */
+    private void wakeUp() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                relay.execute(this::drain);
+            } catch (Exception e) {
+                // 종료 중이면 다음 시작 시 발행
+                drainScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * 커밋된 이벤트를 커밋 순서대로 모두 발행 (발행 스레드에서만 실행)
+     * 트랜잭션 하나의 이벤트는 나누지 않으므로 배치는 batch-size를 조금 넘을 수 있음
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        RealtimeBossService realtimeBossService = getRealtimeBossService();
+        if (realtimeBossService == null) {
+            return;
+        }
+        while (!committed.isEmpty()) {
+            List<RealtimeOutboxEvent> events = new ArrayList<>();
+            List<RealtimeOutboxEvent> transaction;
+            while (events.size() < batchSize && (transaction = committed.poll()) != null) {
+                events.addAll(transaction);
+            }
+            try {
+                publish(realtimeBossService, events);
+                realtimeOutboxRepository.deleteAllByIdInBatch(events.stream().map(RealtimeOutboxEvent::getId).toList());
+            } catch (Exception e) {
+                // 삭제되지 않은 이벤트는 다음 시작 시 복구 발행
+                logger.error("아웃박스 이벤트 발행 실패: {}건", events.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 테이블에 남은 이벤트를 id 순서대로 발행 후 삭제 (시작 시 한 번, 발행 스레드에서 실행)
+     */
+    private void recover() {
+        RealtimeBossService realtimeBossService = getRealtimeBossService();
+        if (realtimeBossService == null) {
+            return;
+        }
+        int recovered = 0;
+        try {
+            List<RealtimeOutboxEvent> events;
+            do {
+                events = realtimeOutboxRepository.findByOrderByIdAsc(PageRequest.of(0, batchSize));
+                if (events.isEmpty()) {
+                    break;
+                }
+                publish(realtimeBossService, events);
+                realtimeOutboxRepository.deleteAllByIdInBatch(events.stream().map(RealtimeOutboxEvent::getId).toList());
+                recovered += events.size();
+            } while (events.size() >= batchSize);
+        } catch (Exception e) {
+            logger.error("아웃박스 복구 발행 실패", e);
+        }
+        if (recovered > 0) {
+            logger.info("아웃박스 복구 발행: 이전 실행에서 남은 이벤트 {}건", recovered);
+        }
+    }
+
+    private void publish(RealtimeBossService realtimeBossService, List<RealtimeOutboxEvent> events) {
+        Plan plan = plan(events, this::readDelta);
+        for (RoomPublish room : plan.rooms()) {
+            realtimeBossService.publishRoomEvents(room.roomId(), room.fullSnapshot() ? null : room.deltas());
+        }
+        if (!plan.lobbyRooms().isEmpty()) {
+            realtimeBossService.publishLobbyRooms(plan.lobbyRooms());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (RealtimeOutboxEvent event : events) {
+            if (event.getCreatedAt() != null) {
+                lagTimer.record(Duration.between(event.getCreatedAt(), now));
+            }
+        }
+        publishedCounter.increment(events.size());
+        deduplicatedCounter.increment(events.size() - plan.publishCount());
+    }
+
+    private RoomDelta readDelta(RealtimeOutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), RoomDelta.class);
+        } catch (Exception e) {
+            logger.warn("아웃박스 델타 역직렬화 실패, 스냅샷으로 대체: id={}, roomId={}", event.getId(), event.getRoomId());
+            return null;
+        }
+    }
+
+    /**
+     * 이벤트 배치를 방별 발행 계획으로 변환 (기록 순서 유지)
+     * - 방은 처음 등장한 순서대로, 각 방의 델타는 기록 순서대로
+     * - 스냅샷 이벤트(또는 읽을 수 없는 델타)가 있는 방은 스냅샷 하나로 발행
+     * - 바로 앞과 같은 델타는 생략 (멱등이라 결과가 같음)
+     */
+    static Plan plan(List<RealtimeOutboxEvent> events, Function<RealtimeOutboxEvent, RoomDelta> deltaReader) {
+        Map<Long, RoomPublish> rooms = new LinkedHashMap<>();
+        Set<Long> lobbyRooms = new LinkedHashSet<>();
+        for (RealtimeOutboxEvent event : events) {
+            if (event.getEventType() == EventType.BOSS_LIST) {
+                if (event.getRoomId() != null) {
+                    lobbyRooms.add(event.getRoomId());
+                }
+                continue;
+            }
+            if (event.getRoomId() == null) {
+                continue;
+            }
+            RoomPublish room = rooms.computeIfAbsent(event.getRoomId(), RoomPublish::new);
+            if (room.fullSnapshot) {
+                continue;
+            }
+            RoomDelta delta = event.getEventType() == EventType.ROOM_DELTA ? deltaReader.apply(event) : null;
+            if (delta == null) {
+                room.fullSnapshot = true;
+                room.deltas.clear();
+            } else if (room.deltas.isEmpty() || !room.deltas.get(room.deltas.size() - 1).equals(delta)) {
+                room.deltas.add(delta);
+            }
+        }
+        return new Plan(new ArrayList<>(rooms.values()), lobbyRooms);
+    }
+
+    private RealtimeBossService getRealtimeBossService() {
+        ApplicationContext context = ApplicationContextProvider.getApplicationContext();
+        return context != null ? context.getBean(RealtimeBossService.class) : null;
+    }
+
+    /**
+     * 트랜잭션 하나에서 기록된 이벤트 (커밋되면 발행 큐에 한 묶음으로 추가)
+     */
+    private final class TransactionEvents implements TransactionSynchronization {
+        private final List<RealtimeOutboxEvent> events = new ArrayList<>();
+
+        private RealtimeOutbox owner() {
+            return RealtimeOutbox.this;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            // afterCommit의 캐시 무효화가 모두 끝난 뒤 발행 (무효화 전 캐시 값을 발행하지 않도록)
+            if (status == STATUS_COMMITTED && !events.isEmpty()) {
+                committed.add(events);
+                wakeUp();
+            }
+        }
+    }
+
+    /**
+     * 배치 발행 계획
+    record Plan(List<RoomPublish> rooms, Set<Long> lobbyRooms) {
+
+        /**
+         * 실제 발행 요청 수 (스냅샷 1 또는 델타 수, 로비에서 바뀐 방 수)
+         */
+        int publishCount() {
+            int count = lobbyRooms.size();
+            for (RoomPublish room : rooms) {
+                count += room.fullSnapshot() ? 1 : room.deltas().size();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 방 하나의 발행 내용 (전체 스냅샷 또는 델타 목록)
+     */
+    static final class RoomPublish {
+        private final Long roomId;
+        private final List<RoomDelta> deltas = new ArrayList<>();
+        private boolean fullSnapshot;
+
+        private RoomPublish(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        Long roomId() { return roomId; }
+        List<RoomDelta> deltas() { return deltas; }
+        boolean fullSnapshot() { return fullSnapshot; }
+    }
+}
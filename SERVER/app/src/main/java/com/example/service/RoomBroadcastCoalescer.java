@@ -0,0 +1,190 @@
+package com.example.service;
+
+import com.example.config.ExecutorConfig;
+import com.example.dto.RoomDelta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 레이드 방별 브로드캐스트 병합(coalescing) 스케줄러
+ *
+ * 동작 방식:
+ * 1. 방의 첫 변경 요청 시 windowMillis 후 flush 예약
+ * 2. 예약된 flush 전까지 들어온 같은 방의 요청은 배치에 합쳐짐 (추가 예약 없음)
+ * 3. flush 시점에 배치 단위로 한 번만 발행 (델타 목록 또는 전체 스냅샷)
+ *
+ * 스케줄러는 예약 시점만 관리하고 발행(스냅샷 조회/직렬화/전송)은 flushExecutor에서 실행
+ * (발행이 느려져도 다른 방의 예약 시점이 밀리지 않음)
+ *
+ * 같은 방의 flush는 순차적으로 실행되어 메시지(버전) 순서가 뒤바뀌지 않음
+ */
+public class RoomBroadcastCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomBroadcastCoalescer.class);
+
+    private final long windowMillis;
+
+    // flush 핸들러 (roomId, 병합된 배치)
+    private final BiConsumer<Long, Batch> flushHandler;
+
+    private final ScheduledExecutorService scheduler;
+
+    // 발행 실행기 (ExecutorConfig의 broadcast 실행기)
+    private final Executor flushExecutor;
+
+    // 방별 대기 중인 배치 (roomId -> batch)
+    private final Map<Long, Batch> pending = new ConcurrentHashMap<>();
+
+    // 방별 flush 직렬화용 락 (roomId -> lock, flush 중이거나 대기 중인 스레드가 있을 때만 유지)
+    private final Map<Long, FlushLock> flushLocks = new ConcurrentHashMap<>();
+
+    private final Counter requestCounter;
+    private final Counter publishCounter;
+    private final DistributionSummary foldedSummary;
+
+    public RoomBroadcastCoalescer(long windowMillis, int threads, Executor flushExecutor,
+                                  BiConsumer<Long, Batch> flushHandler, MeterRegistry meterRegistry) {
+        this.windowMillis = windowMillis;
+        this.flushExecutor = flushExecutor;
+        this.flushHandler = flushHandler;
+        this.scheduler = Executors.newScheduledThreadPool(Math.max(1, threads),
+            ExecutorConfig.dedicatedThreads(ExecutorConfig.BROADCAST_SCHEDULER));
+        this.requestCounter = Counter.builder("realtime.broadcast.requests")
+            .description("레이드 방 브로드캐스트 요청 수 (병합 전)")
+            .register(meterRegistry);
+        this.publishCounter = Counter.builder("realtime.broadcast.publishes")
+            .description("레이드 방 브로드캐스트 발행 수 (병합 후)")
+            .register(meterRegistry);
+        this.foldedSummary = DistributionSummary.builder("realtime.broadcast.folded")
+            .description("발행 1회당 병합된 변경 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 전체 스냅샷 브로드캐스트 요청
+     */
+    public void submit(Long roomId) {
+        submit(roomId, null);
+    }
+
+    /**
+     * 델타 브로드캐스트 요청 (delta가 null이면 전체 스냅샷 요청)
+     * 이미 예약된 flush가 있으면 그 flush에 병합됨
+     */
+    public void submit(Long roomId, RoomDelta delta) {
+        if (roomId == null) {
+            return;
+        }
+        requestCounter.increment();
+
+        boolean[] firstInWindow = {false};
+        pending.compute(roomId, (id, batch) -> {
+            if (batch == null) {
+                firstInWindow[0] = true;
+                batch = new Batch();
+            }
+            batch.add(delta);
+            return batch;
+        });
+
+        if (firstInWindow[0]) {
+            try {
+                scheduler.schedule(() -> flushExecutor.execute(() -> flush(roomId)),
+                    windowMillis, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                // 스케줄러 종료 중이면 즉시 실행
+                logger.warn("브로드캐스트 예약 실패, 즉시 실행: roomId={}", roomId);
+                flush(roomId);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 변경을 한 번의 발행으로 처리
+     */
+    private void flush(Long roomId) {
+        FlushLock lock = flushLocks.compute(roomId, (id, current) -> {
+            FlushLock acquired = current != null ? current : new FlushLock();
+            acquired.holders++;
+            return acquired;
+        });
+        try {
+            flushLocked(roomId, lock);
+        } finally {
+            // 마지막 사용자가 락 항목 제거 (방이 계속 늘어나도 맵이 커지지 않도록)
+            flushLocks.compute(roomId, (id, current) -> --current.holders == 0 ? null : current);
+        }
+    }
+
+    private void flushLocked(Long roomId, FlushLock lock) {
+        synchronized (lock) {
+            Batch batch = pending.remove(roomId);
+            if (batch == null || batch.getFoldedCount() == 0) {
+                return;
+            }
+
+            try {
+                flushHandler.accept(roomId, batch);
+                publishCounter.increment();
+                foldedSummary.record(batch.getFoldedCount());
+                logger.debug("브로드캐스트 병합 발행: roomId={}, folded={}, fullSnapshot={}",
+                    roomId, batch.getFoldedCount(), batch.isFullSnapshot());
+            } catch (Exception e) {
+                logger.error("브로드캐스트 병합 발행 실패: roomId={}, folded={}", roomId, batch.getFoldedCount(), e);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 브로드캐스트를 모두 발행
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        for (Long roomId : pending.keySet()) {
+            flush(roomId);
+        }
+    }
+
+    /**
+     * 방별 flush 락 (holders는 flushLocks.compute 안에서만 변경)
+     */
+    private static class FlushLock {
+        private int holders;
+    }
+
+    /**
+     * 병합 윈도우 동안 모인 방 변경 배치
+     * (pending.compute 안에서만 수정되고, flush 시점에는 맵에서 제거된 뒤 읽히므로 별도 동기화 불필요)
+     */
+    public static class Batch {
+        private final List<RoomDelta> deltas = new ArrayList<>();
+        private int foldedCount = 0;
+        private boolean fullSnapshot = false;
+
+        private void add(RoomDelta delta) {
+            foldedCount++;
+            if (delta == null) {
+                fullSnapshot = true;
+            } else {
+                deltas.add(delta);
+            }
+        }
+
+        public List<RoomDelta> getDeltas() { return deltas; }
+        public int getFoldedCount() { return foldedCount; }
+        public boolean isFullSnapshot() { return fullSnapshot; }
+    }
+}
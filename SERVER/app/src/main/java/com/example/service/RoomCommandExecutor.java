@@ -0,0 +1,295 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 방 단위 직렬 명령 실행기 (액터 모델, 선택 기능)
+ *
+ * realtime.room-actor.enabled=true 일 때:
+ * - 방마다 메일박스(큐) 하나를 두고, 같은 방의 명령은 도착 순서대로 한 번에 하나씩 실행
+ *   (채널 선택, 참석 토글, 채널 상태 변경이 같은 방에서 동시에 들어와도 읽고-쓰기가 겹치지 않음)
+ * - 메일박스는 명령이 있을 때만 가상 스레드 하나가 비울 때까지 처리하고, 비면 제거됨
+ * - 요청 스레드는 결과를 기다리기만 하고 DB 커넥션은 메일박스 스레드만 사용
+ *   (같은 방의 요청이 몰려도 방마다 커넥션 하나, 동시 처리량은 행 잠금이 아니라 방 수에 비례)
+ * 채널 상태 변경의 DB 기록은 인메모리 저장소(RoomStateStore)를 켜면 write-behind로 모아서 기록됨
+ *
+ * 꺼져 있으면 호출한 스레드에서 바로 실행 (기존 동작)
+ *
+ * 결과를 기다리다 시간이 초과되면:
+ * - 아직 시작하지 않은 명령은 취소하고 RoomBusyException (실행되지 않으므로 다시 시도해도 안전)
+ * - 이미 시작한 명령은 한 번 더 기다리고, 그래도 끝나지 않으면 RoomCommandInProgressException
+ *   (토글 명령은 다시 시도하면 두 번 적용되므로 재시도 대신 상태 확인을 안내)
+ *
+ * 지표: realtime.room-actor.mailboxes / wait / rejected / cancelled
+ */
+@Component
+public class RoomCommandExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomCommandExecutor.class);
+
+    // 현재 스레드가 처리 중인 메일박스의 방 (같은 방 명령 안에서 다시 호출하면 바로 실행)
+    private static final ThreadLocal<Long> CURRENT_ROOM = new ThreadLocal<>();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${realtime.room-actor.enabled:false}")
+    private boolean enabled;
+
+    // 방 하나의 대기 명령 최대 수 (넘으면 거절)
+    @Value("${realtime.room-actor.mailbox-capacity:256}")
+    private int mailboxCapacity;
+
+    // 요청 스레드가 결과를 기다리는 최대 시간
+    @Value("${realtime.room-actor.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    // 방 -> 메일박스 (추가/제거는 compute 안에서만, 대기 명령이 없으면 제거)
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    private Timer waitTimer;
+    private Counter rejectedCounter;
+    private Counter cancelledCounter;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("room-actor-", 0).factory());
+
+        waitTimer = Timer.builder("realtime.room-actor.wait")
+            .description("명령 제출부터 실행 시작까지 메일박스 대기 시간")
+            .register(meterRegistry);
+        rejectedCounter = Counter.builder("realtime.room-actor.rejected")
+            .description("메일박스가 가득 차서 거절된 명령 수")
+            .register(meterRegistry);
+        cancelledCounter = Counter.builder("realtime.room-actor.cancelled")
+            .description("대기 시간이 초과되어 실행 전에 취소된 명령 수")
+            .register(meterRegistry);
+        Gauge.builder("realtime.room-actor.mailboxes", mailboxes, Map::size)
+            .description("처리 중인 명령이 있는 방 수")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 방의 메일박스에서 명령을 실행하고 결과를 반환
+     * 명령에서 발생한 예외는 그대로 전달됨
+     * @throws RoomBusyException 메일박스가 가득 찼거나 timeout-ms 안에 시작하지 못해 취소된 경우 (실행되지 않음)
+     * @throws RoomCommandInProgressException 시작한 명령이 대기 시간 안에 끝나지 않은 경우 (적용될 수 있음)
+     */
+    public <T> T execute(Long roomId, Supplier<T> command) {
+        if (!enabled || roomId == null || roomId.equals(CURRENT_ROOM.get())) {
+            return command.get();
+        }
+
+        Command<T> task = new Command<>(command, System.nanoTime());
+        Mailbox[] started = new Mailbox[1];
+        mailboxes.compute(roomId, (id, mailbox) -> {
+            if (mailbox == null) {
+                mailbox = new Mailbox(id);
+            }
+            if (mailbox.pending >= mailboxCapacity) {
+                return mailbox;
+            }
+            mailbox.queue.add(task);
+            mailbox.pending++;
+            task.queued = true;
+            if (!mailbox.running) {
+                mailbox.running = true;
+                started[0] = mailbox;
+            }
+            return mailbox;
+        });
+        if (!task.accepted()) {
+            rejectedCounter.increment();
+            throw new RoomBusyException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
+        }
+        if (started[0] != null) {
+            Mailbox mailbox = started[0];
+            executor.execute(() -> drain(mailbox));
+        }
+        return await(task);
+    }
+
+    /**
+     * 메일박스가 빌 때까지 도착 순서대로 실행 (메일박스마다 동시에 하나만 실행)
+     */
+    private void drain(Mailbox mailbox) {
+        CURRENT_ROOM.set(mailbox.roomId);
+        try {
+            while (true) {
+                Command<?> task = mailbox.queue.poll();
+                if (task == null) {
+                    // 비었으면 제거 (compute 안에서 확인하므로 그 사이 들어온 명령은 이어서 처리)
+                    boolean[] stopped = new boolean[1];
+                    mailboxes.computeIfPresent(mailbox.roomId, (id, current) -> {
+                        if (current != mailbox || !current.queue.isEmpty()) {
+                            return current;
+                        }
+                        current.running = false;
+                        stopped[0] = true;
+                        return null;
+                    });
+                    if (stopped[0]) {
+                        return;
+                    }
+                    continue;
+                }
+                mailboxes.computeIfPresent(mailbox.roomId, (id, current) -> {
+                    current.pending--;
+                    return current;
+                });
+                if (!task.start()) {
+                    // 요청 스레드가 시간 초과로 취소한 명령은 실행하지 않음
+                    cancelledCounter.increment();
+                    continue;
+                }
+                waitTimer.record(System.nanoTime() - task.submittedNanos, TimeUnit.NANOSECONDS);
+                task.run();
+            }
+        } finally {
+            CURRENT_ROOM.remove();
+        }
+    }
+
+    private <T> T await(Command<T> task) {
+        try {
+            try {
+                return task.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (task.cancel()) {
+                    logger.warn("방 명령 대기 시간 초과, 실행 전 취소: timeoutMs={}", timeoutMillis);
+                    throw new RoomBusyException("처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요");
+                }
+                // 이미 시작한 명령은 취소할 수 없으므로 결과를 한 번 더 기다림
+                return task.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            logger.warn("방 명령 실행 시간 초과, 결과 확인 필요: timeoutMs={}", timeoutMillis);
+            throw new RoomCommandInProgressException("요청을 처리하고 있습니다. 잠시 후 방 상태를 확인해주세요");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (task.cancel()) {
+                throw new RoomBusyException("요청이 중단되었습니다");
+            }
+            throw new RoomCommandInProgressException("요청을 처리하고 있습니다. 잠시 후 방 상태를 확인해주세요");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 메일박스가 가득 찼거나 시작 전에 대기 시간이 초과되어 취소된 경우 (명령은 실행되지 않음)
+     */
+    public static class RoomBusyException extends RuntimeException {
+        public RoomBusyException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 시작한 명령이 대기 시간 안에 끝나지 않은 경우 (명령은 계속 실행되어 적용될 수 있음)
+     */
+    public static class RoomCommandInProgressException extends RuntimeException {
+        public RoomCommandInProgressException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 방 하나의 메일박스 (pending, running은 mailboxes.compute 안에서만 변경)
+     */
+    private static final class Mailbox {
+        private final Long roomId;
+        private final Queue<Command<?>> queue = new ConcurrentLinkedQueue<>();
+        private int pending;
+        private boolean running;
+
+        private Mailbox(Long roomId) {
+            this.roomId = Objects.requireNonNull(roomId);
+        }
+    }
+
+    private static final class Command<T> {
+        private static final int WAITING = 0;
+        private static final int STARTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final Supplier<T> command;
+        private final long submittedNanos;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile boolean queued;
+        // 시작/취소 중 먼저 바꾼 쪽만 성공
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Command(Supplier<T> command, long submittedNanos) {
+            this.command = command;
+            this.submittedNanos = submittedNanos;
+        }
+
+        private boolean accepted() {
+            return queued;
+        }
+
+        private boolean start() {
+            return state.compareAndSet(WAITING, STARTED);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        private void run() {
+            try {
+                result.complete(command.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
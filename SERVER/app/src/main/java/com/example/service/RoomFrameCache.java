@@ -0,0 +1,93 @@
+package com.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 레이드 방 스냅샷 프레임 캐시 ((roomId, version) -> 직렬화된 UTF-8 JSON 바이트)
+ *
+ * 같은 버전의 스냅샷은 한 번만 직렬화하고, 브로커 발행 / REST 조회 / 재동기화 응답이
+ * 같은 byte[]를 그대로 재사용함 (발행·조회 횟수가 늘어도 직렬화 비용은 버전당 1회)
+ *
+ * 방마다 가장 최신 버전의 프레임 하나만 보관 (이전 버전은 다시 쓰이지 않음)
+ * 보관 시간(retention) 동안 조회/저장이 없는 방의 프레임은 만료 (완료 후 아무도 보지 않는 방이 쌓이지 않도록)
+ * 반환된 byte[]는 여러 세션이 공유하므로 절대 수정하면 안 됨
+ */
+public class RoomFrameCache {
+
+    private final ObjectMapper objectMapper;
+
+    // 방별 최신 프레임 (roomId -> frame)
+    private final Cache<Long, Frame> frames;
+
+    private final Counter hitCounter;
+    private final Counter encodeCounter;
+
+    public RoomFrameCache(ObjectMapper objectMapper, MeterRegistry meterRegistry, Duration retention) {
+        this.objectMapper = objectMapper;
+        this.frames = Caffeine.newBuilder()
+            .expireAfterAccess(retention)
+            .build();
+        this.hitCounter = Counter.builder("realtime.snapshot.frame.hits")
+            .description("직렬화된 스냅샷 프레임 재사용 횟수")
+            .register(meterRegistry);
+        this.encodeCounter = Counter.builder("realtime.snapshot.frame.encodes")
+            .description("스냅샷 프레임 직렬화 횟수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 해당 버전의 프레임 조회, 없으면 스냅샷을 만들어 직렬화 후 저장
+     * @return 직렬화된 프레임 (스냅샷이 없으면 null)
+     */
+    public byte[] getOrEncode(Long roomId, long version, Supplier<?> snapshotSupplier)
+            throws JsonProcessingException {
+        Frame frame = frames.getIfPresent(roomId);
+        if (frame != null && frame.version == version) {
+            hitCounter.increment();
+            return frame.bytes;
+        }
+
+        Object snapshot = snapshotSupplier.get();
+        if (snapshot == null) {
+            return null;
+        }
+        return put(roomId, version, snapshot);
+    }
+
+    /**
+     * 스냅샷을 직렬화하여 저장 (이미 더 최신 버전의 프레임이 있으면 저장하지 않음)
+     * @return 직렬화된 프레임
+     */
+    public byte[] put(Long roomId, long version, Object snapshot) throws JsonProcessingException {
+        byte[] bytes = objectMapper.writeValueAsBytes(snapshot);
+        encodeCounter.increment();
+        frames.asMap().merge(roomId, new Frame(version, bytes),
+            (existing, created) -> created.version >= existing.version ? created : existing);
+        return bytes;
+    }
+
+    /**
+     * 방의 프레임 제거 (DB 변경 커밋 후 호출)
+     */
+    public void evict(Long roomId) {
+        frames.invalidate(roomId);
+    }
+
+    private static final class Frame {
+        private final long version;
+        private final byte[] bytes;
+
+        private Frame(long version, byte[] bytes) {
+            this.version = version;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 방별 최근 델타 메시지 링 버퍼 (재접속한 클라이언트가 놓친 델타만 다시 받도록)
+ *
+ * 방 버전이 순번 역할을 함 (델타 메시지는 fromVersion -> toVersion, 발행마다 1씩 증가)
+ * - 방마다 최근 capacity개의 델타 메시지만 보관 (넘으면 가장 오래된 것부터 버림)
+ * - 전체 스냅샷이 발행되면 그 이전 델타는 비움 (스냅샷 버전부터 다시 이어짐)
+ * - retention 동안 발행이 없던 방의 버퍼는 제거
+ * 요청한 버전부터 현재까지 빠짐없이 이어지지 않으면 null (호출자가 스냅샷으로 대체)
+ *
+ * 보관된 메시지는 발행한 객체 그대로이므로 절대 수정하면 안 됨
+ */
+public class RoomReplayBuffer {
+
+    private final int capacity;
+
+    // 방별 링 (compute 안에서 추가해야 만료 시간이 갱신됨)
+    private final Cache<Long, Ring> rings;
+
+    public RoomReplayBuffer(int capacity, Duration retention) {
+        this.capacity = capacity;
+        this.rings = Caffeine.newBuilder()
+            .expireAfterWrite(retention)
+            .build();
+    }
+
+    /**
+     * 발행한 델타 메시지 기록 (방별로 발행 순서대로 호출됨)
+     */
+    public void append(Long roomId, long fromVersion, long toVersion, Object message) {
+        rings.asMap().compute(roomId, (id, ring) -> {
+            if (ring == null) {
+                ring = new Ring(fromVersion);
+            }
+            ring.append(new Entry(fromVersion, toVersion, message), capacity);
+            return ring;
+        });
+    }
+
+    /**
+     * 전체 스냅샷 발행 (이전 델타로는 이 버전을 만들 수 없으므로 비우고 이 버전부터 다시 기록)
+     */
+    public void reset(Long roomId, long version) {
+        rings.asMap().compute(roomId, (id, ring) -> new Ring(version));
+    }
+
+    /**
+     * 방의 재생 버퍼 제거 (삭제/보관된 방)
+     */
+    public void evict(Long roomId) {
+        rings.invalidate(roomId);
+    }
+
+    /**
+     * sinceVersion 이후의 델타 메시지를 발행 순서대로 조회
+     * @return 이어지는 델타 목록과 재생 후 버전 (이미 최신이면 빈 목록), 버퍼로 이을 수 없으면 null
+     */
+    public Replay since(Long roomId, long sinceVersion) {
+        Ring ring = rings.getIfPresent(roomId);
+        if (ring == null) {
+            return null;
+        }
+        return ring.since(sinceVersion);
+    }
+
+    /**
+     * 재생할 델타 메시지와 모두 적용한 뒤의 버전
+     */
+    public record Replay(List<Object> messages, long version) {
+    }
+
+    private record Entry(long fromVersion, long toVersion, Object message) {
+    }
+
+    private static final class Ring {
+        // 이 버전부터 이어서 재생 가능 (가장 오래된 델타의 fromVersion 또는 스냅샷 버전)
+        private long baseVersion;
+        private final Deque<Entry> entries = new ArrayDeque<>();
+
+        private Ring(long baseVersion) {
+            this.baseVersion = baseVersion;
+        }
+
+        private synchronized void append(Entry entry, int capacity) {
+            Entry last = entries.peekLast();
+            long expectedFrom = last != null ? last.toVersion() : baseVersion;
+            if (entry.fromVersion() != expectedFrom) {
+                // 중간이 빠졌으면 이 델타부터 다시 시작 (이전 버전에서는 이어서 재생할 수 없음)
+                entries.clear();
+                baseVersion = entry.fromVersion();
+            }
+            entries.addLast(entry);
+            while (entries.size() > capacity) {
+                baseVersion = entries.removeFirst().toVersion();
+            }
+        }
+
+        private synchronized Replay since(long sinceVersion) {
+            Entry last = entries.peekLast();
+            long latestVersion = last != null ? last.toVersion() : baseVersion;
+            if (sinceVersion < baseVersion || sinceVersion > latestVersion) {
+                return null;
+            }
+            List<Object> messages = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (entry.toVersion() > sinceVersion) {
+                    messages.add(entry.message());
+                }
+            }
+            return new Replay(messages, messages.isEmpty() ? sinceVersion : latestVersion);
+        }
+    }
+}
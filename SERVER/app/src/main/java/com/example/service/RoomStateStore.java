@@ -0,0 +1,635 @@
+package com.example.service;
+
+import com.example.config.ExecutorConfig;
+import com.example.dto.ChannelRow;
+import com.example.dto.ChannelUserRow;
+import com.example.dto.ChannelView;
+import com.example.dto.ParticipantView;
+import com.example.dto.RaidRoomReadModel;
+import com.example.dto.RoomHeaderRow;
+import com.example.dto.RoomSnapshot;
+import com.example.entity.Channel;
+import com.example.repository.ChannelRepository;
+import com.example.repository.RaidRoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 진행 중인 레이드 방의 권한 있는(authoritative) 인메모리 상태 저장소 (선택 기능)
+ *
+ * realtime.room-store.enabled=true 일 때:
+ * 1. 시작 시 완료되지 않은 방을 DB에서 읽어 메모리에 구성 (이후 생성된 방은 첫 접근 시 로드)
+ * 2. 채널 상태(메모, 색상, 잡힘, 수화룡 시간) 변경은 메모리에 즉시 반영 후 바로 브로드캐스트
+ *    (이동중 표시는 DB에 기록하지 않는 MovingStateRegistry에서 관리)
+ * 3. 변경된 채널은 dirty 표시만 하고, 주기적으로(flush-interval-ms) 한 트랜잭션에 모아서 DB에 기록 (write-behind)
+ *    같은 채널을 여러 번 바꿔도 flush 시점의 최종 값만 한 번 기록됨
+ * 4. 완료/삭제된 방은 바로 JPA 경로로 전환되고, 커밋 후 flush 스레드가 남은 변경을 기록한 뒤 저장소에서 제거
+ *    (요청 트랜잭션이 커넥션을 잡은 채로 flush 트랜잭션을 하나 더 열지 않도록, 롤백되면 전환 취소)
+ *    기록에 실패하면 방을 남겨 두고 다음 flush가 성공한 뒤 제거
+ *    완료/없는 방은 inactive-ttl-ms 동안 기억하여 매번 DB에서 다시 로드하지 않음
+ *
+ * 채널 생성/삭제, 참석 토글처럼 DB ID가 필요한 변경은 JPA로 처리한 뒤 커밋 후 저장소에 반영
+ * 방 단위 변경은 방마다 하나인 ReentrantLock으로 직렬화 (방 메일박스의 가상 스레드가 캐리어 스레드를 고정하지 않도록)
+ * 저장소에 없는 방은 맵 밖에서 방별 future로 한 번만 로드 (로드 중인 DB 조회가 다른 방의 맵 접근을 막지 않음)
+ */
+@Service
+public class RoomStateStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomStateStore.class);
+
+    @Autowired
+    private RaidRoomRepository raidRoomRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private MovingStateRegistry movingStateRegistry;
+
+    @Autowired
+    private RaidRoomReadModelLoader raidRoomReadModelLoader;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${realtime.room-store.enabled:false}")
+    private boolean enabled;
+
+    // write-behind 주기
+    @Value("${realtime.room-store.flush-interval-ms:500}")
+    private long flushIntervalMillis;
+
+    // flush 1회당 최대 기록 건수
+    @Value("${realtime.room-store.flush-batch-size:200}")
+    private int flushBatchSize;
+
+    // 완료되었거나 없는 방을 기억하는 시간
+    @Value("${realtime.room-store.inactive-ttl-ms:600000}")
+    private long inactiveTtlMillis;
+
+    // 진행 중인 방 상태 (roomId -> room)
+    private final Map<Long, LiveRoom> rooms = new ConcurrentHashMap<>();
+
+    // 로드 중인 방 (roomId -> 결과), 같은 방을 동시에 요청하면 한 번만 로드
+    private final Map<Long, CompletableFuture<LiveRoom>> loading = new ConcurrentHashMap<>();
+
+    // flush 직렬화 (flush 스레드, 종료 시 flush)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // DB 기록 대기 중인 채널 (channelId -> 변경된 방 객체)
+    // 방 객체를 직접 들고 있으므로 기록 전에 저장소에서 제거된 방의 변경도 유실되지 않음
+    private final Map<Long, LiveRoom> dirtyChannels = new ConcurrentHashMap<>();
+
+    // 남은 변경 기록에 실패해서 아직 제거하지 못한 방 (flush 성공 후 제거)
+    private final Set<Long> pendingEvictions = ConcurrentHashMap.newKeySet();
+
+    // 완료되었거나 없는 방 (roomId -> true), 저장소 대상이 아니므로 로드하지 않음
+    private Cache<Long, Boolean> inactiveRooms;
+
+    private ScheduledExecutorService flusher;
+    private TransactionTemplate flushTransaction;
+
+    private Counter flushedCounter;
+    private Counter flushFailureCounter;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        // 요청 트랜잭션과 독립적으로 커밋 (flush 실패가 요청에 영향을 주지 않도록)
+        flushTransaction = new TransactionTemplate(transactionManager);
+        flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        inactiveRooms = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMillis(inactiveTtlMillis))
+            .build();
+
+        flushedCounter = Counter.builder("realtime.room-store.flushed")
+            .description("write-behind로 DB에 기록된 변경 수")
+            .register(meterRegistry);
+        flushFailureCounter = Counter.builder("realtime.room-store.flush.failures")
+            .description("write-behind flush 실패 횟수")
+            .register(meterRegistry);
+        Gauge.builder("realtime.room-store.rooms", rooms, Map::size)
+            .description("메모리에 보관 중인 진행 중 레이드 방 수")
+            .register(meterRegistry);
+        Gauge.builder("realtime.room-store.pending", this, store -> store.dirtyChannels.size())
+            .description("DB 기록 대기 중인 변경 수")
+            .register(meterRegistry);
+
+        flusher = Executors.newSingleThreadScheduledExecutor(ExecutorConfig.dedicatedThreads(ExecutorConfig.ROOM_STORE_FLUSH));
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 시작 시 완료되지 않은 방을 DB에서 읽어 저장소 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveRooms() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Long> roomIds = raidRoomRepository.findActiveRoomIds();
+            for (Long roomId : roomIds) {
+                getRoom(roomId);
+            }
+            logger.info("인메모리 방 상태 저장소 구성 완료: rooms={}", rooms.size());
+        } catch (Exception e) {
+            // 실패한 방은 첫 접근 시 다시 로드됨
+            logger.error("인메모리 방 상태 저장소 구성 실패", e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경을 모두 DB에 기록
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        flushAll();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 진행 중인 방 조회 (저장소에 없으면 DB에서 로드)
+     * 완료/삭제 처리된 방은 저장소에서 제거되기 전이어도 null
+     * @return 기능이 꺼져 있거나, 방이 없거나, 완료된 방이면 null (JPA 경로 사용)
+     */
+    public LiveRoom getRoom(Long roomId) {
+        if (!enabled || roomId == null) {
+            return null;
+        }
+        if (inactiveRooms.getIfPresent(roomId) != null) {
+            return null;
+        }
+        LiveRoom live = rooms.get(roomId);
+        if (live != null) {
+            return live;
+        }
+
+        CompletableFuture<LiveRoom> created = new CompletableFuture<>();
+        CompletableFuture<LiveRoom> existing = loading.putIfAbsent(roomId, created);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            LiveRoom loaded = load(roomId);
+            created.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(roomId, created);
+        }
+    }
+
+    /**
+     * DB에서 방을 읽어 저장소에 추가 (맵 밖에서 조회하고, 추가 여부만 compute 안에서 판단)
+     * 조회 중에 완료/삭제 처리(evict)되었으면 추가하지 않음
+     */
+    private LiveRoom load(Long roomId) {
+        LiveRoom live = rooms.get(roomId);
+        if (live != null) {
+            return live;
+        }
+        RaidRoomReadModel model = raidRoomReadModelLoader.load(roomId);
+        if (model == null || Boolean.TRUE.equals(model.header().isCompleted())) {
+            inactiveRooms.put(roomId, Boolean.TRUE);
+            return null;
+        }
+        LiveRoom loaded = new LiveRoom(model);
+        return rooms.compute(roomId, (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            return inactiveRooms.getIfPresent(id) != null ? null : loaded;
+        });
+    }
+
+    private static LiveRoom await(CompletableFuture<LiveRoom> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 저장소 기준 스냅샷 (DB 조회 없음)
+     * @return 저장소에 없는 방이면 null
+     */
+    public RoomSnapshot snapshot(Long roomId, List<ParticipantView> connectedUsers) {
+        LiveRoom room = getRoom(roomId);
+        if (room == null) {
+            return null;
+        }
+        room.lock.lock();
+        try {
+            return room.toSnapshot(connectedUsers, movingStateRegistry.usersByChannel(roomId));
+        } finally {
+            room.lock.unlock();
+        }
+    }
+
+    /**
+     * 채널 상태 변경 (메모리에 즉시 반영, DB는 write-behind)
+     * @return 변경된 채널 (users 생략), 채널이 없으면 null
+     */
+    public ChannelView updateChannel(LiveRoom room, Long channelId, Consumer<LiveChannel> mutator) {
+        room.lock.lock();
+        try {
+            LiveChannel channel = room.channels.get(channelId);
+            if (channel == null) {
+                return null;
+            }
+            mutator.accept(channel);
+            dirtyChannels.put(channelId, room);
+            return ChannelView.from(channel.toRow(), null);
+        } finally {
+            room.lock.unlock();
+        }
+    }
+
+    /**
+     * 방에 채널이 있는지 확인
+     */
+    public boolean hasChannel(LiveRoom room, Long channelId) {
+        room.lock.lock();
+        try {
+            return room.channels.containsKey(channelId);
+        } finally {
+            room.lock.unlock();
+        }
+    }
+
+    /**
+     * JPA로 생성된 채널을 커밋 후 저장소에 추가
+     */
+    public void addChannelAfterCommit(Long roomId, Channel channel) {
+        ChannelRow row = ChannelRow.from(channel);
+        runAfterCommit(() -> {
+            LiveRoom room = rooms.get(roomId);
+            if (room != null) {
+                room.lock.lock();
+                try {
+                    room.channels.put(row.id(), new LiveChannel(row));
+                } finally {
+                    room.lock.unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * JPA로 삭제된 채널을 커밋 후 저장소에서 제거
+     */
+    public void removeChannelAfterCommit(Long roomId, Long channelId) {
+        runAfterCommit(() -> {
+            LiveRoom room = rooms.get(roomId);
+            if (room != null) {
+                room.lock.lock();
+                try {
+                    room.channels.remove(channelId);
+                } finally {
+                    room.lock.unlock();
+                }
+            }
+            dirtyChannels.remove(channelId);
+        });
+    }
+
+    /**
+     * JPA로 처리된 참석 토글을 커밋 후 저장소에 반영
+     */
+    public void setParticipantAfterCommit(Long roomId, ParticipantView participant, boolean participating) {
+        runAfterCommit(() -> {
+            LiveRoom room = rooms.get(roomId);
+            if (room != null) {
+                room.lock.lock();
+                try {
+                    if (participating) {
+                        room.participants.put(participant.userId(), participant);
+                    } else {
+                        room.participants.remove(participant.userId());
+                    }
+                } finally {
+                    room.lock.unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * 방을 저장소에서 제거 (완료/삭제 시, 이후에는 JPA 경로 사용)
+     * 바로 비활성으로 표시하여 JPA 경로로 전환하고, 커밋 후 flush 스레드에서 남은 변경을 기록한 뒤 제거
+     * (호출자 트랜잭션 안에서 flush 트랜잭션을 열지 않음, 롤백되면 비활성 표시 취소)
+     * 기록에 실패하면 방을 남겨 두고 다음 flush가 성공한 뒤 제거
+     */
+    public void evict(Long roomId) {
+        if (!enabled) {
+            return;
+        }
+        inactiveRooms.put(roomId, Boolean.TRUE);
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            scheduleEviction(roomId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                inactiveRooms.put(roomId, Boolean.TRUE);
+                scheduleEviction(roomId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    inactiveRooms.invalidate(roomId);
+                }
+            }
+        });
+    }
+
+    private void scheduleEviction(Long roomId) {
+        try {
+            flusher.execute(() -> {
+                try {
+                    evictIfFlushed(roomId);
+                } catch (Exception e) {
+                    pendingEvictions.add(roomId);
+                    logger.error("방 제거 중 오류, 다음 flush 후 제거: roomId={}", roomId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중: 남은 변경은 shutdown의 flushAll이 기록
+            rooms.remove(roomId);
+        }
+    }
+
+    private void evictIfFlushed(Long roomId) {
+        if (!flushAll()) {
+            pendingEvictions.add(roomId);
+            logger.warn("남은 변경 기록 실패로 방 제거 보류, 다음 flush 후 제거: roomId={}", roomId);
+            return;
+        }
+        rooms.remove(roomId);
+        pendingEvictions.remove(roomId);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            if (flush() && dirtyChannels.isEmpty() && !pendingEvictions.isEmpty()) {
+                // 기록이 끝났으므로 보류했던 방 제거
+                for (Long roomId : pendingEvictions) {
+                    rooms.remove(roomId);
+                    pendingEvictions.remove(roomId);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("방 상태 write-behind flush 중 오류", e);
+        }
+    }
+
+    /**
+     * 남은 변경이 없을 때까지 flush
+     * @return 모두 기록했으면 true, 실패하면 false (실패한 변경은 다시 dirty로 표시됨)
+     */
+    private boolean flushAll() {
+        while (!dirtyChannels.isEmpty()) {
+            if (!flush()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * dirty 항목을 최대 flush-batch-size개씩 꺼내 한 트랜잭션으로 기록
+     * 실패하면 다시 dirty로 표시하여 다음 주기에 재시도
+     * @return 성공 여부
+     */
+    private boolean flush() {
+        flushLock.lock();
+        try {
+            return flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private boolean flushLocked() {
+        Map<Long, LiveRoom> channels = new LinkedHashMap<>();
+        for (Map.Entry<Long, LiveRoom> entry : dirtyChannels.entrySet()) {
+            if (channels.size() >= flushBatchSize) {
+                break;
+            }
+            if (dirtyChannels.remove(entry.getKey(), entry.getValue())) {
+                channels.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (channels.isEmpty()) {
+            return true;
+        }
+
+        try {
+            flushTransaction.executeWithoutResult(status -> writeChannels(channels));
+            flushedCounter.increment(channels.size());
+            logger.debug("방 상태 write-behind flush: channels={}", channels.size());
+            return true;
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            logger.error("방 상태 write-behind flush 실패, 다음 주기에 재시도: channels={}", channels.size(), e);
+            channels.forEach(dirtyChannels::putIfAbsent);
+            return false;
+        }
+    }
+
+    /**
+     * 채널의 현재 메모리 상태를 DB에 기록 (그 사이 삭제된 채널은 건너뜀)
+     * 저장소에서 이미 제거된 방이어도 dirty 표시한 방 객체의 값을 기록
+     */
+    private void writeChannels(Map<Long, LiveRoom> channels) {
+        if (channels.isEmpty()) {
+            return;
+        }
+        List<Channel> entities = channelRepository.findAllById(channels.keySet());
+        for (Channel entity : entities) {
+            LiveRoom room = channels.get(entity.getId());
+            ChannelRow row;
+            room.lock.lock();
+            try {
+                LiveChannel live = room.channels.get(entity.getId());
+                if (live == null) {
+                    continue;
+                }
+                row = live.toRow();
+            } finally {
+                room.lock.unlock();
+            }
+            entity.setIsDefeated(row.isDefeated());
+            entity.setMemo(row.memo());
+            entity.setBossHeukColor(row.bossHeukColor());
+            entity.setBossJinColor(row.bossJinColor());
+            entity.setBossMukColor(row.bossMukColor());
+            entity.setBossGamColor(row.bossGamColor());
+            entity.setWaterDragonDefeatedAt(row.waterDragonDefeatedAt());
+            entity.setFireDragonDefeatedAt(row.fireDragonDefeatedAt());
+        }
+        channelRepository.saveAll(entities);
+    }
+
+    /**
+     * 메모리에 보관 중인 방 상태 (lock을 잡은 뒤 접근)
+     */
+    public static final class LiveRoom {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final RoomHeaderRow header;
+        private final Map<Long, LiveChannel> channels = new LinkedHashMap<>();
+        private final Map<Long, ParticipantView> participants = new LinkedHashMap<>();
+
+        private LiveRoom(RaidRoomReadModel model) {
+            this.header = model.header();
+            for (ChannelRow channel : model.channels()) {
+                channels.put(channel.id(), new LiveChannel(channel));
+            }
+            model.participants().forEach(p -> participants.put(p.userId(), ParticipantView.from(p)));
+        }
+
+        public RoomHeaderRow getHeader() { return header; }
+
+        private RoomSnapshot toSnapshot(List<ParticipantView> connectedUsers,
+                                        Map<Long, List<ChannelUserRow>> usersByChannel) {
+            List<ChannelView> channelViews = channels.values().stream()
+                .map(LiveChannel::toRow)
+                .sorted(Comparator.comparing(row -> row.channelNumber() != null ? row.channelNumber() : 0))
+                .map(row -> ChannelView.from(row, usersByChannel.getOrDefault(row.id(), List.of())))
+                .toList();
+
+            RoomSnapshot.BossInfo boss = header.bossId() != null
+                ? new RoomSnapshot.BossInfo(header.bossId(), header.bossName(),
+                    header.bossType() != null ? header.bossType().name() : "UNKNOWN")
+                : RoomSnapshot.BossInfo.UNKNOWN;
+
+            return new RoomSnapshot(
+                null,
+                null,
+                header.id(),
+                boss,
+                header.raidDate() != null ? header.raidDate().toString() : "",
+                header.raidTime() != null ? header.raidTime().toString() : null,
+                false,
+                null,
+                channelViews,
+                connectedUsers != null ? connectedUsers : List.of(),
+                List.copyOf(participants.values())
+            );
+        }
+    }
+
+    /**
+     * 메모리에 보관 중인 채널 상태 (LiveRoom 락 안에서만 수정)
+     */
+    public static final class LiveChannel {
+        private final Long id;
+        private final Integer channelNumber;
+        private Boolean isDefeated;
+        private String memo;
+        private String bossHeukColor;
+        private String bossJinColor;
+        private String bossMukColor;
+        private String bossGamColor;
+        private LocalDateTime waterDragonDefeatedAt;
+        private LocalDateTime fireDragonDefeatedAt;
+
+        private LiveChannel(ChannelRow row) {
+            this.id = row.id();
+            this.channelNumber = row.channelNumber();
+            this.isDefeated = row.isDefeated();
+            this.memo = row.memo();
+            this.bossHeukColor = row.bossHeukColor();
+            this.bossJinColor = row.bossJinColor();
+            this.bossMukColor = row.bossMukColor();
+            this.bossGamColor = row.bossGamColor();
+            this.waterDragonDefeatedAt = row.waterDragonDefeatedAt();
+            this.fireDragonDefeatedAt = row.fireDragonDefeatedAt();
+        }
+
+        private ChannelRow toRow() {
+            return new ChannelRow(id, channelNumber, isDefeated, memo, bossHeukColor, bossJinColor,
+                bossMukColor, bossGamColor, waterDragonDefeatedAt, fireDragonDefeatedAt);
+        }
+
+        public Boolean getIsDefeated() { return isDefeated; }
+        public void setIsDefeated(Boolean isDefeated) { this.isDefeated = isDefeated; }
+
+        public void setMemo(String memo) { this.memo = memo; }
+        public void setBossHeukColor(String bossHeukColor) { this.bossHeukColor = bossHeukColor; }
+        public void setBossJinColor(String bossJinColor) { this.bossJinColor = bossJinColor; }
+        public void setBossMukColor(String bossMukColor) { this.bossMukColor = bossMukColor; }
+        public void setBossGamColor(String bossGamColor) { this.bossGamColor = bossGamColor; }
+        public void setWaterDragonDefeatedAt(LocalDateTime waterDragonDefeatedAt) { this.waterDragonDefeatedAt = waterDragonDefeatedAt; }
+        public void setFireDragonDefeatedAt(LocalDateTime fireDragonDefeatedAt) { this.fireDragonDefeatedAt = fireDragonDefeatedAt; }
+    }
+}
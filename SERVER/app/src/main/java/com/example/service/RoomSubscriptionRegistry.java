@@ -0,0 +1,160 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레이드 방 토픽 구독 수 추적 (STOMP 구독/해제/연결 종료 이벤트 기준)
+ *
+ * 로그인 여부와 관계없이 /topic/raid-room/{roomId} 와 하위 토픽(/users 등)의 구독 수를 방별로 셈
+ * 브로커의 사용자 레지스트리는 인증 주체(Principal)가 있는 세션만 보이므로 직접 추적함
+ * 발행 쪽은 구독자가 없는 방의 스냅샷 조회/직렬화/발행을 건너뛰는 데 사용
+ *
+ * 구독 이벤트는 브로커에 전달되기 전에 발생하므로 구독 수는 실제보다 작게 보이지 않음
+ * 지표: realtime.subscriptions.rooms (방 토픽 구독자가 있는 방 수)
+ */
+@Component
+public class RoomSubscriptionRegistry {
+
+    static final String ROOM_TOPIC_PREFIX = "/topic/raid-room/";
+
+    // 방 토픽 자체 (하위 토픽이 아님)
+    static final String MAIN_TOPIC = "";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 세션 -> (구독 ID -> 구독한 방 토픽)
+    private final Map<String, Map<String, RoomTopic>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    // 방 -> (하위 토픽 -> 구독 수), 0이 되면 제거 (compute 안에서만 변경)
+    private final Map<Long, Map<String, Integer>> roomCounts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("realtime.subscriptions.rooms", this, registry -> registry.countRoomsWithMainSubscribers())
+            .description("방 토픽 구독자가 있는 레이드 방 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 구독 (레이드 방 토픽이 아니면 무시)
+     */
+    public void onSubscribe(String sessionId, String subscriptionId, String destination) {
+        RoomTopic topic = parse(destination);
+        if (sessionId == null || subscriptionId == null || topic == null) {
+            return;
+        }
+        RoomTopic previous = sessionSubscriptions
+            .computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+            .put(subscriptionId, topic);
+        if (previous != null) {
+            decrement(previous);
+        }
+        increment(topic);
+    }
+
+    /**
+     * 구독 해제
+     */
+    public void onUnsubscribe(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        Map<String, RoomTopic> subscriptions = sessionSubscriptions.get(sessionId);
+        RoomTopic topic = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (topic != null) {
+            decrement(topic);
+        }
+    }
+
+    /**
+     * 연결 종료 (세션의 모든 구독 해제)
+     */
+    public void onDisconnect(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        Map<String, RoomTopic> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    /**
+     * 방 토픽(/topic/raid-room/{roomId}) 구독자가 있는지
+     */
+    public boolean hasRoomSubscribers(Long roomId) {
+        return subscriberCount(roomId, MAIN_TOPIC) > 0;
+    }
+
+    /**
+     * 방의 하위 토픽(/topic/raid-room/{roomId}/{subTopic}) 구독자가 있는지
+     */
+    public boolean hasSubTopicSubscribers(Long roomId, String subTopic) {
+        return subscriberCount(roomId, subTopic) > 0;
+    }
+
+    /**
+     * 방 토픽이나 하위 토픽 중 하나라도 구독자가 있는지
+     */
+    public boolean hasAnySubscribers(Long roomId) {
+        return roomCounts.containsKey(roomId);
+    }
+
+    int subscriberCount(Long roomId, String subTopic) {
+        Map<String, Integer> counts = roomCounts.get(roomId);
+        return counts != null ? counts.getOrDefault(subTopic, 0) : 0;
+    }
+
+    private void increment(RoomTopic topic) {
+        roomCounts.compute(topic.roomId(), (id, counts) -> {
+            if (counts == null) {
+                counts = new ConcurrentHashMap<>();
+            }
+            counts.merge(topic.subTopic(), 1, Integer::sum);
+            return counts;
+        });
+    }
+
+    private void decrement(RoomTopic topic) {
+        roomCounts.computeIfPresent(topic.roomId(), (id, counts) -> {
+            counts.computeIfPresent(topic.subTopic(), (key, count) -> count > 1 ? count - 1 : null);
+            return counts.isEmpty() ? null : counts;
+        });
+    }
+
+    private long countRoomsWithMainSubscribers() {
+        return roomCounts.keySet().stream().filter(this::hasRoomSubscribers).count();
+    }
+
+    /**
+     * 구독 경로를 방 토픽으로 해석 (/topic/raid-room/{roomId}[/{subTopic}], 아니면 null)
+     */
+    static RoomTopic parse(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        String rest = destination.substring(ROOM_TOPIC_PREFIX.length());
+        int slash = rest.indexOf('/');
+        String roomIdPart = slash >= 0 ? rest.substring(0, slash) : rest;
+        String subTopic = slash >= 0 ? rest.substring(slash + 1) : MAIN_TOPIC;
+        try {
+            return new RoomTopic(Long.parseLong(roomIdPart), subTopic);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param subTopic 방 토픽 자체면 빈 문자열
+     */
+    record RoomTopic(Long roomId, String subTopic) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 세대 번호가 붙은 불변 스냅샷 보관소 (잠금 없음)
+ *
+ * - 읽기: 현재 스냅샷을 그대로 반환 (잠금/대기 없음, 항상 완성된 값만 보임)
+ * - 갱신: 현재 값에서 새 불변 값을 만들어 compare-and-set으로 교체 (실패하면 바뀐 값에서 다시 계산)
+ * - 재구성: 현재 값이 없거나 오래됐으면 세대당 한 번만 재구성
+ *   오래된 값이 있으면 재구성하는 스레드 외에는 기다리지 않고 오래된 값을 반환 (stale-while-revalidate)
+ *   값이 아예 없을 때만 같은 세대를 보고 들어온 요청이 재구성 결과를 기다림
+ *   재구성 중에 다른 갱신이 교체했으면 덮어쓰지 않고 바뀐 값에서 다시 판단
+ *
+ * 값은 불변이어야 함 (갱신 함수는 재시도될 수 있으므로 부수 효과 없이 새 값만 반환)
+ */
+final class SnapshotHolder<T> {
+
+    /**
+     * 세대 번호와 값 (세대는 교체될 때마다 1씩 증가)
+     */
+    record Snapshot<T>(long generation, T value) {
+    }
+
+    /**
+     * 진행 중인 재구성 (replaces 세대를 대체하는 값을 계산 중)
+     * 결과가 null이면 그 사이 다른 스레드가 교체했으므로 다시 읽어야 함
+     */
+    private record Recompute<T>(long replaces, CompletableFuture<T> result) {
+    }
+
+    private final AtomicReference<Snapshot<T>> current = new AtomicReference<>();
+    private final AtomicReference<Recompute<T>> inFlight = new AtomicReference<>();
+
+    /**
+     * 현재 스냅샷 (없으면 null)
+     */
+    Snapshot<T> snapshot() {
+        return current.get();
+    }
+
+    /**
+     * 현재 값이 fresh를 만족하면 그대로 반환하고, 아니면 재구성한 값을 반환
+     * 다른 스레드가 이미 재구성 중이면 오래된 값을 그대로 반환 (값이 없을 때만 재구성 결과를 기다림)
+     * recompute는 오래된 값(없으면 null)을 받아 새 값을 만들며, 같은 세대에 대해 한 번만 실행됨
+     */
+    T read(Predicate<? super T> fresh, UnaryOperator<T> recompute) {
+        while (true) {
+            Snapshot<T> stale = current.get();
+            if (stale != null && fresh.test(stale.value())) {
+                return stale.value();
+            }
+            long staleGeneration = generationOf(stale);
+
+            Recompute<T> running = inFlight.get();
+            if (running != null && running.replaces() == staleGeneration) {
+                if (stale != null) {
+                    return stale.value();
+                }
+                T value = await(running.result());
+                if (value != null) {
+                    return value;
+                }
+                continue;
+            }
+
+            Recompute<T> mine = new Recompute<>(staleGeneration, new CompletableFuture<>());
+            if (!inFlight.compareAndSet(running, mine)) {
+                continue;
+            }
+            if (current.get() != stale) {
+                // 읽은 뒤 이미 교체됨 (합류한 요청도 다시 읽도록 null로 완료)
+                inFlight.compareAndSet(mine, null);
+                mine.result().complete(null);
+                continue;
+            }
+
+            try {
+                T value = recompute.apply(stale == null ? null : stale.value());
+                if (!current.compareAndSet(stale, new Snapshot<>(staleGeneration + 1, value))) {
+                    // 재구성 중에 update()가 교체함: 덮어쓰지 않고 바뀐 값에서 다시 판단 (합류한 요청도 다시 읽음)
+                    mine.result().complete(null);
+                    continue;
+                }
+                mine.result().complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                mine.result().completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.compareAndSet(mine, null);
+            }
+        }
+    }
+
+    /**
+     * 현재 값(없으면 null)에서 새 값을 만들어 교체
+     * updater가 null이나 같은 값을 반환하면 교체하지 않음
+     * @return 교체된 스냅샷, 교체하지 않았으면 null
+     */
+    Snapshot<T> update(UnaryOperator<T> updater) {
+        while (true) {
+            Snapshot<T> previous = current.get();
+            T value = previous == null ? null : previous.value();
+            T next = updater.apply(value);
+            if (next == null || next == value) {
+                return null;
+            }
+            Snapshot<T> replaced = new Snapshot<>(generationOf(previous) + 1, next);
+            if (current.compareAndSet(previous, replaced)) {
+                return replaced;
+            }
+        }
+    }
+
+    private static long generationOf(Snapshot<?> snapshot) {
+        return snapshot == null ? 0 : snapshot.generation();
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
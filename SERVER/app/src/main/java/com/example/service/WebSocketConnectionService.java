@@ -1,21 +1,29 @@
 package com.example.service;
 
+import com.example.dto.ParticipantView;
+import com.example.dto.RoomDelta;
 import com.example.entity.User;
 import com.example.entity.UserAccessLog;
 import com.example.repository.UserRepository;
-import com.example.repository.UserAccessLogRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * WebSocket 연결 추적 및 레이드 방별 접속 사용자 관리 서비스
+ *
+ * 접속/해제 시 세션 맵만 호출 스레드(STOMP 수신 채널)에서 바로 변경하고,
+ * 사용자 조회/로그/접속 사용자 목록 발행은 side-effects 실행기에서 처리 (재접속이 몰려도 수신 채널이 DB를 기다리지 않음)
+ * 접속 시 조회한 사용자 프로필은 세션에 보관하여 접속 사용자 목록(스냅샷/presence)을 만들 때 다시 조회하지 않음
  */
 @Service
 public class WebSocketConnectionService {
@@ -29,7 +37,18 @@ public class WebSocketConnectionService {
     private UserRepository userRepository;
     
     @Autowired
-    private UserAccessLogRepository userAccessLogRepository;
+    private AccessLogWriter accessLogWriter;
+    
+    @Autowired
+    private RealtimeBossService realtimeBossService;
+    
+    @Autowired
+    private RoomSubscriptionRegistry roomSubscriptionRegistry;
+    
+    // 접속 후처리 실행기 (ExecutorConfig)
+    @Autowired
+    @Qualifier("sideEffectExecutor")
+    private Executor sideEffectExecutor;
     
     // 레이드 방별 접속 세션 목록 (roomId -> Set<sessionId>)
     private final Map<Long, Set<String>> roomSessions = new ConcurrentHashMap<>();
@@ -37,9 +56,15 @@ public class WebSocketConnectionService {
     // 세션별 사용자 정보 (sessionId -> userId)
     private final Map<String, Long> sessionUsers = new ConcurrentHashMap<>();
     
+    // 세션별 사용자 프로필 (sessionId -> 표시 정보, 접속 시 또는 목록 조회 시 한 번 조회)
+    private final Map<String, ParticipantView> sessionProfiles = new ConcurrentHashMap<>();
+    
     // 세션별 레이드 방 정보 (sessionId -> roomId)
     private final Map<String, Long> sessionRooms = new ConcurrentHashMap<>();
     
+    // 방별 접속 사용자 목록 발행 예약 (roomId -> 예약 상태, 방에 세션이 남아 있거나 발행이 예약된 동안만 유지)
+    private final Map<Long, PresenceBroadcast> presenceBroadcasts = new ConcurrentHashMap<>();
+    
     /**
      * 사용자가 레이드 방에 접속
      * 접속 시점에 참가 기록을 생성 (한 번이라도 접속했던 사용자 추적)
@@ -55,28 +80,22 @@ public class WebSocketConnectionService {
             // 세션 기반으로 접속 추적 (같은 userId라도 다른 세션이면 별도로 추적)
             roomSessions.computeIfAbsent(roomId, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
             
-            // 사용자 정보 조회하여 로그에 사용자 이름 포함
-            String username = "알 수 없음";
-            try {
-                Optional<User> userOpt = userRepository.findById(userId);
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    username = user.getDisplayName() != null && !user.getDisplayName().isEmpty() 
-                        ? user.getDisplayName() 
-                        : (user.getUsername() != null ? user.getUsername() : "알 수 없음");
+            // 사용자 조회/로그 기록/목록 발행은 후처리 실행기에서
+            sideEffectExecutor.execute(() -> {
+                User user = findUser(userId);
+                if (user != null) {
+                    storeProfile(sessionId, ParticipantView.from(user));
                 }
-            } catch (Exception e) {
-                logger.warn("사용자 정보 조회 실패: userId={}", userId, e);
-            }
-            
-            logger.info("[수화룡 레이드] 사용자 접속 - 사용자: {} (userId={}), 방: roomId={}, 세션: sessionId={}", 
-                username, userId, roomId, sessionId);
-            
-            // DB에 접속 로그 저장 (비동기)
-            saveAccessLog(userId, roomId, UserAccessLog.AccessAction.CONNECT, sessionId);
+                String username = usernameOf(user);
+                logger.info("[수화룡 레이드] 사용자 접속 - 사용자: {} (userId={}), 방: roomId={}, 세션: sessionId={}", 
+                    username, userId, roomId, sessionId);
+                
+                // 접속 로그 저장 (큐에 추가, 일괄 기록)
+                saveAccessLog(userId, roomId, UserAccessLog.AccessAction.CONNECT, sessionId);
+            });
             
             // 접속 사용자 목록 브로드캐스트
-            broadcastConnectedUsers(roomId);
+            schedulePresenceBroadcast(roomId);
         } catch (Exception e) {
             logger.error("사용자 접속 처리 중 오류: sessionId={}, userId={}, roomId={}", sessionId, userId, roomId, e);
         }
@@ -89,6 +108,7 @@ public class WebSocketConnectionService {
         try {
             Long userId = sessionUsers.remove(sessionId);
             Long roomId = sessionRooms.remove(sessionId);
+            sessionProfiles.remove(sessionId);
             
             if (roomId != null) {
                 Set<String> sessions = roomSessions.get(roomId);
@@ -99,35 +119,25 @@ public class WebSocketConnectionService {
                     }
                 }
                 
-                // 사용자 정보 조회하여 로그에 사용자 이름 포함
-                String username = "알 수 없음";
-                if (userId != null) {
-                    try {
-                        Optional<User> userOpt = userRepository.findById(userId);
-                        if (userOpt.isPresent()) {
-                            User user = userOpt.get();
-                            username = user.getDisplayName() != null && !user.getDisplayName().isEmpty() 
-                                ? user.getDisplayName() 
-                                : (user.getUsername() != null ? user.getUsername() : "알 수 없음");
+                // 사용자 조회/로그 기록/이동중 상태 정리는 후처리 실행기에서
+                sideEffectExecutor.execute(() -> {
+                    String username = userId != null ? usernameOf(findUser(userId)) : "알 수 없음";
+                    logger.info("[수화룡 레이드] 사용자 접속 해제 - 사용자: {} (userId={}), 방: roomId={}, 세션: sessionId={}", 
+                        username, userId, roomId, sessionId);
+                    
+                    // 사용자가 레이드 방을 나갈 때 이동중 상태 제거
+                    if (userId != null) {
+                        // 해제 로그 저장 (큐에 추가, 일괄 기록)
+                        saveAccessLog(userId, roomId, UserAccessLog.AccessAction.DISCONNECT, sessionId);
+                        // 같은 방에 남은 세션이 없으면 이동중 표시 제거 (실행 시점 기준으로 다시 확인)
+                        if (!getConnectedUserIds(roomId).contains(userId)) {
+                            clearUserMovingStatus(roomId, userId);
                         }
-                    } catch (Exception e) {
-                        logger.warn("사용자 정보 조회 실패: userId={}", userId, e);
                     }
-                }
-                
-                logger.info("[수화룡 레이드] 사용자 접속 해제 - 사용자: {} (userId={}), 방: roomId={}, 세션: sessionId={}", 
-                    username, userId, roomId, sessionId);
-                
-                // 사용자가 레이드 방을 나갈 때 이동중 상태 제거
-                if (userId != null) {
-                    // DB에 해제 로그 저장 (비동기)
-                    saveAccessLog(userId, roomId, UserAccessLog.AccessAction.DISCONNECT, sessionId);
-                    // 이동중 상태 제거도 비동기로 처리 (DB 연결 문제 시 블로킹 방지)
-                    clearUserMovingStatusAsync(roomId, userId);
-                }
+                });
                 
                 // 접속 사용자 목록 브로드캐스트
-                broadcastConnectedUsers(roomId);
+                schedulePresenceBroadcast(roomId);
             }
         } catch (Exception e) {
             logger.error("사용자 접속 해제 처리 중 오류: sessionId={}", sessionId, e);
@@ -136,37 +146,53 @@ public class WebSocketConnectionService {
     
     /**
      * 레이드 방의 접속 사용자 목록 조회
-     * 세션 기반으로 추적하여 같은 userId라도 다른 세션이면 별도로 표시
+     * 같은 userId는 한 번만 표시
+     * 세션에 보관된 프로필을 사용하고, 아직 없는 사용자(접속 후처리 전)만 findAllById 한 번으로 조회하여 보관
      */
-    public List<Map<String, Object>> getConnectedUsers(Long roomId) {
+    public List<ParticipantView> getConnectedUsers(Long roomId) {
         Set<String> sessionIds = roomSessions.getOrDefault(roomId, Collections.emptySet());
-        List<Map<String, Object>> users = new ArrayList<>();
+        List<ParticipantView> users = new ArrayList<>();
         Set<Long> addedUserIds = new HashSet<>(); // 중복 제거용 (같은 userId는 한 번만 표시)
+        Map<Long, String> missing = new LinkedHashMap<>(); // 프로필이 없는 사용자 -> 세션
         
         for (String sessionId : sessionIds) {
+            Long userId = sessionUsers.get(sessionId);
+            if (userId == null || !addedUserIds.add(userId)) {
+                continue;
+            }
+            ParticipantView profile = sessionProfiles.get(sessionId);
+            if (profile != null) {
+                users.add(profile);
+            } else {
+                missing.put(userId, sessionId);
+            }
+        }
+        
+        if (!missing.isEmpty()) {
             try {
-                Long userId = sessionUsers.get(sessionId);
-                if (userId != null && !addedUserIds.contains(userId)) {
-                    Optional<User> userOpt = userRepository.findById(userId);
-                    if (userOpt.isPresent()) {
-                        User user = userOpt.get();
-                        Map<String, Object> userData = new HashMap<>();
-                        userData.put("userId", user.getId());
-                        userData.put("username", user.getUsername() != null ? user.getUsername() : "");
-                        userData.put("displayName", user.getDisplayName() != null ? user.getDisplayName() : "");
-                        userData.put("avatarUrl", user.getAvatarUrl() != null ? user.getAvatarUrl() : "");
-                        users.add(userData);
-                        addedUserIds.add(userId);
-                    }
+                for (User user : userRepository.findAllById(missing.keySet())) {
+                    ParticipantView profile = ParticipantView.from(user);
+                    users.add(profile);
+                    storeProfile(missing.get(user.getId()), profile);
                 }
             } catch (Exception e) {
-                logger.warn("사용자 정보 조회 실패: sessionId={}", sessionId, e);
+                logger.warn("사용자 정보 조회 실패: roomId={}, userIds={}", roomId, missing.keySet(), e);
             }
         }
         
         return users;
     }
     
+    /**
+     * 세션 프로필 보관 (이미 해제된 세션이면 보관하지 않음, 해제와 같은 키의 compute로 판단)
+     */
+    private void storeProfile(String sessionId, ParticipantView profile) {
+        sessionUsers.computeIfPresent(sessionId, (id, userId) -> {
+            sessionProfiles.put(id, profile);
+            return userId;
+        });
+    }
+    
     /**
      * 레이드 방의 접속 사용자 ID 목록 조회 (중복 제거)
      */
@@ -184,18 +210,55 @@ public class WebSocketConnectionService {
         return userIds;
     }
     
+    /**
+     * 접속 사용자 목록 발행 예약 (후처리 실행기에서 실행)
+     * 이미 예약되어 아직 시작하지 않았으면 그 발행에 합쳐짐 (재접속이 몰려도 방마다 목록 조회/발행은 한 번씩)
+     * 같은 방의 발행은 락으로 순서대로 실행되어 나중 목록이 먼저 발행되지 않음
+     * 마지막 세션이 나간 방은 빈 목록을 발행한 뒤 예약 상태를 제거 (예약과 제거는 같은 키의 compute 안에서 판단)
+     */
+    private void schedulePresenceBroadcast(Long roomId) {
+        boolean[] scheduled = {false};
+        PresenceBroadcast presence = presenceBroadcasts.compute(roomId, (id, current) -> {
+            PresenceBroadcast state = current != null ? current : new PresenceBroadcast();
+            scheduled[0] = state.scheduled.compareAndSet(false, true);
+            return state;
+        });
+        if (!scheduled[0]) {
+            return;
+        }
+        sideEffectExecutor.execute(() -> {
+            // 가상 스레드에서 실행될 수 있으므로 synchronized 대신 ReentrantLock (캐리어 스레드 고정 방지)
+            presence.lock.lock();
+            try {
+                // 조회 전에 해제해야 조회 중에 바뀐 목록이 다음 발행에 반영됨
+                presence.scheduled.set(false);
+                broadcastConnectedUsers(roomId);
+                // 세션이 모두 나갔고 다음 발행도 예약되지 않았으면 제거 (방이 늘어나도 맵이 커지지 않도록)
+                presenceBroadcasts.computeIfPresent(roomId, (id, current) ->
+                    current == presence && !presence.scheduled.get() && !roomSessions.containsKey(roomId) ? null : current);
+            } finally {
+                presence.lock.unlock();
+            }
+        });
+    }
+    
     /**
      * 접속 사용자 목록 브로드캐스트
      */
     private void broadcastConnectedUsers(Long roomId) {
         try {
-            List<Map<String, Object>> connectedUsers = getConnectedUsers(roomId);
-            Map<String, Object> message = new HashMap<>();
-            message.put("type", "connected_users");
-            message.put("users", connectedUsers);
-            message.put("_timestamp", System.currentTimeMillis());
-            
-            messagingTemplate.convertAndSend("/topic/raid-room/" + roomId + "/users", message);
+            List<ParticipantView> connectedUsers = getConnectedUsers(roomId);
+            // 접속 사용자 토픽 구독자가 있을 때만 발행 (방 토픽 델타는 RealtimeBossService가 구독자 확인)
+            if (roomSubscriptionRegistry.hasSubTopicSubscribers(roomId, "users")) {
+                Map<String, Object> message = new HashMap<>();
+                message.put("type", "connected_users");
+                message.put("users", connectedUsers);
+                message.put("_timestamp", System.currentTimeMillis());
+                
+                messagingTemplate.convertAndSend("/topic/raid-room/" + roomId + "/users", message);
+            }
+            // 방 상태 버전에도 반영 (스냅샷의 connectedUsers와 델타 순서 일치)
+            realtimeBossService.publishRoomDelta(roomId, RoomDelta.presenceChanged(connectedUsers));
             logger.debug("접속 사용자 목록 브로드캐스트: roomId={}, users={}", roomId, connectedUsers.size());
         } catch (Exception e) {
             logger.error("접속 사용자 목록 브로드캐스트 중 오류: roomId={}", roomId, e);
@@ -203,44 +266,44 @@ public class WebSocketConnectionService {
     }
     
     /**
-     * 접속/해제 로그를 DB에 저장 (비동기 처리)
+     * 사용자 조회 (없거나 조회 실패 시 null)
      */
-    @Async
-    public void saveAccessLog(Long userId, Long roomId, UserAccessLog.AccessAction action, String sessionId) {
-        if (userId == null || roomId == null) {
-            logger.warn("접속 로그 저장 실패: userId 또는 roomId가 null입니다. userId={}, roomId={}", userId, roomId);
-            return;
-        }
-        
+    private User findUser(Long userId) {
         try {
-            Optional<User> userOpt = userRepository.findById(userId);
-            if (userOpt.isEmpty()) {
-                logger.warn("접속 로그 저장 실패: 사용자를 찾을 수 없음 userId={}", userId);
-                return;
-            }
-            
-            UserAccessLog log = new UserAccessLog();
-            log.setUser(userOpt.get());
-            log.setRoomId(roomId);
-            log.setAction(action);
-            log.setSessionId(sessionId);
-            
-            userAccessLogRepository.save(log);
-            logger.debug("접속 로그 저장 완료: userId={}, roomId={}, action={}", userId, roomId, action);
+            return userRepository.findById(userId).orElse(null);
         } catch (Exception e) {
-            logger.error("접속 로그 저장 중 오류: userId={}, roomId={}, action={}", userId, roomId, action, e);
+            logger.warn("사용자 정보 조회 실패: userId={}", userId, e);
+            return null;
         }
     }
     
     /**
-     * 사용자의 이동중 상태 제거 (비동기 처리, DB 연결 문제 시 블로킹 방지)
+     * 로그에 표시할 사용자 이름 (표시 이름 우선, 사용자가 없으면 "알 수 없음")
      */
-    @Async
-    public void clearUserMovingStatusAsync(Long roomId, Long userId) {
-        if (roomId == null || userId == null) {
+    private static String usernameOf(User user) {
+        if (user == null) {
+            return "알 수 없음";
+        }
+        return user.getDisplayName() != null && !user.getDisplayName().isEmpty() 
+            ? user.getDisplayName() 
+            : (user.getUsername() != null ? user.getUsername() : "알 수 없음");
+    }
+    
+    /**
+     * 접속/해제 로그 저장 요청 (AccessLogWriter가 모아서 일괄 기록)
+     */
+    public void saveAccessLog(Long userId, Long roomId, UserAccessLog.AccessAction action, String sessionId) {
+        if (userId == null || roomId == null) {
+            logger.warn("접속 로그 저장 실패: userId 또는 roomId가 null입니다. userId={}, roomId={}", userId, roomId);
             return;
         }
-        
+        accessLogWriter.enqueue(userId, roomId, action, sessionId);
+    }
+    
+    /**
+     * 사용자의 이동중 상태 제거 (MovingStateRegistry만 변경하므로 DB 연결과 무관)
+     */
+    private void clearUserMovingStatus(Long roomId, Long userId) {
         try {
             // 순환 참조 방지를 위해 ApplicationContextProvider 사용
             com.example.service.RaidRoomService raidRoomService = com.example.config.ApplicationContextProvider
@@ -248,12 +311,16 @@ public class WebSocketConnectionService {
                 .getBean(com.example.service.RaidRoomService.class);
             raidRoomService.clearUserMovingStatus(roomId, userId);
             logger.debug("사용자 이동중 상태 제거 완료: userId={}, roomId={}", userId, roomId);
-        } catch (org.springframework.transaction.CannotCreateTransactionException e) {
-            // DB 연결 문제는 경고만 로그 (치명적이지 않음)
-            logger.warn("사용자 이동중 상태 제거 실패 (DB 연결 불가): userId={}, roomId={}", userId, roomId);
         } catch (Exception e) {
             logger.warn("사용자 이동중 상태 제거 실패: userId={}, roomId={}", userId, roomId, e);
         }
     }
+    
+    /**
+     * 방별 접속 사용자 목록 발행 예약 상태
+     */
+    private static final class PresenceBroadcast {
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final ReentrantLock lock = new ReentrantLock();
+    }
 }
-
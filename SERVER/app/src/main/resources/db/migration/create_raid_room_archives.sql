@@ -0,0 +1,20 @@
+-- 완료된 레이드 방 보관 테이블 (RaidRoomArchiver가 채움, ddl-auto=update 환경에서는 자동 생성됨)
+-- 방 하나당 한 행: 목록 표시용 요약 컬럼 + 상세 화면용 스냅샷(jsonb)
+CREATE TABLE IF NOT EXISTS raid_room_archives (
+    room_id                BIGINT PRIMARY KEY,
+    boss_id                BIGINT,
+    boss_name              VARCHAR(255),
+    boss_type              VARCHAR(30),
+    raid_date              DATE,
+    raid_time              TIME,
+    completed_at           TIMESTAMP NOT NULL,
+    channel_count          INTEGER NOT NULL,
+    defeated_channel_count INTEGER NOT NULL,
+    participant_count      INTEGER NOT NULL,
+    snapshot               JSONB NOT NULL,
+    archived_at            TIMESTAMP NOT NULL
+);
+
+-- 완료된 레이드 목록 키셋 페이지 조회 (RaidRoomArchiveRepository.findPage, findPageAfter)
+CREATE INDEX IF NOT EXISTS idx_raid_room_archives_completed
+    ON raid_room_archives (completed_at DESC, room_id);
@@ -0,0 +1,21 @@
+-- 완료된 레이드 목록 키셋 페이지 조회용 인덱스 (RaidRoomRepository.findCompletedPage, findCompletedPageAfter)
+-- WHERE is_completed = true AND completed_at IS NOT NULL ORDER BY completed_at DESC, id DESC 를
+-- 인덱스 순서대로 읽어 LIMIT만큼만 조회 (정렬 방향까지 쿼리와 일치, 완료된 방만 담는 부분 인덱스)
+-- 목록에 필요한 컬럼(boss_id, raid_date, raid_time)을 INCLUDE하여 raid_rooms 테이블을 읽지 않음 (index-only scan)
+--
+-- ddl-auto로는 생성하지 않음 (엔티티에 @Index를 두면 테이블을 잠그는 CREATE INDEX로 만들어짐)
+-- CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 BEGIN 없이 문장마다 자동 커밋으로 실행
+-- (예: psql -f index_completed_raid_rooms.sql, 실패하면 INVALID 인덱스를 DROP INDEX CONCURRENTLY 후 다시 실행)
+
+-- 완료 시간이 없는 이전 완료 방은 수정/생성 시간으로 채움 (목록은 completed_at이 있는 방만 조회)
+UPDATE raid_rooms
+SET completed_at = COALESCE(updated_at, created_at)
+WHERE is_completed = true AND completed_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_raid_rooms_completed_page
+    ON raid_rooms (completed_at DESC, id DESC)
+    INCLUDE (boss_id, raid_date, raid_time)
+    WHERE is_completed = true AND completed_at IS NOT NULL;
+
+-- 이전 버전의 인덱스 (정렬 방향이 쿼리와 다르고 포함 컬럼 없음, ddl-auto로 생성되었을 수 있음)
+DROP INDEX CONCURRENTLY IF EXISTS idx_raid_rooms_completed;
@@ -0,0 +1,63 @@
+-- user_access_logs를 created_at 기준 월별 범위 파티션 테이블로 전환
+-- 보존 기간(3개월) 안의 데이터만 옮기고, 이후 파티션 생성/삭제는 AccessLogCleanupScheduler가 처리
+-- 한 트랜잭션으로 실행 (실행 중에는 접속 로그 기록이 잠시 대기함)
+
+BEGIN;
+
+-- 기존 테이블과 기본 키 이름 변경 (새 테이블과 이름 충돌 방지)
+ALTER TABLE user_access_logs RENAME TO user_access_logs_legacy;
+ALTER INDEX user_access_logs_pkey RENAME TO user_access_logs_legacy_pkey;
+
+-- 파티션 테이블 (기본 키에 파티션 키 created_at 포함 필요)
+CREATE SEQUENCE IF NOT EXISTS user_access_logs_partitioned_id_seq;
+
+CREATE TABLE user_access_logs (
+    id BIGINT NOT NULL DEFAULT nextval('user_access_logs_partitioned_id_seq'),
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    room_id BIGINT NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    session_id VARCHAR(100),
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT user_access_logs_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE user_access_logs_partitioned_id_seq OWNED BY user_access_logs.id;
+
+-- 보존 기간 시작 월부터 2개월 뒤까지 월별 파티션 생성 (user_access_logs_pYYYYMM)
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(
+            date_trunc('month', now() - INTERVAL '3 months'),
+            date_trunc('month', now() + INTERVAL '2 months'),
+            INTERVAL '1 month'
+        )::DATE
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF user_access_logs FOR VALUES FROM (%L) TO (%L)',
+            'user_access_logs_p' || to_char(month_start, 'YYYYMM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::DATE
+        );
+    END LOOP;
+END $$;
+
+-- 보존 기간 안의 데이터 이동
+INSERT INTO user_access_logs (id, user_id, room_id, action, session_id, created_at)
+SELECT id, user_id, room_id, action, session_id, created_at
+FROM user_access_logs_legacy
+WHERE created_at >= date_trunc('month', now() - INTERVAL '3 months');
+
+SELECT setval('user_access_logs_partitioned_id_seq',
+    COALESCE((SELECT max(id) FROM user_access_logs), 0) + 1, false);
+
+DROP TABLE user_access_logs_legacy;
+
+-- 인덱스 (파티션마다 자동 생성됨)
+CREATE INDEX IF NOT EXISTS idx_user_access_logs_user_id ON user_access_logs (user_id);
+CREATE INDEX IF NOT EXISTS idx_user_access_logs_room_id ON user_access_logs (room_id);
+CREATE INDEX IF NOT EXISTS idx_user_access_logs_created_at ON user_access_logs (created_at);
+
+COMMIT;
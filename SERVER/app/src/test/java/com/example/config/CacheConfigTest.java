@@ -0,0 +1,100 @@
+package com.example.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 캐시 정책 검증: 여러 날 동안 계속 새 키가 들어와도 캐시 크기가 제한 안에 머무는지 확인
+ */
+class CacheConfigTest {
+
+    private static final String RAID_ROOM_SPEC = "maximumSize=500,expireAfterWrite=10s";
+    private static final String TODAY_BOSSES_SPEC = "maximumSize=7,expireAfterWrite=10m";
+
+    private static final int DAYS = 30;
+    // 한 시간 동안 조회되는 서로 다른 방 수 (raidRoom maximumSize보다 많게)
+    private static final int ROOMS_PER_HOUR = 600;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    @Test
+    void cacheSizeStaysFlatOverSimulatedDays() {
+        CaffeineCacheManager cacheManager = CacheConfig.buildCacheManager(RAID_ROOM_SPEC, TODAY_BOSSES_SPEC, ticker, (cacheName, key, value) -> { });
+        CaffeineCache raidRoom = (CaffeineCache) cacheManager.getCache(CacheConfig.RAID_ROOM);
+        CaffeineCache todayBosses = (CaffeineCache) cacheManager.getCache(CacheConfig.TODAY_BOSSES);
+        assertNotNull(raidRoom);
+        assertNotNull(todayBosses);
+
+        long firstWeekMax = 0;
+        long lastWeekMax = 0;
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        for (int day = 0; day < DAYS; day++) {
+            String bossesKey = "getTodayBosses_" + start.plusDays(day);
+            // 매시간 보스 목록 조회 + 새 방 ROOMS_PER_HOUR개 조회
+            for (int hour = 0; hour < 24; hour++) {
+                for (int i = 0; i < 2; i++) {
+                    if (todayBosses.get(bossesKey) == null) {
+                        todayBosses.put(bossesKey, "bosses");
+                    }
+                }
+                long firstRoomId = ((long) day * 24 + hour) * ROOMS_PER_HOUR;
+                for (int room = 0; room < ROOMS_PER_HOUR; room++) {
+                    raidRoom.put(firstRoomId + room, "snapshot");
+                }
+                // TTL 안에 maximumSize보다 많은 방이 들어와도 크기는 제한됨
+                raidRoom.getNativeCache().cleanUp();
+                assertTrue(raidRoom.getNativeCache().estimatedSize() <= 500, "raidRoom은 maximumSize를 넘지 않아야 함");
+                nanos.addAndGet(TimeUnit.HOURS.toNanos(1));
+            }
+
+            raidRoom.getNativeCache().cleanUp();
+            todayBosses.getNativeCache().cleanUp();
+            long size = raidRoom.getNativeCache().estimatedSize() + todayBosses.getNativeCache().estimatedSize();
+
+            assertTrue(todayBosses.getNativeCache().estimatedSize() <= 7, "todayBosses는 maximumSize를 넘지 않아야 함");
+            if (day < 7) {
+                firstWeekMax = Math.max(firstWeekMax, size);
+            } else if (day >= DAYS - 7) {
+                lastWeekMax = Math.max(lastWeekMax, size);
+            }
+        }
+
+        assertTrue(lastWeekMax <= firstWeekMax, "시간이 지나도 캐시 크기가 늘지 않아야 함");
+        assertNull(todayBosses.get("getTodayBosses_" + start), "지난 날짜의 보스 목록은 남아 있지 않아야 함");
+
+        // 적중/미스/제거 통계 기록 확인
+        var stats = todayBosses.getNativeCache().stats();
+        assertTrue(stats.hitCount() > 0);
+        assertTrue(stats.missCount() > 0);
+        assertTrue(raidRoom.getNativeCache().stats().evictionCount() > 0);
+    }
+
+    @Test
+    void simpleCacheKeepsEveryDayForever() {
+        // 이전 설정(spring.cache.type=simple)과 비교: 날짜가 들어간 키가 계속 쌓임
+        ConcurrentMapCache todayBosses = new ConcurrentMapCache(CacheConfig.TODAY_BOSSES);
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        for (int day = 0; day < DAYS; day++) {
+            todayBosses.put("getTodayBosses_" + start.plusDays(day), "bosses");
+        }
+        assertEquals(DAYS, todayBosses.getNativeCache().size());
+    }
+
+    @Test
+    void unknownCacheNamesAreNotCreated() {
+        CaffeineCacheManager cacheManager = CacheConfig.buildCacheManager(RAID_ROOM_SPEC, TODAY_BOSSES_SPEC, ticker, (cacheName, key, value) -> { });
+        Cache unknown = cacheManager.getCache("raidRooms");
+        assertNull(unknown, "등록되지 않은 이름으로 제한 없는 캐시가 생기면 안 됨");
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실행기 정책 문자열 해석 검증 (생략 항목 기본값, 잘못된 설정은 시작 시 실패)
+ * virtual 모드는 풀 없이 작업마다 가상 스레드로 실행
+ */
+class ExecutorConfigTest {
+
+    @Test
+    void parsesFullSpec() {
+        ExecutorConfig.Spec spec = ExecutorConfig.Spec.parse("mode=platform, core=4, max=16, queue=1000");
+
+        assertEquals(new ExecutorConfig.Spec(false, 4, 16, 1000), spec);
+    }
+
+    @Test
+    void virtualModeWithDefaults() {
+        ExecutorConfig.Spec spec = ExecutorConfig.Spec.parse("mode=virtual,max=64");
+
+        assertTrue(spec.virtual());
+        assertEquals(64, spec.max());
+        assertEquals(1000, spec.queue());
+    }
+
+    @Test
+    void virtualModeRunsTasksOnUnpooledVirtualThreads() throws Exception {
+        AsyncTaskExecutor executor = ExecutorConfig.build("test", "mode=virtual,max=2", new SimpleMeterRegistry());
+
+        SimpleAsyncTaskExecutor virtual = assertInstanceOf(SimpleAsyncTaskExecutor.class, executor);
+        assertEquals(2, virtual.getConcurrencyLimit());
+        assertTrue(executor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS));
+        assertTrue(executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS).startsWith("exec-test-"));
+    }
+
+    @Test
+    void channelPoolRejectsVirtualMode() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ExecutorConfig.buildPool(ExecutorConfig.INBOUND, "mode=virtual,max=64", new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void rejectsInvalidSpec() {
+        assertThrows(IllegalArgumentException.class, () -> ExecutorConfig.Spec.parse("mode=fiber"));
+        assertThrows(IllegalArgumentException.class, () -> ExecutorConfig.Spec.parse("core=8,max=4"));
+        assertThrows(IllegalArgumentException.class, () -> ExecutorConfig.Spec.parse("core=abc"));
+        assertThrows(IllegalArgumentException.class, () -> ExecutorConfig.Spec.parse("queue"));
+    }
+}
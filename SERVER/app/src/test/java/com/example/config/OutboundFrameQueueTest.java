@@ -0,0 +1,74 @@
+package com.example.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 세션 송신 큐 검증 (방 스냅샷 병합, 바이트 집계, STOMP 헤더 해석)
+ */
+class OutboundFrameQueueTest {
+
+    private static final String ROOM = "sub-0|/topic/raid-room/1";
+    private static final String USERS = "sub-1|/topic/raid-room/1/users";
+
+    private final OutboundFrameQueue<String> queue = new OutboundFrameQueue<>();
+
+    @Test
+    void snapshotReplacesUnsentFramesOfSameSubscription() {
+        queue.offer("snapshot-1", 100, ROOM, true);
+        queue.offer("delta-1", 10, ROOM, false);
+        queue.offer("users-1", 20, USERS, false);
+
+        int replaced = queue.offer("snapshot-2", 120, ROOM, true);
+
+        assertEquals(2, replaced);
+        assertEquals(140, queue.bytes());
+        assertEquals("users-1", queue.poll());
+        assertEquals("snapshot-2", queue.poll());
+        assertNull(queue.poll());
+        assertEquals(0, queue.bytes());
+    }
+
+    @Test
+    void deltasAreNeverConflated() {
+        queue.offer("delta-1", 10, ROOM, false);
+        queue.offer("delta-2", 10, ROOM, false);
+
+        assertEquals(0, queue.offer("delta-3", 10, ROOM, false));
+        assertEquals(3, queue.size());
+        assertEquals(30, queue.bytes());
+    }
+
+    @Test
+    void clearReturnsDroppedCount() {
+        queue.offer("a", 10, null, false);
+        queue.offer("b", 10, ROOM, true);
+
+        assertEquals(2, queue.clear());
+        assertEquals(0, queue.bytes());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void readsKeyFromStompHeadersOnly() {
+        String snapshot = "MESSAGE\ndestination:/topic/raid-room/1\ncontent-type:application/json\n"
+            + "subscription:sub-0\nmessage-id:m-1\nconflate:snapshot\ncontent-length:2\n\n{}\0";
+        String delta = "MESSAGE\r\ndestination:/topic/raid-room/1\r\nsubscription:sub-0\r\n\r\nconflate:snapshot\0";
+
+        assertEquals(new OutboundFrameQueue.FrameKey(ROOM, true), OutboundFrameQueue.FrameKey.of(snapshot));
+        assertEquals(new OutboundFrameQueue.FrameKey(ROOM, false), OutboundFrameQueue.FrameKey.of(delta));
+        assertNull(OutboundFrameQueue.FrameKey.of("CONNECTED\nversion:1.2\n\n\0"));
+        assertNull(OutboundFrameQueue.FrameKey.of("\n"));
+    }
+
+    @Test
+    void stripsConflateHeaderOnly() {
+        String snapshot = "MESSAGE\r\ndestination:/topic/raid-room/1\r\nconflate:snapshot\r\nsubscription:sub-0\r\n\r\n{}\0";
+        String body = "MESSAGE\ndestination:/topic/raid-room/1\n\nconflate:snapshot\n\0";
+
+        assertEquals("MESSAGE\r\ndestination:/topic/raid-room/1\r\nsubscription:sub-0\r\n\r\n{}\0",
+            OutboundFrameQueue.FrameKey.withoutConflateHeader(snapshot));
+        assertEquals(body, OutboundFrameQueue.FrameKey.withoutConflateHeader(body));
+    }
+}
@@ -0,0 +1,334 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 느린 세션 데코레이터 검증 (전송 순서, 스냅샷 병합, 버퍼/시간 제한 종료, 전송 실패, 실행기 거부, 지표)
+ * 막히거나 실패하는 전송은 StubSession으로 흉내 냄
+ */
+class SlowConsumerSessionDecoratorTest {
+
+    private static final String ROOM = "/topic/raid-room/1";
+    private static final String USERS = "/topic/raid-room/1/users";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StubSession delegate = new StubSession();
+    private OutboundSessionPolicy policy;
+
+    @AfterEach
+    void tearDown() {
+        delegate.release();
+        if (policy != null) {
+            policy.shutdown();
+        }
+    }
+
+    @Test
+    void framesAreSentInOrder() throws Exception {
+        SlowConsumerSessionDecorator session = decorate(1024, 10_000);
+
+        for (int i = 1; i <= 5; i++) {
+            session.sendMessage(frame(ROOM, false, "delta-" + i));
+        }
+
+        assertTrue(await(() -> delegate.sent.size() == 5));
+        for (int i = 1; i <= 5; i++) {
+            assertTrue(delegate.sent.get(i - 1).endsWith("delta-" + i + "\0"));
+        }
+        assertEquals(0.0, meterRegistry.counter("realtime.outbound.conflated").count());
+    }
+
+    @Test
+    void snapshotReplacesQueuedFramesWhileSendIsBlocked() throws Exception {
+        SlowConsumerSessionDecorator session = decorate(4096, 10_000);
+        delegate.block();
+
+        session.sendMessage(frame(ROOM, true, "snapshot-1"));
+        assertTrue(delegate.await(delegate.sendStarted));
+        session.sendMessage(frame(ROOM, false, "delta-1"));
+        session.sendMessage(frame(USERS, false, "users-1"));
+        session.sendMessage(frame(ROOM, false, "delta-2"));
+        session.sendMessage(frame(ROOM, true, "snapshot-2"));
+        delegate.release();
+
+        assertTrue(await(() -> delegate.sent.size() == 3));
+        assertTrue(delegate.sent.get(0).endsWith("snapshot-1\0"));
+        assertTrue(delegate.sent.get(1).endsWith("users-1\0"));
+        assertTrue(delegate.sent.get(2).endsWith("snapshot-2\0"));
+        // 전송 중인 snapshot-1은 대체 대상이 아님, 병합 헤더는 클라이언트에 보내지 않음
+        assertEquals(2.0, meterRegistry.counter("realtime.outbound.conflated").count());
+        assertFalse(delegate.sent.stream().anyMatch(sent -> sent.contains("conflate:")));
+    }
+
+    @Test
+    void bufferLimitClosesSessionAndDropsQueuedFrames() throws Exception {
+        SlowConsumerSessionDecorator session = decorate(300, 10_000);
+        delegate.block();
+
+        session.sendMessage(frame(ROOM, false, "delta-0"));
+        assertTrue(delegate.await(delegate.sendStarted));
+        // 프레임 하나가 약 60바이트: 5개째에서 300바이트 초과
+        for (int i = 1; i <= 5; i++) {
+            session.sendMessage(frame(ROOM, false, "delta-" + i));
+        }
+        session.sendMessage(frame(ROOM, false, "late"));
+
+        assertEquals(CloseStatus.SESSION_NOT_RELIABLE, delegate.closeStatus);
+        assertEquals(1.0, meterRegistry.counter("realtime.outbound.slow_disconnects", "reason", "buffer").count());
+        assertEquals(0.0, meterRegistry.counter("realtime.outbound.slow_disconnects", "reason", "time").count());
+        // 큐에 있던 5개 + 종료 후 들어온 1개
+        assertEquals(6.0, meterRegistry.counter("realtime.outbound.dropped").count());
+
+        delegate.release();
+        assertTrue(await(() -> delegate.sent.size() == 1));
+        sleep(50);
+        assertEquals(1, delegate.sent.size());
+    }
+
+    @Test
+    void sendTimeLimitClosesSessionOnNextFrame() throws Exception {
+        SlowConsumerSessionDecorator session = decorate(4096, 50);
+        delegate.block();
+
+        session.sendMessage(frame(ROOM, false, "delta-1"));
+        assertTrue(delegate.await(delegate.sendStarted));
+        session.sendMessage(frame(ROOM, false, "delta-2"));
+        assertNull(delegate.closeStatus, "제한 시간 전에는 유지");
+
+        sleep(100);
+        session.sendMessage(frame(ROOM, false, "delta-3"));
+
+        assertEquals(CloseStatus.SESSION_NOT_RELIABLE, delegate.closeStatus);
+        assertEquals(1.0, meterRegistry.counter("realtime.outbound.slow_disconnects", "reason", "time").count());
+        assertEquals(2.0, meterRegistry.counter("realtime.outbound.dropped").count());
+    }
+
+    @Test
+    void failedSendDropsRemainingFrames() throws Exception {
+        SlowConsumerSessionDecorator session = decorate(4096, 10_000);
+        delegate.block();
+        delegate.failure = new IOException("연결 끊김");
+
+        session.sendMessage(frame(ROOM, false, "delta-1"));
+        assertTrue(delegate.await(delegate.sendStarted));
+        session.sendMessage(frame(ROOM, false, "delta-2"));
+        session.sendMessage(frame(ROOM, false, "delta-3"));
+        delegate.release();
+
+        assertTrue(await(() -> meterRegistry.counter("realtime.outbound.dropped").count() == 2.0));
+        session.sendMessage(frame(ROOM, false, "delta-4"));
+
+        assertEquals(3.0, meterRegistry.counter("realtime.outbound.dropped").count());
+        assertTrue(delegate.sent.isEmpty());
+        assertEquals(0.0, meterRegistry.counter("realtime.outbound.slow_disconnects", "reason", "buffer").count());
+    }
+
+    @Test
+    void rejectedDrainIsRetriedOnNextFrame() throws Exception {
+        SlowConsumerSessionDecorator session = decorate(4096, 10_000);
+        ReflectionTestUtils.setField(policy, "sendExecutor",
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+                private final AtomicBoolean rejected = new AtomicBoolean();
+
+                @Override
+                public void execute(Runnable command) {
+                    if (rejected.compareAndSet(false, true)) {
+                        throw new RejectedExecutionException("종료 중");
+                    }
+                    super.execute(command);
+                }
+            });
+
+        session.sendMessage(frame(ROOM, false, "delta-1"));
+        assertTrue(delegate.sent.isEmpty());
+        session.sendMessage(frame(ROOM, false, "delta-2"));
+
+        assertTrue(await(() -> delegate.sent.size() == 2));
+        assertTrue(delegate.sent.get(0).endsWith("delta-1\0"));
+        assertTrue(delegate.sent.get(1).endsWith("delta-2\0"));
+        assertNull(delegate.closeStatus);
+    }
+
+    private SlowConsumerSessionDecorator decorate(int sendBufferBytes, int sendTimeLimitMillis) {
+        policy = new OutboundSessionPolicy();
+        ReflectionTestUtils.setField(policy, "sendBufferBytes", sendBufferBytes);
+        ReflectionTestUtils.setField(policy, "sendTimeLimitMillis", sendTimeLimitMillis);
+        ReflectionTestUtils.setField(policy, "conflation", true);
+        ReflectionTestUtils.setField(policy, "meterRegistry", meterRegistry);
+        policy.init();
+        return new SlowConsumerSessionDecorator(delegate, policy);
+    }
+
+    private static TextMessage frame(String destination, boolean snapshot, String body) {
+        return new TextMessage("MESSAGE\ndestination:" + destination + "\nsubscription:sub-0\n"
+            + (snapshot ? "conflate:snapshot\n" : "") + "\n" + body + "\0");
+    }
+
+    private static boolean await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            sleep(5);
+        }
+        return true;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 전송을 막거나 실패시킬 수 있는 세션 (보낸 프레임과 종료 상태를 기록)
+     */
+    private static class StubSession implements WebSocketSession {
+
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch sendStarted = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+        volatile IOException failure;
+        volatile CloseStatus closeStatus;
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            CountDownLatch current = gate;
+            if (current != null) {
+                current.countDown();
+            }
+        }
+
+        boolean await(CountDownLatch latch) throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            sendStarted.countDown();
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            sent.add(((TextMessage) message).getPayload());
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            closeStatus = status;
+        }
+
+        @Override
+        public void close() {
+            close(CloseStatus.NORMAL);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return closeStatus == null;
+        }
+
+        @Override
+        public String getId() {
+            return "stub";
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.service;
+
+import com.example.dto.BossBoardView;
+import com.example.dto.LobbyRoomRow;
+import com.example.entity.Boss;
+import com.example.entity.BossType;
+import com.example.entity.Channel;
+import com.example.entity.RaidRoom;
+import com.example.repository.RaidRoomRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 보스 목록 조회 쿼리 수가 방 수와 무관하게 일정한지 검증 (채널 수는 GROUP BY로 집계)
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class BossBoardQueryTest {
+
+    private static final int UPCOMING_ROOMS = 100;
+    private static final int CHANNELS_PER_ROOM = 3;
+
+    @Autowired
+    private RaidRoomRepository raidRoomRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final LocalDate today = LocalDate.of(2026, 3, 1);
+
+    @Test
+    void boardQueryCountIsConstantForHundredRooms() {
+        createRooms(UPCOMING_ROOMS);
+
+        Statistics statistics = resetStatistics();
+        List<LobbyRoomRow> rows = raidRoomRepository.findBoardRowsFrom(today);
+        long boardQueries = statistics.getPrepareStatementCount();
+
+        assertEquals(UPCOMING_ROOMS, rows.size());
+        rows.forEach(row -> assertEquals(CHANNELS_PER_ROOM, row.channelCount()));
+        assertEquals(1, boardQueries, "방 수와 무관하게 쿼리 1회");
+        assertEquals(0, statistics.getEntityLoadCount(), "채널/방 엔티티를 로드하지 않아야 함");
+
+        // 이전 방식: 방 조회 1회 + 방마다 채널 컬렉션 초기화 1회
+        statistics = resetStatistics();
+        List<RaidRoom> rooms = raidRoomRepository.findByRaidDateGreaterThanEqual(today);
+        rooms.forEach(room -> room.getChannels().size());
+        long legacyQueries = statistics.getPrepareStatementCount();
+
+        assertTrue(legacyQueries > UPCOMING_ROOMS, "이전 방식은 방마다 채널 조회: " + legacyQueries);
+    }
+
+    @Test
+    void boardQueryCountDoesNotGrowWithRoomCount() {
+        createRooms(10);
+        long fewRoomsQueries = countBoardQueries();
+
+        createRooms(UPCOMING_ROOMS);
+        long manyRoomsQueries = countBoardQueries();
+
+        assertEquals(fewRoomsQueries, manyRoomsQueries);
+    }
+
+    @Test
+    void boardExcludesCompletedAndPastRoomsAndKeepsEmptyRooms() {
+        Boss dragon = boss(BossType.DRAGON, "용");
+        RaidRoom upcoming = room(dragon, today, LocalTime.of(21, 0), 0);
+        RaidRoom completed = room(dragon, today, LocalTime.of(22, 0), 2);
+        completed.setIsCompleted(true);
+        room(dragon, today.minusDays(1), LocalTime.of(20, 0), 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<LobbyRoomRow> rows = raidRoomRepository.findBoardRowsFrom(today);
+
+        assertEquals(1, rows.size());
+        assertEquals(upcoming.getId(), rows.get(0).id());
+        assertEquals(0L, rows.get(0).channelCount(), "채널이 없는 방도 포함 (LEFT JOIN)");
+    }
+
+    @Test
+    void buildBoardGroupsByBossAndPutsDragonFirst() {
+        Boss skeleton = boss(BossType.SKELETON_KING, "해골왕");
+        Boss dragon = boss(BossType.DRAGON, "용");
+        room(skeleton, today, LocalTime.of(19, 0), 1);
+        room(dragon, today, LocalTime.of(21, 0), 2);
+        room(skeleton, today.plusDays(1), LocalTime.of(18, 0), 0);
+        room(dragon, today, LocalTime.of(20, 0), 4);
+        entityManager.flush();
+        entityManager.clear();
+
+        BossBoardView board = BossService.buildBoard(raidRoomRepository.findBoardRowsFrom(today));
+
+        assertEquals(2, board.bosses().size());
+        BossBoardView.BossEntry first = board.bosses().get(0);
+        assertEquals("DRAGON", first.type());
+        assertEquals(0, first.sortOrder());
+        assertEquals(List.of("20:00", "21:00"), first.rooms().stream().map(BossBoardView.RoomEntry::raidTime).toList());
+        assertEquals(List.of(4, 2), first.rooms().stream().map(BossBoardView.RoomEntry::channelCount).toList());
+        BossBoardView.BossEntry second = board.bosses().get(1);
+        assertEquals("SKELETON_KING", second.type());
+        assertEquals(List.of(today.toString(), today.plusDays(1).toString()),
+            second.rooms().stream().map(BossBoardView.RoomEntry::raidDate).toList());
+    }
+
+    private long countBoardQueries() {
+        Statistics statistics = resetStatistics();
+        raidRoomRepository.findBoardRowsFrom(today);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Statistics resetStatistics() {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    /**
+     * 보스 2종류에 나눠 오늘 이후 방 roomCount개 생성 (방마다 CHANNELS_PER_ROOM개 채널)
+     */
+    private void createRooms(int roomCount) {
+        Boss dragon = boss(BossType.DRAGON, "용");
+        Boss skeleton = boss(BossType.SKELETON_KING, "해골왕");
+        for (int i = 0; i < roomCount; i++) {
+            room(i % 2 == 0 ? dragon : skeleton, today.plusDays(i % 7), LocalTime.of(i % 24, 0), CHANNELS_PER_ROOM);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Boss boss(BossType type, String name) {
+        Boss boss = new Boss();
+        boss.setType(type);
+        boss.setName(name);
+        return entityManager.persist(boss);
+    }
+
+    private RaidRoom room(Boss boss, LocalDate raidDate, LocalTime raidTime, int channelCount) {
+        RaidRoom room = new RaidRoom();
+        room.setBoss(boss);
+        room.setRaidDate(raidDate);
+        room.setRaidTime(raidTime);
+        entityManager.persist(room);
+        for (int i = 1; i <= channelCount; i++) {
+            Channel channel = new Channel();
+            channel.setRaidRoom(room);
+            channel.setChannelNumber(i);
+            channel.setIsDefeated(false);
+            entityManager.persist(channel);
+        }
+        return room;
+    }
+}
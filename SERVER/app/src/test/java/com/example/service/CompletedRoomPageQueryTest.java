@@ -0,0 +1,142 @@
+package com.example.service;
+
+import com.example.dto.CompletedRoomCursor;
+import com.example.dto.CompletedRoomRow;
+import com.example.entity.Boss;
+import com.example.entity.BossType;
+import com.example.entity.Channel;
+import com.example.entity.RaidRoom;
+import com.example.repository.RaidRoomRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 완료된 레이드 키셋 페이지 조회 검증 (누락/중복 없음, 페이지당 쿼리 1회, 엔티티 로드 없음)
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CompletedRoomPageQueryTest {
+
+    private static final int COMPLETED_ROOMS = 45;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private RaidRoomRepository raidRoomRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final LocalDateTime base = LocalDateTime.of(2026, 3, 1, 22, 0);
+
+    @Test
+    void pagesCoverEveryCompletedRoomOnceInOrder() {
+        Boss dragon = boss();
+        // 3개씩 같은 완료 시간 (id로 순서가 이어져야 함)
+        for (int i = 0; i < COMPLETED_ROOMS; i++) {
+            completedRoom(dragon, base.minusMinutes(i / 3), i % 4);
+        }
+        activeRoom(dragon);
+        entityManager.flush();
+
+        List<CompletedRoomRow> all = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        List<CompletedRoomRow> page = raidRoomRepository.findCompletedPage(PageRequest.of(0, PAGE_SIZE));
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            pageSizes.add(page.size());
+            CompletedRoomCursor cursor = CompletedRoomCursor.decode(page.get(page.size() - 1).cursor().encode());
+            page = raidRoomRepository.findCompletedPageAfter(cursor.completedAt(), cursor.id(), PageRequest.of(0, PAGE_SIZE));
+        }
+
+        assertEquals(List.of(20, 20, 5), pageSizes);
+        Set<Long> ids = new HashSet<>();
+        all.forEach(row -> assertTrue(ids.add(row.id()), "중복 없음: " + row.id()));
+        assertEquals(COMPLETED_ROOMS, ids.size(), "완료되지 않은 방은 제외");
+
+        Comparator<CompletedRoomRow> newestFirst = Comparator
+            .comparing(CompletedRoomRow::completedAt, Comparator.reverseOrder())
+            .thenComparing(CompletedRoomRow::id, Comparator.reverseOrder());
+        assertEquals(all.stream().sorted(newestFirst).toList(), all);
+    }
+
+    @Test
+    void pageIsOneQueryWithoutEntityLoads() {
+        Boss dragon = boss();
+        for (int i = 0; i < COMPLETED_ROOMS; i++) {
+            completedRoom(dragon, base.minusMinutes(i), 3);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<CompletedRoomRow> page = raidRoomRepository.findCompletedPage(PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, page.size());
+        page.forEach(row -> assertEquals(3L, row.channelCount()));
+        assertEquals(1, statistics.getPrepareStatementCount(), "채널 수를 포함해 쿼리 1회");
+        assertEquals(0, statistics.getEntityLoadCount(), "방/채널 엔티티를 로드하지 않아야 함");
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CompletedRoomCursor.decode("not-a-cursor"));
+        CompletedRoomCursor cursor = new CompletedRoomCursor(base, 42L);
+        assertEquals(cursor, CompletedRoomCursor.decode(cursor.encode()));
+    }
+
+    private Boss boss() {
+        Boss boss = new Boss();
+        boss.setType(BossType.DRAGON);
+        boss.setName("용");
+        return entityManager.persist(boss);
+    }
+
+    private void completedRoom(Boss boss, LocalDateTime completedAt, int channelCount) {
+        RaidRoom room = new RaidRoom();
+        room.setBoss(boss);
+        room.setRaidDate(completedAt.toLocalDate());
+        room.setRaidTime(LocalTime.of(21, 0));
+        room.setIsCompleted(true);
+        room.setCompletedAt(completedAt);
+        entityManager.persist(room);
+        for (int i = 1; i <= channelCount; i++) {
+            Channel channel = new Channel();
+            channel.setRaidRoom(room);
+            channel.setChannelNumber(i);
+            channel.setIsDefeated(false);
+            entityManager.persist(channel);
+        }
+    }
+
+    private void activeRoom(Boss boss) {
+        RaidRoom room = new RaidRoom();
+        room.setBoss(boss);
+        room.setRaidDate(LocalDate.of(2026, 3, 2));
+        room.setRaidTime(LocalTime.of(21, 0));
+        entityManager.persist(room);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.service;
+
+import com.example.dto.ChannelView;
+import com.example.dto.CompletedRoomRow;
+import com.example.dto.ParticipantView;
+import com.example.dto.RoomSnapshot;
+import com.example.entity.Boss;
+import com.example.entity.BossType;
+import com.example.entity.Channel;
+import com.example.entity.ChannelUser;
+import com.example.entity.RaidParticipation;
+import com.example.entity.RaidRoom;
+import com.example.entity.RaidRoomArchive;
+import com.example.entity.User;
+import com.example.repository.ChannelRepository;
+import com.example.repository.ChannelUserRepository;
+import com.example.repository.RaidParticipationRepository;
+import com.example.repository.RaidRoomArchiveRepository;
+import com.example.repository.RaidRoomRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 완료 방 보관 검증 (보관 행 저장/조회, 일괄 삭제 범위, 보관 전후 목록 병합)
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop"
+})
+class RaidRoomArchiveTest {
+
+    @Autowired
+    private RaidRoomRepository raidRoomRepository;
+
+    @Autowired
+    private RaidRoomArchiveRepository raidRoomArchiveRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private ChannelUserRepository channelUserRepository;
+
+    @Autowired
+    private RaidParticipationRepository raidParticipationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final LocalDateTime completedAt = LocalDateTime.of(2026, 3, 1, 22, 30);
+
+    @Test
+    void archiveKeepsSnapshotAndSummary() {
+        RoomSnapshot snapshot = snapshot(101L, completedAt);
+
+        raidRoomArchiveRepository.saveAndFlush(RaidRoomArchiver.toArchive(snapshot));
+        entityManager.clear();
+
+        RaidRoomArchive archive = raidRoomArchiveRepository.findById(101L).orElseThrow();
+        assertEquals(BossType.DRAGON, archive.getBossType());
+        assertEquals(LocalTime.of(21, 0), archive.getRaidTime());
+        assertEquals(2, archive.getChannelCount());
+        assertEquals(1, archive.getDefeatedChannelCount());
+        assertEquals(1, archive.getParticipantCount());
+        assertNotNull(archive.getArchivedAt());
+
+        RoomSnapshot stored = archive.getSnapshot();
+        assertEquals(snapshot.channels(), stored.channels());
+        assertEquals(snapshot.participants(), stored.participants());
+        assertTrue(stored.connectedUsers().isEmpty(), "접속 중인 사용자는 보관하지 않음");
+        assertTrue(stored.isCompleted());
+    }
+
+    @Test
+    void archivePagesFollowCompletedAtThenId() {
+        raidRoomArchiveRepository.save(RaidRoomArchiver.toArchive(snapshot(1L, completedAt)));
+        raidRoomArchiveRepository.save(RaidRoomArchiver.toArchive(snapshot(2L, completedAt)));
+        raidRoomArchiveRepository.save(RaidRoomArchiver.toArchive(snapshot(3L, completedAt.minusHours(1))));
+        raidRoomArchiveRepository.flush();
+
+        List<CompletedRoomRow> first = raidRoomArchiveRepository.findPage(PageRequest.of(0, 2));
+        assertEquals(List.of(2L, 1L), first.stream().map(CompletedRoomRow::id).toList());
+        assertEquals(2L, first.get(0).channelCount());
+
+        CompletedRoomRow last = first.get(1);
+        List<CompletedRoomRow> next = raidRoomArchiveRepository.findPageAfter(last.completedAt(), last.id(), PageRequest.of(0, 2));
+        assertEquals(List.of(3L), next.stream().map(CompletedRoomRow::id).toList());
+    }
+
+    @Test
+    void bulkDeleteRemovesOnlyArchivedRoomsRows() {
+        Boss boss = new Boss();
+        boss.setType(BossType.DRAGON);
+        boss.setName("용");
+        entityManager.persist(boss);
+        User user = new User();
+        user.setUsername("tester");
+        entityManager.persist(user);
+
+        RaidRoom archived = room(boss, user, true);
+        RaidRoom live = room(boss, user, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> ids = raidRoomRepository.findArchivableRoomIds(completedAt.plusDays(1), PageRequest.of(0, 10));
+        assertEquals(List.of(archived.getId()), ids, "완료된 방만 보관 대상");
+        assertTrue(raidRoomRepository.findArchivableRoomIdsExcluding(completedAt.plusDays(1), List.of(archived.getId()),
+            PageRequest.of(0, 10)).isEmpty(), "보관에 실패한 방은 다음 배치에서 제외");
+
+        int deleted = channelUserRepository.deleteAllByRoomIdIn(ids)
+            + channelRepository.deleteAllByRaidRoomIdIn(ids)
+            + raidParticipationRepository.deleteAllByRaidRoomIdIn(ids)
+            + raidRoomRepository.deleteAllByIdIn(ids);
+        entityManager.clear();
+
+        // 방 1 + 채널 2 + 채널 유저 2 + 참가 기록 1
+        assertEquals(6, deleted);
+        assertFalse(raidRoomRepository.existsById(archived.getId()));
+        assertTrue(raidRoomRepository.existsById(live.getId()));
+        assertEquals(2, channelRepository.count());
+        assertEquals(2, channelUserRepository.count());
+        assertEquals(1, raidParticipationRepository.count());
+    }
+
+    @Test
+    void mergeInterleavesLiveAndArchivedRows() {
+        List<CompletedRoomRow> live = List.of(row(9L, completedAt), row(5L, completedAt.minusHours(2)));
+        List<CompletedRoomRow> archived = List.of(row(7L, completedAt), row(3L, completedAt.minusHours(1)), row(1L, completedAt.minusHours(3)));
+
+        List<CompletedRoomRow> merged = RaidRoomService.mergeNewestFirst(live, archived, 4);
+
+        assertEquals(List.of(9L, 7L, 3L, 5L), merged.stream().map(CompletedRoomRow::id).toList());
+    }
+
+    private RaidRoom room(Boss boss, User user, boolean completed) {
+        RaidRoom room = new RaidRoom();
+        room.setBoss(boss);
+        room.setRaidDate(completedAt.toLocalDate());
+        room.setRaidTime(LocalTime.of(21, 0));
+        room.setIsCompleted(completed);
+        room.setCompletedAt(completed ? completedAt : null);
+        entityManager.persist(room);
+        for (int i = 1; i <= 2; i++) {
+            Channel channel = new Channel();
+            channel.setRaidRoom(room);
+            channel.setChannelNumber(i);
+            channel.setIsDefeated(false);
+            entityManager.persist(channel);
+            ChannelUser channelUser = new ChannelUser();
+            channelUser.setChannel(channel);
+            channelUser.setUser(user);
+            entityManager.persist(channelUser);
+        }
+        RaidParticipation participation = new RaidParticipation();
+        participation.setRaidRoom(room);
+        participation.setUser(user);
+        entityManager.persist(participation);
+        return room;
+    }
+
+    private RoomSnapshot snapshot(Long roomId, LocalDateTime completedAt) {
+        List<ChannelView> channels = List.of(
+            new ChannelView(10L, 1, true, "메모", "red", "", "", "", null, null, List.of()),
+            new ChannelView(11L, 2, false, "", "", "", "", "", null, null, List.of()));
+        List<ParticipantView> participants = List.of(new ParticipantView(7L, "tester", "테스터", ""));
+        return new RoomSnapshot(null, null, roomId, new RoomSnapshot.BossInfo(1L, "용", "DRAGON"),
+            LocalDate.of(2026, 3, 1).toString(), "21:00", true, completedAt.toString(),
+            channels, participants, participants);
+    }
+
+    private static CompletedRoomRow row(Long id, LocalDateTime completedAt) {
+        return new CompletedRoomRow(id, "용", BossType.DRAGON, completedAt.toLocalDate(), LocalTime.of(21, 0), completedAt, 1L);
+    }
+}
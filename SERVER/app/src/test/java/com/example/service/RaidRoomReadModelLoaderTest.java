@@ -0,0 +1,193 @@
+package com.example.service;
+
+import com.example.dto.ChannelUserRow;
+import com.example.dto.ParticipantRow;
+import com.example.dto.ParticipantView;
+import com.example.dto.RaidRoomReadModel;
+import com.example.entity.Boss;
+import com.example.entity.BossType;
+import com.example.entity.Channel;
+import com.example.entity.RaidParticipation;
+import com.example.entity.RaidRoom;
+import com.example.entity.User;
+import com.example.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 읽기 모델 로더의 쿼리 수가 채널 수와 무관하게 일정한지 검증
+ * (스냅샷의 접속 사용자 목록도 접속자 수와 무관하게 최대 1회)
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({RaidRoomReadModelLoader.class, MovingStateRegistry.class})
+class RaidRoomReadModelLoaderTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private RaidRoomReadModelLoader loader;
+
+    @Autowired
+    private MovingStateRegistry movingStateRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void queryCountDoesNotGrowWithChannelCount() {
+        Long smallRoomId = createRoom(2, 3);
+        Long largeRoomId = createRoom(40, 3);
+
+        long smallQueries = countQueries(smallRoomId);
+        long largeQueries = countQueries(largeRoomId);
+
+        assertEquals(3, smallQueries, "헤더/채널/참가자 3회만 조회해야 함 (이동중 유저는 메모리)");
+        assertEquals(smallQueries, largeQueries, "채널 수가 늘어도 쿼리 수는 같아야 함");
+    }
+
+    @Test
+    void loadsMovingUsersFromRegistryAndParticipantsIntoFlatRows() {
+        Long roomId = createRoom(5, 2);
+        entityManager.clear();
+
+        RaidRoomReadModel before = loader.load(roomId);
+        assertNotNull(before);
+        before.channels().forEach(channel -> assertTrue(before.usersOf(channel.id()).isEmpty()));
+
+        // 참가자 2명 모두 1채널로 이동중 표시
+        Long firstChannelId = before.channels().get(0).id();
+        before.participants().forEach(p -> movingStateRegistry.toggle(roomId,
+            new ChannelUserRow(firstChannelId, p.userId(), p.username(), p.displayName(), p.avatarUrl(), null, null, true)));
+
+        RaidRoomReadModel model = loader.load(roomId);
+
+        assertNotNull(model);
+        assertEquals(BossType.DRAGON, model.header().bossType());
+        assertEquals(5, model.channels().size());
+        assertEquals(1, model.channels().get(0).channelNumber());
+        assertEquals(2, model.usersOf(firstChannelId).size());
+        assertTrue(model.usersOf(model.channels().get(1).id()).isEmpty());
+        assertEquals(2, model.participants().size());
+    }
+
+    @Test
+    void connectedUsersAreLoadedOnceForAllSessions() {
+        Long roomId = createRoom(3, 30);
+        RaidRoomReadModel model = loader.load(roomId);
+        assertNotNull(model);
+
+        WebSocketConnectionService connections = new WebSocketConnectionService();
+        ReflectionTestUtils.setField(connections, "userRepository", userRepository);
+        // 접속 후처리(프로필 보관/로그/발행)는 실행하지 않음: 프로필이 없는 상태에서 목록 조회
+        ReflectionTestUtils.setField(connections, "sideEffectExecutor", (Executor) runnable -> { });
+        int session = 0;
+        for (ParticipantRow participant : model.participants()) {
+            connections.onUserConnect("session-" + session++, participant.userId(), roomId);
+        }
+        // 같은 사용자의 두 번째 세션은 한 번만 표시
+        connections.onUserConnect("session-dup", model.participants().get(0).userId(), roomId);
+
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ParticipantView> first = connections.getConnectedUsers(roomId);
+        assertEquals(30, first.size());
+        assertEquals(1, statistics.getPrepareStatementCount(), "접속자 수와 무관하게 findAllById 1회");
+
+        statistics.clear();
+        List<ParticipantView> second = connections.getConnectedUsers(roomId);
+        assertEquals(30, second.size());
+        assertEquals(0, statistics.getPrepareStatementCount(), "보관된 프로필 사용");
+    }
+
+    @Test
+    void returnsNullForUnknownRoom() {
+        assertNull(loader.load(-1L));
+    }
+
+    private long countQueries(Long roomId) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        RaidRoomReadModel model = loader.load(roomId);
+        assertNotNull(model);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * channelCount개 채널과 participantCount명의 참가자가 있는 방 생성
+     */
+    private Long createRoom(int channelCount, int participantCount) {
+        Boss boss = new Boss();
+        boss.setType(BossType.DRAGON);
+        boss.setName("용");
+        entityManager.persist(boss);
+
+        RaidRoom room = new RaidRoom();
+        room.setBoss(boss);
+        entityManager.persist(room);
+
+        for (int i = 0; i < participantCount; i++) {
+            User user = new User();
+            user.setUsername("user-" + room.getId() + "-" + i);
+            entityManager.persist(user);
+
+            RaidParticipation participation = new RaidParticipation();
+            participation.setUser(user);
+            participation.setRaidRoom(room);
+            entityManager.persist(participation);
+        }
+
+        // 역순으로 생성해도 channelNumber 순으로 조회되어야 함
+        for (int number = channelCount; number >= 1; number--) {
+            Channel channel = new Channel();
+            channel.setRaidRoom(room);
+            channel.setChannelNumber(number);
+            entityManager.persist(channel);
+        }
+
+        entityManager.flush();
+        return room.getId();
+    }
+}
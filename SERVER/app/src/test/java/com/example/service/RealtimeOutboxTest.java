@@ -0,0 +1,101 @@
+package com.example.service;
+
+import com.example.dto.RoomDelta;
+import com.example.entity.RealtimeOutboxEvent;
+import com.example.entity.RealtimeOutboxEvent.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 아웃박스 배치의 방별 발행 계획 검증 (순서 유지, 중복 제거, 스냅샷 대체)
+ */
+class RealtimeOutboxTest {
+
+    // 테스트에서는 payload 대신 id로 델타를 찾음
+    private final Map<Long, RoomDelta> deltas = new HashMap<>();
+    private long nextId = 1;
+
+    @Test
+    void keepsOrderPerRoomAndDropsRepeatedDeltas() {
+        RoomDelta moved = RoomDelta.userMoved(7L, 10L, null);
+        RoomDelta cleared = RoomDelta.userMoved(7L, null, null);
+        List<RealtimeOutboxEvent> events = List.of(
+            delta(1L, moved),
+            delta(2L, RoomDelta.channelRemoved(20L)),
+            delta(1L, moved),
+            delta(1L, cleared),
+            delta(1L, moved)
+        );
+
+        RealtimeOutbox.Plan plan = RealtimeOutbox.plan(events, event -> deltas.get(event.getId()));
+
+        assertEquals(2, plan.rooms().size());
+        assertEquals(1L, plan.rooms().get(0).roomId(), "방은 처음 등장한 순서대로");
+        // 바로 앞과 같은 델타만 생략 (사이에 다른 값이 있으면 마지막 상태가 달라지므로 유지)
+        assertEquals(List.of(moved, cleared, moved), plan.rooms().get(0).deltas());
+        assertEquals(List.of(RoomDelta.channelRemoved(20L)), plan.rooms().get(1).deltas());
+        assertTrue(plan.lobbyRooms().isEmpty());
+        assertEquals(4, plan.publishCount());
+    }
+
+    @Test
+    void snapshotReplacesDeltasOfSameRoom() {
+        List<RealtimeOutboxEvent> events = List.of(
+            delta(1L, RoomDelta.channelRemoved(10L)),
+            event(EventType.ROOM_SNAPSHOT, 1L),
+            delta(1L, RoomDelta.channelRemoved(11L)),
+            delta(2L, RoomDelta.channelRemoved(20L))
+        );
+
+        RealtimeOutbox.Plan plan = RealtimeOutbox.plan(events, event -> deltas.get(event.getId()));
+
+        assertTrue(plan.rooms().get(0).fullSnapshot());
+        assertTrue(plan.rooms().get(0).deltas().isEmpty());
+        assertFalse(plan.rooms().get(1).fullSnapshot());
+        assertEquals(2, plan.publishCount());
+    }
+
+    @Test
+    void unreadableDeltaFallsBackToSnapshot() {
+        List<RealtimeOutboxEvent> events = List.of(event(EventType.ROOM_DELTA, 1L));
+
+        RealtimeOutbox.Plan plan = RealtimeOutbox.plan(events, event -> null);
+
+        assertTrue(plan.rooms().get(0).fullSnapshot());
+    }
+
+    @Test
+    void bossListEventsAreMergedIntoChangedRooms() {
+        List<RealtimeOutboxEvent> events = List.of(
+            event(EventType.BOSS_LIST, 3L),
+            delta(1L, RoomDelta.channelRemoved(10L)),
+            event(EventType.BOSS_LIST, 1L),
+            event(EventType.BOSS_LIST, 3L)
+        );
+
+        RealtimeOutbox.Plan plan = RealtimeOutbox.plan(events, event -> deltas.get(event.getId()));
+
+        assertEquals(List.of(3L, 1L), List.copyOf(plan.lobbyRooms()));
+        assertEquals(1, plan.rooms().size(), "보스 목록 이벤트는 방 발행에 포함되지 않음");
+        assertEquals(3, plan.publishCount());
+    }
+
+    private RealtimeOutboxEvent delta(Long roomId, RoomDelta delta) {
+        RealtimeOutboxEvent event = event(EventType.ROOM_DELTA, roomId);
+        deltas.put(event.getId(), delta);
+        return event;
+    }
+
+    private RealtimeOutboxEvent event(EventType type, Long roomId) {
+        RealtimeOutboxEvent event = new RealtimeOutboxEvent();
+        event.setId(nextId++);
+        event.setEventType(type);
+        event.setRoomId(roomId);
+        return event;
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 방 단위 직렬 명령 실행 검증 (같은 방은 하나씩, 다른 방은 동시에, 메일박스 용량 제한, 시간 초과 시 취소)
+ */
+@SpringJUnitConfig(RoomCommandExecutorTest.Config.class)
+@TestPropertySource(properties = {
+    "realtime.room-actor.enabled=true",
+    "realtime.room-actor.mailbox-capacity=4",
+    "realtime.room-actor.timeout-ms=5000"
+})
+class RoomCommandExecutorTest {
+
+    private static final int THREADS = 16;
+
+    @Configuration
+    @Import(RoomCommandExecutor.class)
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private RoomCommandExecutor executor;
+
+    @Test
+    void sameRoomCommandsNeverOverlap() throws Exception {
+        int commandsPerThread = 3;
+        // 잠금 없이 읽고-쓰기 (동시에 실행되면 갱신이 유실됨)
+        int[] counter = new int[1];
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(clients.submit(() -> {
+                    for (int n = 0; n < commandsPerThread; n++) {
+                        executor.execute(1L, () -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            int read = counter[0];
+                            Thread.yield();
+                            counter[0] = read + 1;
+                            running.decrementAndGet();
+                            return null;
+                        });
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        assertEquals(THREADS * commandsPerThread, counter[0], "갱신 유실 없음");
+        assertEquals(1, maxRunning.get(), "같은 방 명령은 동시에 하나만 실행");
+    }
+
+    @Test
+    void differentRoomsRunConcurrently() throws Exception {
+        CountDownLatch otherRoomDone = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try {
+            // 방 1의 명령은 방 2의 명령이 끝나야 끝남 (방끼리 직렬이면 시간 초과)
+            Future<Boolean> blocked = clients.submit(() -> executor.execute(1L, () -> await(otherRoomDone)));
+            Future<String> other = clients.submit(() -> executor.execute(2L, () -> {
+                otherRoomDone.countDown();
+                return "done";
+            }));
+
+            assertEquals("done", other.get(5, TimeUnit.SECONDS));
+            assertTrue(blocked.get(5, TimeUnit.SECONDS));
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void nestedCommandForSameRoomRunsInline() {
+        String result = executor.execute(3L, () -> executor.execute(3L, () -> "nested"));
+
+        assertEquals("nested", result);
+    }
+
+    @Test
+    void commandExceptionReachesCaller() {
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+            () -> executor.execute(4L, () -> {
+                throw new IllegalStateException("실패");
+            }));
+
+        assertEquals("실패", thrown.getMessage());
+        assertEquals("ok", executor.execute(4L, () -> "ok"), "실패 후에도 메일박스는 계속 처리");
+    }
+
+    @Test
+    void fullMailboxRejectsCommands() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(12);
+        try {
+            Future<Boolean> first = clients.submit(() -> executor.execute(5L, () -> {
+                started.countDown();
+                return await(release);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // 실행 중인 명령 1개 + 대기 4개(용량)까지만 받고 나머지는 바로 거절
+            List<Future<Integer>> submitted = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                int value = i;
+                submitted.add(clients.submit(() -> executor.execute(5L, () -> value)));
+            }
+            int rejected = 0;
+            List<Future<Integer>> accepted = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (rejected < 6 && System.currentTimeMillis() < deadline) {
+                rejected = 0;
+                for (Future<Integer> future : submitted) {
+                    if (future.isDone() && isRejected(future)) {
+                        rejected++;
+                    }
+                }
+                Thread.sleep(10);
+            }
+            for (Future<Integer> future : submitted) {
+                if (!future.isDone()) {
+                    accepted.add(future);
+                }
+            }
+            release.countDown();
+
+            assertEquals(6, rejected);
+            assertEquals(4, accepted.size());
+            assertTrue(first.get(5, TimeUnit.SECONDS));
+            for (Future<Integer> future : accepted) {
+                assertNotNull(future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            release.countDown();
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void timedOutToggleIsNeverApplied() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean selected = new AtomicBoolean();
+        ExecutorService clients = Executors.newFixedThreadPool(1);
+        ReflectionTestUtils.setField(executor, "timeoutMillis", 200L);
+        try {
+            clients.submit(() -> executor.execute(6L, () -> {
+                started.countDown();
+                return await(release);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // 앞 명령 때문에 시작하지 못하고 시간 초과 -> 취소되어 재시도 가능한 에러
+            assertThrows(RoomCommandExecutor.RoomBusyException.class,
+                () -> executor.execute(6L, () -> selected.getAndSet(!selected.get())));
+            release.countDown();
+
+            // 취소된 토글은 메일박스가 비워질 때도 실행되지 않음
+            assertFalse(executor.execute(6L, selected::get));
+        } finally {
+            release.countDown();
+            ReflectionTestUtils.setField(executor, "timeoutMillis", 5000L);
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void startedCommandIsAwaitedInsteadOfCancelled() {
+        ReflectionTestUtils.setField(executor, "timeoutMillis", 200L);
+        try {
+            // 첫 대기 시간은 넘지만 이미 시작했으므로 결과를 한 번 더 기다림
+            String result = executor.execute(7L, () -> {
+                sleep(300);
+                return "applied";
+            });
+
+            assertEquals("applied", result);
+        } finally {
+            ReflectionTestUtils.setField(executor, "timeoutMillis", 5000L);
+        }
+    }
+
+    @Test
+    void slowStartedCommandReportsInProgress() {
+        CountDownLatch release = new CountDownLatch(1);
+        ReflectionTestUtils.setField(executor, "timeoutMillis", 100L);
+        try {
+            assertThrows(RoomCommandExecutor.RoomCommandInProgressException.class,
+                () -> executor.execute(8L, () -> await(release)));
+        } finally {
+            release.countDown();
+            ReflectionTestUtils.setField(executor, "timeoutMillis", 5000L);
+        }
+    }
+
+    private static boolean isRejected(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+            return false;
+        } catch (ExecutionException e) {
+            return e.getCause() instanceof RoomCommandExecutor.RoomBusyException;
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 델타 재생 버퍼 검증 (놓친 델타만 순서대로, 이을 수 없으면 null)
+ */
+class RoomReplayBufferTest {
+
+    private static final Long ROOM = 1L;
+
+    private final RoomReplayBuffer buffer = new RoomReplayBuffer(4, Duration.ofMinutes(10));
+
+    @Test
+    void replaysOnlyMissedDeltasInOrder() {
+        publish(100, 101, 102, 103);
+
+        RoomReplayBuffer.Replay replay = buffer.since(ROOM, 101);
+
+        assertEquals(List.of("101->102", "102->103"), replay.messages());
+        assertEquals(103, replay.version());
+    }
+
+    @Test
+    void upToDateClientGetsEmptyReplay() {
+        publish(100, 101, 102);
+
+        RoomReplayBuffer.Replay replay = buffer.since(ROOM, 102);
+
+        assertTrue(replay.messages().isEmpty());
+        assertEquals(102, replay.version());
+    }
+
+    @Test
+    void gapOlderThanCapacityFallsBackToSnapshot() {
+        // 용량 4: 100->101 은 밀려남
+        publish(100, 101, 102, 103, 104, 105);
+
+        assertNull(buffer.since(ROOM, 100));
+        assertEquals(4, buffer.since(ROOM, 101).messages().size());
+    }
+
+    @Test
+    void snapshotResetsReplayStart() {
+        publish(100, 101, 102);
+        buffer.reset(ROOM, 103);
+        buffer.append(ROOM, 103, 104, "103->104");
+
+        assertNull(buffer.since(ROOM, 102), "스냅샷 이전 버전은 델타로 이을 수 없음");
+        assertEquals(List.of("103->104"), buffer.since(ROOM, 103).messages());
+    }
+
+    @Test
+    void unknownRoomOrFutureVersionIsNotReplayable() {
+        publish(100, 101);
+
+        assertNull(buffer.since(2L, 100));
+        assertNull(buffer.since(ROOM, 200), "재시작 등으로 클라이언트 버전이 더 크면 스냅샷");
+    }
+
+    @Test
+    void brokenChainRestartsFromNewDelta() {
+        publish(100, 101);
+        // 중간 버전 누락 (101->105)
+        buffer.append(ROOM, 105, 106, "105->106");
+
+        assertNull(buffer.since(ROOM, 100));
+        assertEquals(List.of("105->106"), buffer.since(ROOM, 105).messages());
+    }
+
+    private void publish(long... versions) {
+        for (int i = 1; i < versions.length; i++) {
+            buffer.append(ROOM, versions[i - 1], versions[i], versions[i - 1] + "->" + versions[i]);
+        }
+    }
+}
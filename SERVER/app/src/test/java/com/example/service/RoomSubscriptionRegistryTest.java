@@ -0,0 +1,69 @@
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 방 토픽 구독 수 추적 검증 (구독/해제/연결 종료, 하위 토픽 구분)
+ */
+class RoomSubscriptionRegistryTest {
+
+    private final RoomSubscriptionRegistry registry = new RoomSubscriptionRegistry();
+
+    @Test
+    void parsesRoomTopicsOnly() {
+        assertEquals(new RoomSubscriptionRegistry.RoomTopic(12L, ""), RoomSubscriptionRegistry.parse("/topic/raid-room/12"));
+        assertEquals(new RoomSubscriptionRegistry.RoomTopic(12L, "users"), RoomSubscriptionRegistry.parse("/topic/raid-room/12/users"));
+        assertNull(RoomSubscriptionRegistry.parse("/topic/bosses"));
+        assertNull(RoomSubscriptionRegistry.parse("/topic/raid-room/abc"));
+        assertNull(RoomSubscriptionRegistry.parse("/user/queue/raid-room"));
+    }
+
+    @Test
+    void countsUntilLastSubscriberLeaves() {
+        registry.onSubscribe("s1", "sub-0", "/topic/raid-room/1");
+        registry.onSubscribe("s2", "sub-0", "/topic/raid-room/1");
+        assertEquals(2, registry.subscriberCount(1L, ""));
+
+        registry.onUnsubscribe("s1", "sub-0");
+        assertTrue(registry.hasRoomSubscribers(1L));
+
+        registry.onUnsubscribe("s2", "sub-0");
+        assertFalse(registry.hasRoomSubscribers(1L));
+        assertFalse(registry.hasAnySubscribers(1L));
+    }
+
+    @Test
+    void disconnectReleasesAllSessionSubscriptions() {
+        registry.onSubscribe("s1", "sub-0", "/topic/raid-room/1");
+        registry.onSubscribe("s1", "sub-1", "/topic/raid-room/1/users");
+        registry.onSubscribe("s1", "sub-2", "/topic/raid-room/2");
+
+        registry.onDisconnect("s1");
+
+        assertFalse(registry.hasAnySubscribers(1L));
+        assertFalse(registry.hasAnySubscribers(2L));
+        // 연결 종료 후 늦게 온 해제 이벤트는 무시
+        registry.onUnsubscribe("s1", "sub-0");
+        assertEquals(0, registry.subscriberCount(1L, ""));
+    }
+
+    @Test
+    void subTopicOnlyRoomHasNoRoomSubscribers() {
+        registry.onSubscribe("s1", "sub-0", "/topic/raid-room/3/users");
+
+        assertFalse(registry.hasRoomSubscribers(3L));
+        assertTrue(registry.hasSubTopicSubscribers(3L, "users"));
+        assertTrue(registry.hasAnySubscribers(3L));
+    }
+
+    @Test
+    void nonRoomDestinationsAreIgnored() {
+        registry.onSubscribe("s1", "sub-0", "/topic/bosses");
+        registry.onUnsubscribe("s1", "sub-0");
+        registry.onDisconnect("s1");
+
+        assertFalse(registry.hasAnySubscribers(0L));
+    }
+}
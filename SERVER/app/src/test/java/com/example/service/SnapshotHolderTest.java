@@ -0,0 +1,228 @@
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 스냅샷 보관소 동시성 검증 (세대당 재구성 1회, 재구성 중 이전 값 반환, 갱신 유실 없음, 항상 완성된 값만 보임)
+ */
+class SnapshotHolderTest {
+
+    private static final int THREADS = 16;
+
+    /**
+     * 로비 보드처럼 날짜와 카운터 두 개를 가진 불변 값 (left/right는 항상 같아야 함)
+     */
+    private record Board(int day, long left, long right) {
+        Board increment() {
+            return new Board(day, left + 1, right + 1);
+        }
+    }
+
+    @Test
+    void concurrentReadersRecomputeOncePerGeneration() throws Exception {
+        SnapshotHolder<Board> holder = new SnapshotHolder<>();
+        AtomicInteger recomputes = new AtomicInteger();
+        AtomicInteger today = new AtomicInteger(1);
+
+        for (int day = 1; day <= 3; day++) {
+            today.set(day);
+            List<Board> results = readConcurrently(holder, today, recomputes);
+
+            assertEquals(day, recomputes.get(), "날짜가 바뀔 때마다 재구성 1회");
+            int current = day;
+            assertTrue(results.stream().anyMatch(board -> board.day() == current), "재구성한 스레드는 새 값을 받음");
+            for (Board board : results) {
+                if (day == 1) {
+                    assertEquals(1, board.day(), "값이 없으면 재구성 결과를 기다림");
+                } else {
+                    assertTrue(board.day() == day || board.day() == day - 1, "재구성 중에는 이전 값");
+                }
+            }
+            assertEquals(day, holder.snapshot().generation());
+        }
+    }
+
+    @Test
+    void staleReadersDoNotWaitForRecompute() throws Exception {
+        SnapshotHolder<Board> holder = new SnapshotHolder<>();
+        holder.update(previous -> new Board(1, 0, 0));
+        CountDownLatch recomputing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Board> rebuilder = executor.submit(() -> holder.read(board -> board.day() == 2, stale -> {
+                recomputing.countDown();
+                await(release);
+                return new Board(2, 0, 0);
+            }));
+            assertTrue(recomputing.await(5, TimeUnit.SECONDS));
+
+            Board board = holder.read(value -> value.day() == 2, stale -> {
+                throw new IllegalStateException("재구성은 한 번만");
+            });
+            assertEquals(1, board.day(), "재구성이 끝나기 전에 이전 값 반환");
+
+            release.countDown();
+            assertEquals(2, rebuilder.get(5, TimeUnit.SECONDS).day());
+            assertEquals(2, holder.snapshot().value().day());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentUpdatesAreNeitherLostNorTorn() throws Exception {
+        SnapshotHolder<Board> holder = new SnapshotHolder<>();
+        holder.update(previous -> new Board(1, 0, 0));
+        int updatesPerThread = 5_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        try {
+            // 읽기 스레드: 갱신 중에도 항상 완성된 값만 보여야 함
+            Future<?> reader = executor.submit(() -> {
+                await(start);
+                long lastGeneration = 0;
+                while (writing.get()) {
+                    SnapshotHolder.Snapshot<Board> snapshot = holder.snapshot();
+                    assertEquals(snapshot.value().left(), snapshot.value().right());
+                    assertTrue(snapshot.generation() >= lastGeneration, "세대는 줄어들지 않음");
+                    lastGeneration = snapshot.generation();
+                    reads.incrementAndGet();
+                }
+            });
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                writers.add(executor.submit(() -> {
+                    await(start);
+                    for (int n = 0; n < updatesPerThread; n++) {
+                        assertNotNull(holder.update(Board::increment));
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long expected = (long) THREADS * updatesPerThread;
+        SnapshotHolder.Snapshot<Board> last = holder.snapshot();
+        assertEquals(expected, last.value().left(), "compare-and-set 갱신은 유실되지 않음");
+        assertEquals(expected, last.value().right());
+        assertEquals(expected + 1, last.generation());
+        assertTrue(reads.get() > 0);
+    }
+
+    @Test
+    void unchangedUpdateKeepsGeneration() {
+        SnapshotHolder<Board> holder = new SnapshotHolder<>();
+        assertNull(holder.update(previous -> null), "값이 없으면 updater가 null을 반환해 교체 안 함");
+
+        holder.update(previous -> new Board(1, 0, 0));
+        assertNull(holder.update(previous -> previous));
+        assertNull(holder.update(previous -> null));
+        assertEquals(1, holder.snapshot().generation());
+    }
+
+    @Test
+    void failedRecomputeIsRetriedByNextReader() {
+        SnapshotHolder<Board> holder = new SnapshotHolder<>();
+
+        assertThrows(IllegalStateException.class, () -> holder.read(board -> true, stale -> {
+            throw new IllegalStateException("조회 실패");
+        }));
+        assertNull(holder.snapshot());
+
+        Board board = holder.read(value -> true, stale -> new Board(1, 0, 0));
+        assertEquals(1, board.day());
+        assertEquals(1, holder.snapshot().generation());
+    }
+
+    @Test
+    void updateDuringRecomputeIsNotOverwritten() {
+        SnapshotHolder<Board> holder = new SnapshotHolder<>();
+        holder.update(previous -> new Board(1, 0, 0));
+        AtomicInteger recomputes = new AtomicInteger();
+
+        Board board = holder.read(value -> value.day() == 2, stale -> {
+            if (recomputes.getAndIncrement() == 0) {
+                // 재구성 도중 다른 스레드의 갱신이 먼저 교체
+                holder.update(Board::increment);
+            }
+            return new Board(2, stale.left(), stale.right());
+        });
+
+        assertEquals(2, recomputes.get(), "교체된 값에서 다시 재구성");
+        assertEquals(1, board.left(), "재구성 중의 갱신이 반영됨");
+        assertEquals(3, holder.snapshot().generation());
+        assertEquals(board, holder.snapshot().value());
+    }
+
+    /**
+     * THREADS개 스레드가 동시에 현재 날짜의 보드를 읽음 (재구성은 느리게 하여 겹치도록)
+     */
+    private List<Board> readConcurrently(SnapshotHolder<Board> holder, AtomicInteger today,
+                                         AtomicInteger recomputes) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Board>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    await(start);
+                    return holder.read(board -> board.day() == today.get(), stale -> {
+                        recomputes.incrementAndGet();
+                        sleep(50);
+                        return new Board(today.get(), 0, 0);
+                    });
+                }));
+            }
+            start.countDown();
+            List<Board> results = new ArrayList<>();
+            for (Future<Board> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}